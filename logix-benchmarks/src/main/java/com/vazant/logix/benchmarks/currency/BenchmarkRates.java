@@ -0,0 +1,61 @@
+package com.vazant.logix.benchmarks.currency;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic rate sets and amounts shared by the currency benchmarks.
+ */
+final class BenchmarkRates {
+
+  static final String BASE = "USD";
+  static final int SCALE = 2;
+
+  private BenchmarkRates() {
+  }
+
+  /**
+   * Generates rates against {@link #BASE} with six decimal places, between 0.001 and 20000, the
+   * range of a typical provider response.
+   *
+   * @param count the number of currencies, including the base
+   * @param seed the random seed
+   * @return the rates, the base currency first
+   */
+  static List<CurrencyRate> rates(int count, long seed) {
+    Random random = new Random(seed);
+    Instant updatedAt = Instant.parse("2026-01-01T00:00:00Z");
+    List<CurrencyRate> rates = new ArrayList<>(count);
+    rates.add(new CurrencyRate(BASE, BigDecimal.ONE, BASE, updatedAt));
+    for (int i = 1; i < count; i++) {
+      long unscaled = 1_000 + (long) (Math.pow(10, random.nextDouble() * 7) * 2_000);
+      rates.add(new CurrencyRate(code(i), BigDecimal.valueOf(unscaled, 6), BASE, updatedAt));
+    }
+    return rates;
+  }
+
+  /**
+   * Generates amounts with two decimal places below the given bound in major units.
+   *
+   * @param count the number of amounts
+   * @param maxUnits the exclusive upper bound in major units
+   * @param seed the random seed
+   * @return the amounts
+   */
+  static BigDecimal[] amounts(int count, long maxUnits, long seed) {
+    Random random = new Random(seed);
+    BigDecimal[] amounts = new BigDecimal[count];
+    for (int i = 0; i < count; i++) {
+      amounts[i] = BigDecimal.valueOf(1 + (long) (random.nextDouble() * maxUnits * 100), SCALE);
+    }
+    return amounts;
+  }
+
+  private static String code(int index) {
+    return "" + (char) ('A' + index / 676) + (char) ('A' + index / 26 % 26) + (char) ('A' + index % 26);
+  }
+}
@@ -0,0 +1,96 @@
+package com.vazant.logix.benchmarks.currency;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.domain.model.CurrencyRateMatrix;
+import com.vazant.logix.shared.currency.CurrencyConversions;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A single conversion through the per-request path, which looks up both rates by code and
+ * multiplies then divides at the configured scale, against {@link CurrencyRateMatrix#convert} on a
+ * prebuilt snapshot. {@code buildSnapshot} measures the work moved to each rate refresh.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyConversionBenchmark {
+
+  private static final int PAIRS = 1024;
+  private static final RoundingMode MODE = RoundingMode.HALF_EVEN;
+
+  @Param({"170"})
+  private int currencies;
+
+  private List<CurrencyRate> rates;
+  private Map<String, CurrencyRate> ratesByCode;
+  private CurrencyRateMatrix matrix;
+  private String[] from;
+  private String[] to;
+  private BigDecimal[] amounts;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    rates = BenchmarkRates.rates(currencies, 12);
+    ratesByCode = new ConcurrentHashMap<>();
+    rates.forEach(rate -> ratesByCode.put(rate.getTargetCurrencyCode(), rate));
+    matrix = CurrencyRateMatrix.of(rates);
+    amounts = BenchmarkRates.amounts(PAIRS, 10_000, 13);
+    from = new String[PAIRS];
+    to = new String[PAIRS];
+    Random random = new Random(14);
+    for (int i = 0; i < PAIRS; i++) {
+      // Fresh String instances, as codes parsed from a request would be.
+      from[i] = new String(rates.get(random.nextInt(currencies)).getTargetCurrencyCode());
+      to[i] = new String(rates.get(random.nextInt(currencies)).getTargetCurrencyCode());
+    }
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (PAIRS - 1);
+    return index;
+  }
+
+  @Benchmark
+  public BigDecimal perRequestRates() {
+    int i = nextIndex();
+    CurrencyRate fromRate = ratesByCode.get(from[i]);
+    CurrencyRate toRate = ratesByCode.get(to[i]);
+    return CurrencyConversions.convert(
+        amounts[i], fromRate.getRate(), toRate.getRate(), BenchmarkRates.SCALE, MODE);
+  }
+
+  @Benchmark
+  public BigDecimal snapshot() {
+    int i = nextIndex();
+    return matrix.convert(from[i], to[i], amounts[i], BenchmarkRates.SCALE, MODE);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public CurrencyRateMatrix buildSnapshot() {
+    return CurrencyRateMatrix.of(rates);
+  }
+}
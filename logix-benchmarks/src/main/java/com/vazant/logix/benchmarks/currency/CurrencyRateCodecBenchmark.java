@@ -0,0 +1,87 @@
+package com.vazant.logix.benchmarks.currency;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.codec.CurrencyRateCodec;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+/**
+ * Encoding and decoding one {@link CurrencyRate} with {@link CurrencyRateCodec} against the
+ * Jackson JSON serializer it replaced in Redis. {@code decodeLegacyJson} reads a JSON entry through
+ * the codec, the path taken for entries written before the switch. {@link CurrencyRateSizeReport}
+ * prints the encoded sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyRateCodecBenchmark {
+
+  private static final int RATES = 128;
+
+  private Jackson2JsonRedisSerializer<CurrencyRate> json;
+  private CurrencyRateCodec codec;
+  private CurrencyRate[] rates;
+  private byte[][] encoded;
+  private byte[][] jsonEncoded;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    json = RateSerializers.json();
+    codec = new CurrencyRateCodec(json);
+    List<CurrencyRate> generated = BenchmarkRates.rates(RATES, 19);
+    rates = generated.toArray(CurrencyRate[]::new);
+    encoded = new byte[RATES][];
+    jsonEncoded = new byte[RATES][];
+    for (int i = 0; i < RATES; i++) {
+      encoded[i] = codec.serialize(rates[i]);
+      jsonEncoded[i] = json.serialize(rates[i]);
+    }
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (RATES - 1);
+    return index;
+  }
+
+  @Benchmark
+  public byte[] encode() {
+    return codec.serialize(rates[nextIndex()]);
+  }
+
+  @Benchmark
+  public byte[] encodeJson() {
+    return json.serialize(rates[nextIndex()]);
+  }
+
+  @Benchmark
+  public CurrencyRate decode() {
+    return codec.deserialize(encoded[nextIndex()]);
+  }
+
+  @Benchmark
+  public CurrencyRate decodeJson() {
+    return json.deserialize(jsonEncoded[nextIndex()]);
+  }
+
+  @Benchmark
+  public CurrencyRate decodeLegacyJson() {
+    return codec.deserialize(jsonEncoded[nextIndex()]);
+  }
+}
@@ -0,0 +1,52 @@
+package com.vazant.logix.benchmarks.currency;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.codec.CurrencyRateCodec;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+/**
+ * Prints the encoded size of currency rates with {@link CurrencyRateCodec} and with the JSON
+ * serializer it replaced, for a generated rate set and a few rates with unusual values.
+ * <p>
+ * Run with {@code -Dbenchmark.main=com.vazant.logix.benchmarks.currency.CurrencyRateSizeReport}.
+ */
+public final class CurrencyRateSizeReport {
+
+  private CurrencyRateSizeReport() {
+  }
+
+  public static void main(String[] args) {
+    Jackson2JsonRedisSerializer<CurrencyRate> json = RateSerializers.json();
+    CurrencyRateCodec codec = new CurrencyRateCodec(json);
+
+    List<CurrencyRate> rates = BenchmarkRates.rates(170, 19);
+    long binaryTotal = 0;
+    long jsonTotal = 0;
+    for (CurrencyRate rate : rates) {
+      binaryTotal += codec.serialize(rate).length;
+      jsonTotal += json.serialize(rate).length;
+    }
+    System.out.printf("%-28s %8s %8s %7s%n", "rates", "binary", "json", "ratio");
+    System.out.printf("%-28s %8d %8d %6.1fx%n",
+        rates.size() + " generated rates", binaryTotal, jsonTotal, (double) jsonTotal / binaryTotal);
+
+    Instant updatedAt = Instant.parse("2026-01-01T12:34:56.789Z");
+    List<CurrencyRate> samples = new ArrayList<>();
+    samples.add(new CurrencyRate("EUR", new BigDecimal("0.921350"), "USD", updatedAt));
+    samples.add(new CurrencyRate("IRR", new BigDecimal("42105.000000"), "USD", updatedAt));
+    samples.add(new CurrencyRate("BTC", new BigDecimal("0.0000153846153846153846"), "USD", updatedAt));
+    samples.add(new CurrencyRate("EUR", new BigDecimal("0.92135"), "USD", null));
+    for (CurrencyRate rate : samples) {
+      int binary = codec.serialize(rate).length;
+      int text = json.serialize(rate).length;
+      System.out.printf("%-28s %8d %8d %6.1fx%n",
+          rate.getTargetCurrencyCode() + " " + rate.getRate().toPlainString()
+              + (rate.getUpdatedAt() == null ? " (no time)" : ""),
+          binary, text, (double) text / binary);
+    }
+  }
+}
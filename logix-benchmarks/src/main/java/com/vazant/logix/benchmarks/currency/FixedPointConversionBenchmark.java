@@ -0,0 +1,101 @@
+package com.vazant.logix.benchmarks.currency;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.domain.model.ScaledFactor;
+import com.vazant.logix.shared.currency.CurrencyConversions;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Arithmetic of one conversion once the rates are known: {@link ScaledFactor#apply} on a
+ * precomputed factor against {@code BigDecimal} multiply and {@code setScale} on the same factor,
+ * and against the reference multiply-then-divide of {@link CurrencyConversions#convert}.
+ * <p>
+ * {@code maxAmount} is the upper bound of the amounts in major units; larger amounts move the
+ * fixed-point product past a long and onto the split path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FixedPointConversionBenchmark {
+
+  private static final int PAIRS = 1024;
+  private static final MathContext FACTOR_PRECISION =
+      new MathContext(ScaledFactor.MAX_DIGITS, RoundingMode.HALF_EVEN);
+
+  @Param({"100", "1000000"})
+  private long maxAmount;
+
+  @Param({"HALF_EVEN", "DOWN"})
+  private RoundingMode mode;
+
+  private BigDecimal[] amounts;
+  private BigDecimal[] fromRates;
+  private BigDecimal[] toRates;
+  private ScaledFactor[] factors;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<CurrencyRate> rates = BenchmarkRates.rates(170, 21);
+    Random random = new Random(22);
+    amounts = BenchmarkRates.amounts(PAIRS, maxAmount, 23);
+    fromRates = new BigDecimal[PAIRS];
+    toRates = new BigDecimal[PAIRS];
+    factors = new ScaledFactor[PAIRS];
+    for (int i = 0; i < PAIRS; i++) {
+      fromRates[i] = rates.get(1 + random.nextInt(rates.size() - 1)).getRate();
+      toRates[i] = rates.get(1 + random.nextInt(rates.size() - 1)).getRate();
+      BigDecimal value = toRates[i].divide(fromRates[i], FACTOR_PRECISION);
+      factors[i] = ScaledFactor.of(value, value.multiply(fromRates[i]).compareTo(toRates[i]) == 0);
+    }
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (PAIRS - 1);
+    return index;
+  }
+
+  @Benchmark
+  public BigDecimal scaledFactor() {
+    int i = nextIndex();
+    BigDecimal result = factors[i].apply(amounts[i], BenchmarkRates.SCALE, mode);
+    return result != null
+        ? result
+        : CurrencyConversions.convert(
+            amounts[i], fromRates[i], toRates[i], BenchmarkRates.SCALE, mode);
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalFactor() {
+    int i = nextIndex();
+    return amounts[i].multiply(factors[i].value()).setScale(BenchmarkRates.SCALE, mode);
+  }
+
+  @Benchmark
+  public BigDecimal multiplyThenDivide() {
+    int i = nextIndex();
+    return CurrencyConversions.convert(
+        amounts[i], fromRates[i], toRates[i], BenchmarkRates.SCALE, mode);
+  }
+}
@@ -0,0 +1,25 @@
+package com.vazant.logix.benchmarks.currency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+/**
+ * Serializers configured as in {@code RedisConfig}: the JSON serializer used for rates before the
+ * binary codec, which the codec still uses to read older entries.
+ */
+final class RateSerializers {
+
+  private RateSerializers() {
+  }
+
+  static Jackson2JsonRedisSerializer<CurrencyRate> json() {
+    ObjectMapper mapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return new Jackson2JsonRedisSerializer<>(mapper, CurrencyRate.class);
+  }
+}
@@ -0,0 +1,85 @@
+package com.vazant.logix.benchmarks.orders;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Copy of the regex based UUID parsing that {@code UuidUtils} used before the single-pass decoder,
+ * kept as the baseline for {@link UuidParseBenchmark}.
+ */
+final class LegacyUuidUtils {
+
+  private static final Pattern UUID_PATTERN = Pattern.compile(
+      "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
+  );
+
+  private static final Pattern COMPACT_UUID_PATTERN = Pattern.compile("^[0-9a-fA-F]{32}$");
+
+  private static final ConcurrentHashMap<String, UUID> CACHE = new ConcurrentHashMap<>();
+  private static final int MAX_CACHE_SIZE = 1000;
+
+  private LegacyUuidUtils() {
+  }
+
+  static UUID parse(String uuidString) {
+    if (uuidString == null || uuidString.trim().isEmpty()) {
+      throw new IllegalArgumentException("UUID string cannot be null or empty");
+    }
+
+    UUID cached = CACHE.get(uuidString);
+    if (cached != null) {
+      return cached;
+    }
+
+    String normalized = uuidString.trim();
+
+    if (!isValidUuid(normalized)) {
+      throw new IllegalArgumentException("Invalid UUID format: " + uuidString);
+    }
+
+    try {
+      UUID uuid = UUID.fromString(normalized);
+      if (CACHE.size() < MAX_CACHE_SIZE) {
+        CACHE.put(uuidString, uuid);
+      }
+      return uuid;
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid UUID format: " + uuidString, e);
+    }
+  }
+
+  static boolean isValidUuid(String uuidString) {
+    if (uuidString == null || uuidString.trim().isEmpty()) {
+      return false;
+    }
+    String normalized = uuidString.trim();
+    return UUID_PATTERN.matcher(normalized).matches();
+  }
+
+  static UUID parseCompact(String compactString) {
+    if (compactString == null || compactString.length() != 32) {
+      throw new IllegalArgumentException("Compact UUID must be exactly 32 characters");
+    }
+    if (!COMPACT_UUID_PATTERN.matcher(compactString).matches()) {
+      throw new IllegalArgumentException("Invalid compact UUID format: " + compactString);
+    }
+    String formatted = compactString.substring(0, 8) + "-"
+        + compactString.substring(8, 12) + "-"
+        + compactString.substring(12, 16) + "-"
+        + compactString.substring(16, 20) + "-"
+        + compactString.substring(20, 32);
+    return UUID.fromString(formatted);
+  }
+
+  static String toCompactString(UUID uuid) {
+    if (uuid == null) {
+      throw new IllegalArgumentException("UUID cannot be null");
+    }
+    return uuid.toString().replace("-", "");
+  }
+
+  static void clearCache() {
+    CACHE.clear();
+  }
+}
@@ -0,0 +1,193 @@
+package com.vazant.logix.benchmarks.orders;
+
+import com.vazant.logix.orders.application.service.order.OrderCreationResult;
+import com.vazant.logix.orders.application.service.order.OrderCreationService;
+import com.vazant.logix.orders.domain.customer.Customer;
+import com.vazant.logix.orders.domain.order.Order;
+import com.vazant.logix.orders.domain.organization.Organization;
+import com.vazant.logix.orders.domain.product.Product;
+import com.vazant.logix.orders.domain.product.ProductBuilder;
+import com.vazant.logix.orders.dto.order.OrderItemRequest;
+import com.vazant.logix.orders.dto.order.OrderRequest;
+import com.vazant.logix.orders.dto.shared.MoneyRequest;
+import com.vazant.logix.orders.infrastructure.config.JpaConfig;
+import com.vazant.logix.orders.infrastructure.repository.customer.CustomerRepository;
+import com.vazant.logix.orders.infrastructure.repository.order.OrderRepository;
+import com.vazant.logix.orders.infrastructure.repository.organization.OrganizationRepository;
+import com.vazant.logix.orders.infrastructure.repository.product.ProductRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Orders per second through the single-order path against the batch path of
+ * {@code POST /api/orders/batch}.
+ * <p>
+ * Both variants run {@link OrderCreationService} and {@link OrderRepository} on an in-memory H2
+ * database with the JDBC batching settings of the orders service. The single variant creates
+ * every order in its own transaction, as one {@code POST /api/orders} per order does; the batch
+ * variant builds all orders with bulk lookups and saves them in one transaction. HTTP and JSON
+ * handling are left out, so the figures isolate the persistence side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OrderIngestionBenchmark {
+
+  private static final int ORDERS = 200;
+  private static final int CUSTOMERS = 50;
+  private static final int PRODUCTS = 100;
+  private static final int ITEMS_PER_ORDER = 3;
+
+  private ConfigurableApplicationContext context;
+  private OrderCreationService creationService;
+  private OrderRepository orderRepository;
+  private TransactionTemplate transactionTemplate;
+  private JdbcTemplate jdbcTemplate;
+  private Organization organization;
+  private List<OrderRequest> requests;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(PersistenceContext.class)
+        .web(WebApplicationType.NONE)
+        .logStartupInfo(false)
+        .run(
+            "--spring.config.name=logix-benchmarks",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN",
+            "--spring.datasource.url=jdbc:h2:mem:ingestion;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+            "--spring.jpa.properties.hibernate.order_inserts=true",
+            "--spring.jpa.properties.hibernate.order_updates=true");
+    creationService = context.getBean(OrderCreationService.class);
+    orderRepository = context.getBean(OrderRepository.class);
+    transactionTemplate = context.getBean(TransactionTemplate.class);
+    jdbcTemplate = context.getBean(JdbcTemplate.class);
+    requests = transactionTemplate.execute(status -> seed());
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteOrders() {
+    jdbcTemplate.update("DELETE FROM items");
+    jdbcTemplate.update("DELETE FROM orders");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ORDERS)
+  public void singleOrderRequests(Blackhole blackhole) {
+    for (OrderRequest request : requests) {
+      blackhole.consume(transactionTemplate.execute(status ->
+          orderRepository.save(creationService.createOrder(request, organization))));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ORDERS)
+  public List<Order> batchRequest() {
+    return transactionTemplate.execute(status -> {
+      List<Order> orders = creationService.createOrders(requests, organization).stream()
+          .filter(OrderCreationResult::isSuccess)
+          .map(OrderCreationResult::order)
+          .toList();
+      List<Order> saved = orderRepository.saveAll(orders);
+      orderRepository.flush();
+      return saved;
+    });
+  }
+
+  private List<OrderRequest> seed() {
+    organization = context.getBean(OrganizationRepository.class).save(
+        new Organization("Benchmark Org", "org@example.com", "Address", "+1234567890"));
+    List<Customer> customers = new ArrayList<>(CUSTOMERS);
+    for (int i = 0; i < CUSTOMERS; i++) {
+      customers.add(new Customer("John", "Doe " + i, "john" + i + "@example.com",
+          "+1234567890", "123 Main St", "New York", "NY", "10001", "USA"));
+    }
+    customers = context.getBean(CustomerRepository.class).saveAll(customers);
+    List<Product> products = new ArrayList<>(PRODUCTS);
+    for (int i = 0; i < PRODUCTS; i++) {
+      products.add(ProductBuilder.product()
+          .name("Product " + i)
+          .prices(null)
+          .description("Description " + i)
+          .skuCode("SKU-" + i)
+          .dimensions(null)
+          .stockQuantity(1_000)
+          .categoryId(UUID.randomUUID())
+          .imageId(null)
+          .organization(organization)
+          .build());
+    }
+    products = context.getBean(ProductRepository.class).saveAll(products);
+
+    MoneyRequest price = new MoneyRequest(BigDecimal.TEN, "USD");
+    MoneyRequest total = new MoneyRequest(BigDecimal.valueOf(10L * ITEMS_PER_ORDER), "USD");
+    List<OrderRequest> orders = new ArrayList<>(ORDERS);
+    for (int i = 0; i < ORDERS; i++) {
+      List<OrderItemRequest> items = new ArrayList<>(ITEMS_PER_ORDER);
+      for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+        Product product = products.get((i * ITEMS_PER_ORDER + j) % PRODUCTS);
+        items.add(new OrderItemRequest(product.getUuid().toString(), 1, price));
+      }
+      orders.add(new OrderRequest(customers.get(i % CUSTOMERS).getUuid().toString(),
+          "warehouse-1", total, "Benchmark order " + i, items));
+    }
+    return orders;
+  }
+
+  /** JPA slice of the orders service: entities, repositories and order creation only. */
+  @Configuration(proxyBeanMethods = false)
+  @ImportAutoConfiguration({
+      DataSourceAutoConfiguration.class,
+      HibernateJpaAutoConfiguration.class,
+      TransactionAutoConfiguration.class,
+      JdbcTemplateAutoConfiguration.class})
+  @EntityScan("com.vazant.logix.orders.domain")
+  @EnableJpaRepositories(basePackageClasses = {
+      OrderRepository.class,
+      CustomerRepository.class,
+      OrganizationRepository.class,
+      ProductRepository.class})
+  @Import({JpaConfig.class, OrderCreationService.class})
+  static class PersistenceContext {}
+}
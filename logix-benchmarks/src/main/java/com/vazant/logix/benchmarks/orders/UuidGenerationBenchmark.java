@@ -0,0 +1,48 @@
+package com.vazant.logix.benchmarks.orders;
+
+import com.vazant.logix.orders.infrastructure.utils.UuidUtils;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of generating a random UUIDv4 against a time-ordered UUIDv7 from
+ * {@link UuidUtils#generateTimeOrdered()}, on one thread and with four threads contending for the
+ * shared UUIDv7 state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidGenerationBenchmark {
+
+  @Benchmark
+  public UUID randomV4() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UUID timeOrderedV7() {
+    return UuidUtils.generateTimeOrdered();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public UUID randomV4Contended() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public UUID timeOrderedV7Contended() {
+    return UuidUtils.generateTimeOrdered();
+  }
+}
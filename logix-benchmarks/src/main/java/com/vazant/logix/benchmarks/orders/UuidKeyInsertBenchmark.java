@@ -0,0 +1,143 @@
+package com.vazant.logix.benchmarks.orders;
+
+import com.vazant.logix.orders.infrastructure.utils.UuidUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insert throughput into a table keyed by random UUIDv4 against time-ordered UUIDv7 primary keys.
+ * <p>
+ * Each trial starts from a table preloaded with {@value #PRELOADED_ROWS} rows of the same key
+ * kind and inserts batches of {@value #BATCH_SIZE} rows, as the orders service does with JDBC
+ * batching. The storage size is printed after the preload, at equal row counts, and when the
+ * trial ends. By default the table lives in a temporary H2 file database, whose
+ * {@code DISK_SPACE_USED} covers the table and its key. Pass a PostgreSQL URL with
+ * {@code -p url=jdbc:postgresql://host/db?user=...&password=...} to measure the primary key
+ * B-tree itself with {@code pg_relation_size}, which is where page splits from random keys show.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidKeyInsertBenchmark {
+
+  private static final int BATCH_SIZE = 1_000;
+  private static final int PRELOADED_ROWS = 500_000;
+
+  /** Primary key generator under test. */
+  public enum KeyKind {
+    RANDOM_V4,
+    TIME_ORDERED_V7;
+
+    UUID next() {
+      return this == RANDOM_V4 ? UUID.randomUUID() : UuidUtils.generateTimeOrdered();
+    }
+  }
+
+  @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+  private KeyKind keys;
+
+  /** JDBC URL of the database to use; empty for a temporary H2 file database. */
+  @Param("")
+  private String url;
+
+  private Path directory;
+  private Connection connection;
+  private PreparedStatement insert;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, SQLException {
+    if (url.isEmpty()) {
+      directory = Files.createTempDirectory("uuid-keys");
+      connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("keys"));
+    } else {
+      connection = DriverManager.getConnection(url);
+    }
+    connection.setAutoCommit(false);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS order_keys");
+      statement.execute(
+          "CREATE TABLE order_keys (uuid UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL)");
+    }
+    insert = connection.prepareStatement("INSERT INTO order_keys VALUES (?, ?)");
+    for (int i = 0; i < PRELOADED_ROWS; i += BATCH_SIZE) {
+      insertBatch();
+    }
+    printSize("after preload");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException, SQLException {
+    printSize("after trial");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE order_keys");
+    }
+    connection.commit();
+    connection.close();
+    if (directory != null) {
+      try (Stream<Path> files = Files.walk(directory)) {
+        for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+          Files.delete(file);
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void insertBatch() throws SQLException {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      insert.setObject(1, keys.next());
+      insert.setTimestamp(2, now);
+      insert.addBatch();
+    }
+    insert.executeBatch();
+    connection.commit();
+  }
+
+  private void printSize(String stage) throws SQLException {
+    boolean h2 = directory != null;
+    String size = h2
+        ? "DISK_SPACE_USED('ORDER_KEYS')"
+        : "pg_relation_size('order_keys_pkey')";
+    try (Statement statement = connection.createStatement();
+         ResultSet result = statement.executeQuery(
+             "SELECT COUNT(*), " + size + " FROM order_keys")) {
+      result.next();
+      long rows = result.getLong(1);
+      long bytes = result.getLong(2);
+      System.out.printf("%n%s %s: %d rows, %.1f MiB %s, %.1f bytes/row%n",
+          keys, stage, rows, bytes / (1024.0 * 1024.0),
+          h2 ? "in table and key" : "in primary key index", (double) bytes / rows);
+    }
+  }
+}
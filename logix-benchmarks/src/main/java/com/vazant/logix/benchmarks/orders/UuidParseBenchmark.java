@@ -0,0 +1,104 @@
+package com.vazant.logix.benchmarks.orders;
+
+import com.vazant.logix.orders.infrastructure.utils.UuidUtils;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation and parsing of UUID path variables with the single-pass decoder in {@link UuidUtils}
+ * against the previous regex, {@code trim()} and {@code UUID.fromString} implementation with its
+ * 1000-entry cache ({@link LegacyUuidUtils}).
+ * <p>
+ * {@code distinct} controls how many different strings are cycled through. With 100 every legacy
+ * lookup after warm-up is a cache hit; with 100000 the cache is full and every lookup misses, as
+ * it does for real order ids. Run with {@code -prof gc} to see the allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidParseBenchmark {
+
+  @Param({"100", "100000"})
+  private int distinct;
+
+  private String[] canonical;
+  private String[] compact;
+  private UUID[] uuids;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    LegacyUuidUtils.clearCache();
+    canonical = new String[distinct];
+    compact = new String[distinct];
+    uuids = new UUID[distinct];
+    for (int i = 0; i < distinct; i++) {
+      uuids[i] = UUID.randomUUID();
+      canonical[i] = uuids[i].toString();
+      compact[i] = canonical[i].replace("-", "");
+    }
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = index + 1 == distinct ? 0 : index + 1;
+    return index;
+  }
+
+  @Benchmark
+  public UUID validateAndParse() {
+    String value = canonical[nextIndex()];
+    return UuidUtils.isValidUuid(value) ? UuidUtils.parse(value) : null;
+  }
+
+  @Benchmark
+  public UUID validateAndParseLegacy() {
+    String value = canonical[nextIndex()];
+    return LegacyUuidUtils.isValidUuid(value) ? LegacyUuidUtils.parse(value) : null;
+  }
+
+  @Benchmark
+  public UUID parse() {
+    return UuidUtils.parse(canonical[nextIndex()]);
+  }
+
+  @Benchmark
+  public UUID parseLegacy() {
+    return LegacyUuidUtils.parse(canonical[nextIndex()]);
+  }
+
+  @Benchmark
+  public UUID parseCompact() {
+    return UuidUtils.parseCompact(compact[nextIndex()]);
+  }
+
+  @Benchmark
+  public UUID parseCompactLegacy() {
+    return LegacyUuidUtils.parseCompact(compact[nextIndex()]);
+  }
+
+  @Benchmark
+  public String toCompactString() {
+    return UuidUtils.toCompactString(uuids[nextIndex()]);
+  }
+
+  @Benchmark
+  public String toCompactStringLegacy() {
+    return LegacyUuidUtils.toCompactString(uuids[nextIndex()]);
+  }
+}
@@ -1,15 +1,35 @@
 package com.vazant.logix.currency.api;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vazant.logix.currency.application.service.CurrencyApplicationService;
+import com.vazant.logix.currency.domain.model.AvailableCurrencies;
+import com.vazant.logix.currency.domain.model.CurrencyConversion;
+import com.vazant.logix.currency.domain.model.CurrencyRateMatrix;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyConversionMemo;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 
 /**
  * REST controller for currency conversion and rate update operations.
@@ -21,7 +41,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CurrencyController {
 
+  private static final String RATES_VERSION_HEADER = "X-Rates-Version";
+  private static final int MAX_BATCH_SIZE = 10_000;
+
   private final CurrencyApplicationService currencyService;
+  private final ObjectMapper objectMapper;
 
   /**
    * Converts an amount from one currency to another.
@@ -29,20 +53,68 @@ public class CurrencyController {
    * @param from the source currency code
    * @param to the target currency code
    * @param amount the amount to convert
-   * @return the converted amount
+   * @param at optional point in time whose rates apply, answered from the rate history
+   * @return the converted amount, with the rate snapshot version in the X-Rates-Version header
    */
   @GetMapping("/convert")
   public ResponseEntity<BigDecimal> convertCurrency(
       @RequestParam @NotBlank String from, 
       @RequestParam @NotBlank String to, 
-      @RequestParam @NotNull @DecimalMin("0.01") BigDecimal amount) {
+      @RequestParam @NotNull @DecimalMin("0.01") BigDecimal amount,
+      @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
     
-    BigDecimal result = currencyService.convert(from, to, amount);
-    return ResponseEntity.ok(result);
+    CurrencyConversion result = at != null
+        ? currencyService.convert(from, to, amount, at)
+        : currencyService.convertWithVersion(from, to, amount);
+    return ResponseEntity.ok()
+        .header(RATES_VERSION_HEADER, String.valueOf(result.ratesVersion()))
+        .body(result.amount());
   }
 
   /**
-   * Triggers an update of currency rates from the provider.
+   * Converts many amounts against one rate snapshot, so all results are mutually consistent.
+   * <p>
+   * Results are streamed as they are computed, in request order, in the same shape as the Kafka
+   * batch reply: {@code {"results": [{"result": ..., "error": ...}], "ratesVersion": ...}}. A
+   * failed conversion carries an error and does not fail the rest of the batch.
+   *
+   * @param request the conversions to perform
+   * @return the streamed results
+   * @throws ResponseStatusException with 400 if the batch exceeds {@value #MAX_BATCH_SIZE} items
+   */
+  @PostMapping(value = "/convert/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> convertCurrencyBatch(
+      @RequestBody CurrencyConversionBatchRequest request) {
+
+    List<CurrencyConversionRequest> conversions =
+        request.conversions() != null ? request.conversions() : List.of();
+    if (conversions.size() > MAX_BATCH_SIZE) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Batch must not exceed " + MAX_BATCH_SIZE + " conversions");
+    }
+    StreamingResponseBody body = out -> {
+      try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+        json.writeStartObject();
+        json.writeArrayFieldStart("results");
+        Long version = currencyService.convertAll(conversions, result -> {
+          try {
+            json.writeObject(result);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+        json.writeEndArray();
+        json.writeObjectField("ratesVersion", version);
+        json.writeEndObject();
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
+  /**
+   * Triggers an update of currency rates from the provider and waits for it. Fails if no provider
+   * answered or the rates could not be saved.
    *
    * @return success message
    */
@@ -53,30 +125,87 @@ public class CurrencyController {
   }
 
   /**
-   * Gets the current exchange rate between two currencies.
+   * Gets the exchange rate between two currencies, current or at a point in time.
+   * <p>
+   * Current rates are served from the in-memory snapshot with a strong ETag of its version and a
+   * max-age that ends at the next scheduled refresh; a matching If-None-Match is answered with
+   * 304 before any rate lookup.
    *
    * @param from the source currency code
    * @param to the target currency code
-   * @return the current exchange rate
+   * @param at optional point in time, answered from the rate history
+   * @param request the current request, used for conditional GETs
+   * @return the exchange rate, with the version of the rates used in the X-Rates-Version header
    */
   @GetMapping("/rate")
   public ResponseEntity<BigDecimal> getExchangeRate(
       @RequestParam @NotBlank String from, 
-      @RequestParam @NotBlank String to) {
+      @RequestParam @NotBlank String to,
+      @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at,
+      WebRequest request) {
     
-    // TODO: Implement getting exchange rate
-    // This would require adding a method to CurrencyApplicationService
-    return ResponseEntity.ok(BigDecimal.ONE);
+    if (at == null && isNotModified(request)) {
+      return null;
+    }
+    CurrencyConversion rate = currencyService.getRate(from, to, at);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .header(RATES_VERSION_HEADER, String.valueOf(rate.ratesVersion()));
+    if (at == null) {
+      withCacheHeaders(response, rate.ratesVersion());
+    }
+    return response.body(rate.amount());
   }
 
   /**
-   * Gets all available currencies.
+   * Gets all available currencies from the in-memory rate snapshot.
+   * <p>
+   * Carries the same ETag and max-age as {@link #getExchangeRate}, and answers a matching
+   * If-None-Match with 304.
    *
-   * @return list of available currency codes
+   * @param request the current request, used for conditional GETs
+   * @return the available currency codes, comma-separated and sorted
    */
   @GetMapping("/available")
-  public ResponseEntity<Map<String, String>> getAvailableCurrencies() {
-    // TODO: Implement getting available currencies
-    return ResponseEntity.ok(Map.of("currencies", "USD,EUR,RUB"));
+  public ResponseEntity<Map<String, String>> getAvailableCurrencies(WebRequest request) {
+    if (isNotModified(request)) {
+      return null;
+    }
+    AvailableCurrencies available = currencyService.getAvailableCurrencies();
+    return withCacheHeaders(ResponseEntity.ok(), available.ratesVersion())
+        .header(RATES_VERSION_HEADER, String.valueOf(available.ratesVersion()))
+        .body(Map.of("currencies", String.join(",", available.codes())));
+  }
+
+  /**
+   * Gets the hit and miss counters of the conversion memo.
+   *
+   * @return the memo statistics, including the hit ratio
+   */
+  @GetMapping("/memo/stats")
+  public ResponseEntity<CurrencyConversionMemo.Snapshot> getConversionMemoStats() {
+    return ResponseEntity.ok(currencyService.conversionMemoStats());
+  }
+
+  // Checks If-None-Match against the snapshot held in memory; never loads rates from Redis.
+  private boolean isNotModified(WebRequest request) {
+    OptionalLong version = currencyService.peekRatesVersion();
+    return version.isPresent()
+        && version.getAsLong() != CurrencyRateMatrix.NO_VERSION
+        && request.checkNotModified(etag(version.getAsLong()));
+  }
+
+  private ResponseEntity.BodyBuilder withCacheHeaders(
+      ResponseEntity.BodyBuilder response, long version) {
+    if (version == CurrencyRateMatrix.NO_VERSION) {
+      return response.cacheControl(CacheControl.noCache());
+    }
+    return response
+        .eTag(etag(version))
+        .cacheControl(CacheControl.maxAge(currencyService.timeUntilNextRefresh()).cachePublic());
+  }
+
+  private static String etag(long version) {
+    return "\"" + version + "\"";
   }
 }
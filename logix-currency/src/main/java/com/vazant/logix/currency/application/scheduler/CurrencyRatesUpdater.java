@@ -1,6 +1,9 @@
 package com.vazant.logix.currency.application.scheduler;
 
 import com.vazant.logix.currency.application.service.CurrencyApplicationService;
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import java.util.Collection;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
@@ -8,6 +11,7 @@ import org.springframework.stereotype.Component;
  * <p>
  * Used by the scheduler and initializer to keep currency rate data up to date.
  */
+@Slf4j
 @Component
 public class CurrencyRatesUpdater {
 
@@ -23,9 +27,23 @@ public class CurrencyRatesUpdater {
   }
 
   /**
-   * Updates currency rates from the external provider.
+   * Starts an update of currency rates from the external providers without waiting for it, so a
+   * slow provider does not hold the calling scheduler thread. Failures are logged.
    */
   public void updateRates() {
-    service.updateRatesFromProvider();
+    service.updateRatesFromProviderAsync().exceptionally(e -> {
+      log.error("Currency rates update failed: {}", e.getMessage(), e);
+      return null;
+    });
+  }
+
+  /**
+   * Saves and publishes rates that did not come from the provider, such as rates migrated from
+   * the legacy per-currency keys.
+   *
+   * @param rates the rates to save as the current rate set
+   */
+  public void importRates(Collection<CurrencyRate> rates) {
+    service.importRates(rates);
   }
 }
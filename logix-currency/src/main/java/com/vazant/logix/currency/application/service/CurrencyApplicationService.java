@@ -1,12 +1,32 @@
 package com.vazant.logix.currency.application.service;
 
+import com.vazant.logix.currency.domain.model.AvailableCurrencies;
+import com.vazant.logix.currency.domain.model.CurrencyConversion;
 import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.domain.model.CurrencyRateMatrix;
 import com.vazant.logix.currency.infrastructure.cache.CurrencyCacheService;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyConversionMemo;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyRateSnapshotHolder;
 import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import com.vazant.logix.currency.infrastructure.history.CurrencyRateHistoryStore;
+import com.vazant.logix.currency.infrastructure.kafka.CurrencyRatesPublisher;
+import com.vazant.logix.shared.currency.CurrencyConversions;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.vazant.logix.currency.application.service.provider.CurrencyProviderClient;
@@ -20,30 +40,103 @@ import com.vazant.logix.currency.application.service.validation.CurrencyValidati
 @Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class CurrencyApplicationService {
 
+  /** Smallest amount accepted for conversion, as enforced on {@code /convert}. */
+  private static final BigDecimal MIN_AMOUNT = new BigDecimal("0.01");
+
   private final CurrencyProviderClient providerClient;
   private final CurrencyValidationService validationService;
   private final CurrencyCacheService currencyCacheService;
+  private final CurrencyRateSnapshotHolder snapshotHolder;
+  private final CurrencyRatesPublisher ratesPublisher;
+  private final CurrencyRateHistoryStore historyStore;
+  private final CurrencyConversionMemo conversionMemo;
   private final CurrencyProperties properties;
+  private final CronExpression refreshSchedule;
+
+  /**
+   * Constructs a new CurrencyApplicationService.
+   *
+   * @param providerClient the client fetching rates from the external provider
+   * @param validationService the service validating required rates
+   * @param currencyCacheService the Redis-backed rate cache
+   * @param snapshotHolder the holder of the current rate snapshot
+   * @param ratesPublisher the publisher of rate sets to the compacted rates topic
+   * @param historyStore the append-only rate history
+   * @param conversionMemo the memo of conversion results
+   * @param properties currency service properties
+   */
+  public CurrencyApplicationService(
+      CurrencyProviderClient providerClient,
+      CurrencyValidationService validationService,
+      CurrencyCacheService currencyCacheService,
+      CurrencyRateSnapshotHolder snapshotHolder,
+      CurrencyRatesPublisher ratesPublisher,
+      CurrencyRateHistoryStore historyStore,
+      CurrencyConversionMemo conversionMemo,
+      CurrencyProperties properties) {
+    this.providerClient = providerClient;
+    this.validationService = validationService;
+    this.currencyCacheService = currencyCacheService;
+    this.snapshotHolder = snapshotHolder;
+    this.ratesPublisher = ratesPublisher;
+    this.historyStore = historyStore;
+    this.conversionMemo = conversionMemo;
+    this.properties = properties;
+    this.refreshSchedule = CronExpression.parse(properties.getScheduleCron());
+  }
 
   /**
-   * Updates currency rates from the external provider and saves them to the cache.
-   * Logs errors for any failed saves.
+   * Updates currency rates from the external provider and waits for the update to finish.
+   *
+   * @throws IllegalStateException if no provider returned rates
+   * @throws RuntimeException if the fetched rates could not be saved to the cache
+   * @see #updateRatesFromProviderAsync()
    */
   public void updateRatesFromProvider() {
-    var rates = providerClient.fetchRates();
-    int saved = 0;
-    for (var entry : rates.entrySet()) {
-      try {
-        currencyCacheService.saveRate(entry.getValue());
-        saved++;
-      } catch (Exception e) {
-        log.error("Error saving rate {}: {}", entry.getKey(), e.getMessage(), e);
+    try {
+      updateRatesFromProviderAsync().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
       }
+      throw e;
     }
-    log.info("Currency rates updated: {} items", saved);
+  }
+
+  /**
+   * Fetches rates from the external providers without blocking the caller and saves them to the
+   * cache as one atomically published rate set. On success, appends the rates to the rate
+   * history, signals all instances to drop their near caches and publishes the new rate set to
+   * the compacted rates topic. The request is conditional while a rate set is cached, so rates
+   * the provider reports as unchanged are not fetched or saved again; the provider's validators
+   * are only kept once the rates are saved, so rates that failed to save are fetched again.
+   *
+   * @return a future completing once the rates are saved or found unchanged, or exceptionally if
+   *     no provider returned rates or the rates could not be saved
+   */
+  public CompletableFuture<Void> updateRatesFromProviderAsync() {
+    boolean conditional = currencyCacheService.getCurrentVersion().isPresent();
+    return providerClient.fetchRatesAsync(conditional).thenAccept(fetched -> {
+      if (fetched.isEmpty()) {
+        log.info("Currency rates unchanged at the provider, keeping the current rate set");
+        return;
+      }
+      saveRates(fetched.get().rates().values());
+      fetched.get().commit();
+    });
+  }
+
+  /**
+   * Saves rates that did not come from the provider, such as rates migrated from the legacy
+   * per-currency keys, and publishes them exactly like a provider update.
+   *
+   * @param rates the rates to save as the current rate set
+   * @throws RuntimeException if the rates could not be saved to the cache
+   */
+  public void importRates(Collection<CurrencyRate> rates) {
+    saveRates(rates);
   }
 
   /**
@@ -56,12 +149,149 @@ public class CurrencyApplicationService {
    * @throws IllegalStateException if a required rate is missing or conversion fails
    */
   public BigDecimal convert(String from, String to, BigDecimal amount) {
+    return convertWithVersion(from, to, amount).amount();
+  }
+
+  /**
+   * Converts an amount from one currency to another using the current rate snapshot, falling
+   * back to the individual cached rates for currencies the snapshot does not know. Snapshot
+   * results are memoized per snapshot version.
+   *
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param amount the amount to convert
+   * @return the converted amount and the version of the rates used
+   * @throws IllegalStateException if a required rate is missing or conversion fails
+   */
+  public CurrencyConversion convertWithVersion(String from, String to, BigDecimal amount) {
+    return convert(snapshotHolder.current().orElse(null), from, to, amount);
+  }
+
+  /**
+   * Converts an amount at the rates that were valid at the given time, read from the rate history.
+   *
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param amount the amount to convert
+   * @param at the point in time whose rates apply
+   * @return the converted amount and the effective time of the newest rate used, in epoch millis
+   * @throws IllegalStateException if the history has no rate for a currency at that time
+   */
+  public CurrencyConversion convert(String from, String to, BigDecimal amount, Instant at) {
     if (from.equalsIgnoreCase(to)) {
-      return amount;
+      return new CurrencyConversion(amount, CurrencyRateMatrix.NO_VERSION);
     }
-    CurrencyRate fromRate = getRateOrThrow(from);
-    CurrencyRate toRate = getRateOrThrow(to);
-    return calculateConversion(amount, fromRate, toRate);
+    CurrencyRate fromRate = getHistoricalRateOrThrow(from, at);
+    CurrencyRate toRate = getHistoricalRateOrThrow(to, at);
+    return new CurrencyConversion(
+        calculateConversion(amount, fromRate, toRate), effectiveVersion(fromRate, toRate));
+  }
+
+  /**
+   * Returns the exchange rate between two currencies, either from the current snapshot or, if a
+   * time is given, from the rate history.
+   *
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param at the point in time whose rate applies, or null for the current rate
+   * @return the factor converting an amount in {@code from} into {@code to}, with the version of
+   *     the rates used
+   * @throws IllegalStateException if a required rate is missing
+   */
+  public CurrencyConversion getRate(String from, String to, Instant at) {
+    if (from.equalsIgnoreCase(to)) {
+      return new CurrencyConversion(BigDecimal.ONE, CurrencyRateMatrix.NO_VERSION);
+    }
+    if (at != null) {
+      CurrencyRate fromRate = getHistoricalRateOrThrow(from, at);
+      CurrencyRate toRate = getHistoricalRateOrThrow(to, at);
+      return new CurrencyConversion(
+          crossRate(fromRate, toRate), effectiveVersion(fromRate, toRate));
+    }
+    CurrencyRateMatrix matrix = snapshotHolder.current().orElse(null);
+    BigDecimal factor = matrix != null ? matrix.factor(from, to) : null;
+    if (factor != null) {
+      return new CurrencyConversion(factor, matrix.getVersion());
+    }
+    return new CurrencyConversion(
+        crossRate(getRateOrThrow(from), getRateOrThrow(to)), CurrencyRateMatrix.NO_VERSION);
+  }
+
+  /**
+   * Converts many amounts against one rate snapshot. A failed conversion is reported in its own
+   * result and does not fail the rest of the batch. Batch items are never converted with
+   * individually cached rates, so a currency missing from the snapshot fails its item and every
+   * result comes from the reported rate set.
+   *
+   * @param conversions the conversions to perform
+   * @return one result per conversion, in request order
+   */
+  public CurrencyConversionBatchResponse convertAll(List<CurrencyConversionRequest> conversions) {
+    List<CurrencyConversionBatchResponse.Result> results = new ArrayList<>(conversions.size());
+    Long version = convertAll(conversions, results::add);
+    return new CurrencyConversionBatchResponse(results, version);
+  }
+
+  /**
+   * Converts many amounts against one rate snapshot and hands each result to {@code sink} as soon
+   * as it is computed, in request order, so callers can stream large batches. Items are validated
+   * like single conversions and fail on their own, as in {@link #convertAll(List)}.
+   *
+   * @param conversions the conversions to perform
+   * @param sink receives one result per conversion
+   * @return the version of the rate snapshot used, or null if no snapshot was available
+   */
+  public Long convertAll(
+      List<CurrencyConversionRequest> conversions,
+      Consumer<CurrencyConversionBatchResponse.Result> sink) {
+    CurrencyRateMatrix matrix = snapshotHolder.current().orElse(null);
+    for (CurrencyConversionRequest conversion : conversions) {
+      sink.accept(convertBatchItem(matrix, conversion));
+    }
+    return matrix != null ? matrix.getVersion() : null;
+  }
+
+  /**
+   * Returns the currencies of the current rate snapshot.
+   *
+   * @return the sorted currency codes and the snapshot version, empty if no rates are cached
+   */
+  public AvailableCurrencies getAvailableCurrencies() {
+    return snapshotHolder.current()
+        .map(matrix -> new AvailableCurrencies(
+            matrix.getCurrencyCodes().stream().sorted().toList(), matrix.getVersion()))
+        .orElseGet(() -> new AvailableCurrencies(List.of(), CurrencyRateMatrix.NO_VERSION));
+  }
+
+  /**
+   * Returns the version of the rate snapshot held in memory, without loading it from Redis.
+   *
+   * @return the snapshot version, or empty if no snapshot is held in memory
+   */
+  public OptionalLong peekRatesVersion() {
+    return snapshotHolder.peek()
+        .map(matrix -> OptionalLong.of(matrix.getVersion()))
+        .orElseGet(OptionalLong::empty);
+  }
+
+  /**
+   * Returns the time left until the next scheduled rate refresh.
+   *
+   * @return the duration until the next refresh, or zero if the schedule has no next run
+   */
+  public Duration timeUntilNextRefresh() {
+    ZonedDateTime now = ZonedDateTime.now();
+    ZonedDateTime next = refreshSchedule.next(now);
+    return next != null ? Duration.between(now, next) : Duration.ZERO;
+  }
+
+  /**
+   * Returns the hit and miss counters of the conversion memo.
+   *
+   * @return the memo snapshot
+   */
+  public CurrencyConversionMemo.Snapshot conversionMemoStats() {
+    return conversionMemo.snapshot();
   }
 
   /**
@@ -74,6 +304,118 @@ public class CurrencyApplicationService {
   }
 
   // Private helper methods are not documented for API consumers
+  private CurrencyConversion convert(
+      CurrencyRateMatrix matrix, String from, String to, BigDecimal amount) {
+    if (from.equalsIgnoreCase(to)) {
+      return new CurrencyConversion(amount, CurrencyRateMatrix.NO_VERSION);
+    }
+    BigDecimal result = matrix != null ? convertFromSnapshot(matrix, from, to, amount) : null;
+    if (result != null) {
+      return new CurrencyConversion(result, matrix.getVersion());
+    }
+    CurrencyRate fromRate = getRateOrThrow(from);
+    CurrencyRate toRate = getRateOrThrow(to);
+    return new CurrencyConversion(
+        calculateConversion(amount, fromRate, toRate), CurrencyRateMatrix.NO_VERSION);
+  }
+
+  // Memoized per snapshot version; null if the snapshot does not know either currency.
+  private BigDecimal convertFromSnapshot(
+      CurrencyRateMatrix matrix, String from, String to, BigDecimal amount) {
+    BigDecimal result = conversionMemo.get(matrix.getVersion(), from, to, amount);
+    if (result == null) {
+      result = matrix.convert(from, to, amount, properties.getScale(), properties.getRoundingMode());
+      if (result != null) {
+        conversionMemo.put(matrix.getVersion(), from, to, amount, result);
+      }
+    }
+    return result;
+  }
+
+  private CurrencyConversionBatchResponse.Result convertBatchItem(
+      CurrencyRateMatrix matrix, CurrencyConversionRequest conversion) {
+    if (conversion == null
+        || conversion.from() == null
+        || conversion.to() == null
+        || conversion.amount() == null) {
+      return batchError("Conversion must specify from, to and amount");
+    }
+    String from = conversion.from();
+    String to = conversion.to();
+    BigDecimal amount = conversion.amount();
+    if (amount.compareTo(MIN_AMOUNT) < 0) {
+      return batchError("Amount must be at least " + MIN_AMOUNT);
+    }
+    if (from.equalsIgnoreCase(to)) {
+      return new CurrencyConversionBatchResponse.Result(amount, null);
+    }
+    if (matrix == null) {
+      return batchError("No currency rate snapshot available");
+    }
+    BigDecimal result;
+    try {
+      result = convertFromSnapshot(matrix, from, to, amount);
+    } catch (ArithmeticException e) {
+      log.warn("Error converting currency {} -> {}: {}", from, to, e.getMessage());
+      return batchError("Currency conversion error");
+    }
+    if (result == null) {
+      String missing = matrix.getCurrencyCodes().contains(from) ? to : from;
+      return batchError("Currency rate not found in rate set " + matrix.getVersion() + ": " + missing);
+    }
+    return new CurrencyConversionBatchResponse.Result(result, null);
+  }
+
+  private static CurrencyConversionBatchResponse.Result batchError(String error) {
+    return new CurrencyConversionBatchResponse.Result(null, error);
+  }
+
+  private void saveRates(Collection<CurrencyRate> rates) {
+    CurrencyRateMatrix matrix = CurrencyRateMatrix.of(rates);
+    try {
+      currencyCacheService.saveRates(rates, matrix.getVersion());
+    } catch (RuntimeException e) {
+      log.error("Error saving rate set {}: {}", matrix.getVersion(), e.getMessage(), e);
+      throw e;
+    }
+    appendHistory(rates, matrix.getVersion());
+    snapshotHolder.publish(matrix);
+    currencyCacheService.publishRatesUpdated();
+    ratesPublisher.publish(rates, matrix.getVersion());
+    log.info("Currency rates updated: {} items", rates.size());
+  }
+
+  private void appendHistory(Collection<CurrencyRate> rates, long version) {
+    Instant effectiveAt = version != CurrencyRateMatrix.NO_VERSION
+        ? Instant.ofEpochMilli(version)
+        : Instant.now();
+    try {
+      int appended = historyStore.append(rates, effectiveAt);
+      log.debug("Appended {} rates to the rate history at {}", appended, effectiveAt);
+    } catch (RuntimeException e) {
+      log.error("Error appending rate set {} to the history: {}", version, e.getMessage(), e);
+    }
+  }
+
+  private CurrencyRate getHistoricalRateOrThrow(String code, Instant at) {
+    if (code.equalsIgnoreCase(properties.getBaseCurrency())) {
+      return new CurrencyRate(code, BigDecimal.ONE, code, null);
+    }
+    return historyStore.rateAt(properties.getBaseCurrency(), code, at)
+        .orElseThrow(() -> new IllegalStateException(
+            "Currency rate not found: " + code + " at " + at));
+  }
+
+  private static long effectiveVersion(CurrencyRate fromRate, CurrencyRate toRate) {
+    long from = fromRate.getUpdatedAt() != null ? fromRate.getUpdatedAt().toEpochMilli() : 0L;
+    long to = toRate.getUpdatedAt() != null ? toRate.getUpdatedAt().toEpochMilli() : 0L;
+    return Math.max(from, to);
+  }
+
+  private static BigDecimal crossRate(CurrencyRate fromRate, CurrencyRate toRate) {
+    return toRate.getRate().divide(fromRate.getRate(), MathContext.DECIMAL128);
+  }
+
   private CurrencyRate getRateOrThrow(String code) {
     try {
       return currencyCacheService.getRate(code);
@@ -85,9 +427,8 @@ public class CurrencyApplicationService {
 
   private BigDecimal calculateConversion(BigDecimal amount, CurrencyRate fromRate, CurrencyRate toRate) {
     try {
-      return amount
-          .multiply(toRate.getRate())
-          .divide(fromRate.getRate(), properties.getScale(), properties.getRoundingMode());
+      return CurrencyConversions.convert(amount, fromRate.getRate(), toRate.getRate(),
+          properties.getScale(), properties.getRoundingMode());
     } catch (ArithmeticException e) {
       log.error("Error converting currency {} -> {}: {}", fromRate.getTargetCurrencyCode(), toRate.getTargetCurrencyCode(), e.getMessage(), e);
       throw new IllegalStateException("Currency conversion error", e);
@@ -1,45 +1,330 @@
 package com.vazant.logix.currency.application.service.provider;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vazant.logix.currency.domain.model.CurrencyRate;
-import com.vazant.logix.currency.infrastructure.client.dto.CurrencyRatesResponse;
 import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
 
+/**
+ * Asynchronous client for the external currency rate providers.
+ * <p>
+ * Providers from {@code currency.providers} are queried in order: the first request goes to the
+ * first provider and, if no answer arrives within {@code currency.rest.hedge-delay-ms} or it
+ * fails, the next provider is asked as well. The first answer wins and the other requests are
+ * cancelled. Without configured providers, the single {@code currency.provider-url} is used.
+ * <p>
+ * Conditional requests carry the ETag and Last-Modified of the provider's previous answer, so an
+ * unchanged rate set costs a 304 and no parsing. An answer's validators are only used once the
+ * caller {@linkplain FetchedRates#commit() commits} them after saving its rates, so rates that
+ * failed to save are fetched again on the next refresh. Bodies are read with a streaming JSON parser
+ * directly into {@link CurrencyRate}s.
+ */
 @Service
 public class CurrencyProviderClient {
   private static final Logger log = LoggerFactory.getLogger(CurrencyProviderClient.class);
-  private final RestTemplate restTemplate;
+
   private final CurrencyProperties properties;
+  private final JsonFactory jsonFactory;
+  private final HttpClient httpClient;
+  private final List<ProviderEndpoint> providers;
+  private final Duration requestTimeout;
+  private final long hedgeDelayMs;
 
-  public CurrencyProviderClient(RestTemplate restTemplate, CurrencyProperties properties) {
-    this.restTemplate = restTemplate;
+  /**
+   * Constructs a new CurrencyProviderClient.
+   *
+   * @param properties currency service properties
+   * @param objectMapper the mapper whose JSON factory parses provider responses
+   */
+  public CurrencyProviderClient(CurrencyProperties properties, ObjectMapper objectMapper) {
     this.properties = properties;
+    this.jsonFactory = objectMapper.getFactory();
+    this.httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(properties.getRest().getConnectTimeout()))
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+    this.requestTimeout = Duration.ofSeconds(properties.getRest().getReadTimeout());
+    this.hedgeDelayMs = properties.getRest().getHedgeDelayMs();
+    this.providers = resolveProviders(properties).stream()
+        .map(provider -> new ProviderEndpoint(provider, uri(provider, properties.getBaseCurrency())))
+        .toList();
+  }
+
+  /**
+   * Fetches the latest rates, hedging across the configured providers.
+   *
+   * @param conditional whether to send the validators of the previous answer; pass false when the
+   *     caller has no rate set to keep, so a full body is always returned
+   * @return the fetched rates, or empty if the answering provider reported them unchanged;
+   *     completes exceptionally if every provider failed
+   */
+  public CompletableFuture<Optional<FetchedRates>> fetchRatesAsync(
+      boolean conditional) {
+    return new HedgedFetch(conditional).start();
+  }
+
+  private CompletableFuture<HttpResponse<InputStream>> send(
+      ProviderEndpoint provider, boolean conditional) {
+    HttpRequest.Builder request = HttpRequest.newBuilder(provider.uri())
+        .timeout(requestTimeout)
+        .header("Accept", "application/json")
+        .GET();
+    String apiKeyHeader = provider.config().getApiKeyHeader();
+    if (StringUtils.hasText(apiKeyHeader) && provider.config().getApiKey() != null) {
+      request.header(apiKeyHeader, provider.config().getApiKey());
+    }
+    Validators validators = provider.validators().get();
+    if (conditional && validators != null) {
+      if (validators.etag() != null) {
+        request.header("If-None-Match", validators.etag());
+      }
+      if (validators.lastModified() != null) {
+        request.header("If-Modified-Since", validators.lastModified());
+      }
+    }
+    return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+  }
+
+  private Optional<FetchedRates> handle(
+      ProviderEndpoint provider, HttpResponse<InputStream> response) {
+    try (InputStream body = response.body()) {
+      int status = response.statusCode();
+      if (status == 304) {
+        log.info("Rates at provider '{}' are unchanged", provider.name());
+        return Optional.empty();
+      }
+      if (status != 200) {
+        throw new IllegalStateException(
+            "Provider '" + provider.name() + "' answered with status " + status);
+      }
+      Map<String, CurrencyRate> rates = parse(body);
+      Validators validators = new Validators(
+          response.headers().firstValue("ETag").orElse(null),
+          response.headers().firstValue("Last-Modified").orElse(null));
+      log.info("Fetched {} rates from provider '{}'", rates.size(), provider.name());
+      return Optional.of(new FetchedRates(rates, () -> provider.validators().set(validators)));
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Failed to read rates from provider '" + provider.name() + "'", e);
+    }
   }
 
-  public Map<String, CurrencyRate> fetchRates() {
-    String url = String.format("%s?apikey=%s&base=%s",
-        properties.getProviderUrl(), properties.getApiKey(), properties.getBaseCurrency());
-    CurrencyRatesResponse response = restTemplate.getForObject(url, CurrencyRatesResponse.class);
-    if (response == null || response.getRates() == null) {
-      throw new IllegalStateException("\u274c Пустой ответ от API валют");
+  // Reads {"rates": {"EUR": "0.92", ...}} field by field; other top-level fields are skipped.
+  private Map<String, CurrencyRate> parse(InputStream body) throws IOException {
+    String base = properties.getBaseCurrency();
+    Instant fetchedAt = Instant.now();
+    Map<String, CurrencyRate> rates = new HashMap<>(256);
+    try (JsonParser parser = jsonFactory.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("Provider response is not a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (!"rates".equals(field) || value != JsonToken.START_OBJECT) {
+          parser.skipChildren();
+          continue;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String code = parser.currentName();
+          parser.nextToken();
+          BigDecimal rate = readRate(parser, code);
+          if (rate != null) {
+            rates.put(code, new CurrencyRate(code, rate, base, fetchedAt));
+          }
+        }
+      }
+    }
+    if (rates.isEmpty()) {
+      throw new IllegalStateException("❌ Пустой ответ от API валют");
+    }
+    return rates;
+  }
+
+  private static BigDecimal readRate(JsonParser parser, String code) throws IOException {
+    BigDecimal rate = null;
+    try {
+      rate = switch (parser.currentToken()) {
+        case VALUE_STRING -> new BigDecimal(parser.getText());
+        case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+        default -> {
+          parser.skipChildren();
+          yield null;
+        }
+      };
+    } catch (NumberFormatException e) {
+      log.warn("❌ Невалидный курс: {} = {}", code, parser.getText(), e);
+    }
+    if (rate != null && rate.signum() <= 0) {
+      log.warn("❌ Невалидный курс: {} = {}", code, rate);
+      return null;
     }
-    Map<String, CurrencyRate> result = new HashMap<>();
-    for (Map.Entry<String, String> entry : response.getRates().entrySet()) {
+    return rate;
+  }
+
+  private static List<CurrencyProperties.Provider> resolveProviders(CurrencyProperties properties) {
+    if (!properties.getProviders().isEmpty()) {
+      return properties.getProviders();
+    }
+    CurrencyProperties.Provider provider = new CurrencyProperties.Provider();
+    provider.setName("default");
+    provider.setUrl(properties.getProviderUrl());
+    provider.setApiKey(properties.getApiKey());
+    return List.of(provider);
+  }
+
+  private static URI uri(CurrencyProperties.Provider provider, String baseCurrency) {
+    StringBuilder url = new StringBuilder(provider.getUrl())
+        .append(provider.getUrl().contains("?") ? '&' : '?')
+        .append("base=").append(encode(baseCurrency));
+    if (!StringUtils.hasText(provider.getApiKeyHeader()) && provider.getApiKey() != null) {
+      url.append('&').append(encode(provider.getApiKeyParam()))
+          .append('=').append(encode(provider.getApiKey()));
+    }
+    return URI.create(url.toString());
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+
+  private record ProviderEndpoint(
+      CurrencyProperties.Provider config, URI uri, AtomicReference<Validators> validators) {
+
+    ProviderEndpoint(CurrencyProperties.Provider config, URI uri) {
+      this(config, uri, new AtomicReference<>());
+    }
+
+    String name() {
+      return config.getName() != null ? config.getName() : uri.getHost();
+    }
+  }
+
+  private record Validators(String etag, String lastModified) {}
+
+  /**
+   * Rates from one provider answer.
+   *
+   * @param rates the rates by currency code
+   * @param commitValidators stores the answer's ETag and Last-Modified for later conditional
+   *     requests
+   */
+  public record FetchedRates(Map<String, CurrencyRate> rates, Runnable commitValidators) {
+
+    /**
+     * Makes later conditional requests carry this answer's validators. Call it only once the
+     * rates are saved, otherwise the provider would report them unchanged before they were ever
+     * stored.
+     */
+    public void commit() {
+      commitValidators.run();
+    }
+  }
+
+  /**
+   * One hedged fetch: starts providers one after another, each after the hedge delay or as soon
+   * as the previous one failed, and completes with the first answer. It fails once every provider
+   * has failed; providers not yet started are always started later, so counting the providers
+   * still outstanding is enough to detect that.
+   */
+  private final class HedgedFetch {
+
+    private final boolean conditional;
+    private final CompletableFuture<Optional<FetchedRates>> result =
+        new CompletableFuture<>();
+    private final Queue<CompletableFuture<?>> requests = new ConcurrentLinkedQueue<>();
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger outstanding = new AtomicInteger(providers.size());
+
+    HedgedFetch(boolean conditional) {
+      this.conditional = conditional;
+    }
+
+    CompletableFuture<Optional<FetchedRates>> start() {
+      result.whenComplete((rates, error) -> requests.forEach(request -> request.cancel(true)));
+      startNext();
+      return result;
+    }
+
+    private void startNext() {
+      if (result.isDone()) {
+        return;
+      }
+      int index = next.getAndIncrement();
+      if (index >= providers.size()) {
+        return;
+      }
+      ProviderEndpoint provider = providers.get(index);
+      CompletableFuture<Optional<FetchedRates>> attempt;
       try {
-        BigDecimal rate = new BigDecimal(entry.getValue());
-        CurrencyRate currencyRate = new CurrencyRate(entry.getKey(), rate, properties.getBaseCurrency(), Instant.now());
-        result.put(entry.getKey(), currencyRate);
-      } catch (NumberFormatException e) {
-        log.warn("\u274c Невалидный курс: {} = {}", entry.getKey(), entry.getValue(), e);
+        // Cancel the exchange itself, not a stage derived from it, so a losing request stops
+        // downloading.
+        CompletableFuture<HttpResponse<InputStream>> request = send(provider, conditional);
+        requests.add(request);
+        if (result.isDone()) {
+          request.cancel(true);
+        }
+        attempt = request.thenApply(response -> handle(provider, response));
+      } catch (RuntimeException e) {
+        attempt = CompletableFuture.failedFuture(e);
+      }
+      attempt.whenComplete((rates, error) -> {
+        if (error == null) {
+          result.complete(rates);
+        } else {
+          onFailure(provider, error);
+        }
+      });
+      if (index + 1 < providers.size()) {
+        CompletableFuture.delayedExecutor(hedgeDelayMs, TimeUnit.MILLISECONDS)
+            .execute(this::startNext);
+      }
+    }
+
+    private void onFailure(ProviderEndpoint provider, Throwable error) {
+      if (result.isDone()) {
+        return;
+      }
+      log.warn("Rate provider '{}' failed: {}", provider.name(), error.getMessage());
+      failures.add(error);
+      if (outstanding.decrementAndGet() > 0) {
+        startNext();
+        return;
       }
+      IllegalStateException exception =
+          new IllegalStateException("All currency rate providers failed");
+      failures.forEach(exception::addSuppressed);
+      result.completeExceptionally(exception);
     }
-    return result;
   }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.vazant.logix.currency.domain.model;
+
+import java.util.List;
+
+/**
+ * Value Object listing the currencies of a rate snapshot.
+ *
+ * @param codes the currency codes, sorted
+ * @param ratesVersion the rate snapshot version, or {@link CurrencyRateMatrix#NO_VERSION}
+ */
+public record AvailableCurrencies(List<String> codes, long ratesVersion) {}
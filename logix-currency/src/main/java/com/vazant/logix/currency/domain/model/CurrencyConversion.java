@@ -0,0 +1,12 @@
+package com.vazant.logix.currency.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Value Object holding a converted amount together with the version of the rates it was
+ * computed from.
+ *
+ * @param amount the converted amount
+ * @param ratesVersion the rate snapshot version, or {@link CurrencyRateMatrix#NO_VERSION}
+ */
+public record CurrencyConversion(BigDecimal amount, long ratesVersion) {}
@@ -0,0 +1,151 @@
+package com.vazant.logix.currency.domain.model;
+
+import com.vazant.logix.shared.currency.CurrencyConversions;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of cross rates between every pair of known currencies.
+ * <p>
+ * Currency codes are mapped to dense integer ids and the conversion factor for each
+ * {@code from -> to} pair is computed once when the snapshot is built and rounded to
+ * {@link ScaledFactor#MAX_DIGITS} significant digits, so a conversion is usually a lookup and a
+ * single fixed-point multiplication. When the rounded factor cannot decide the result, the
+ * conversion falls back to {@link CurrencyConversions#convert} over the raw rates, so results
+ * always match the multiply-then-divide path. The version is derived from the newest rate
+ * timestamp, so instances that build a snapshot from the same rates report the same version.
+ */
+public final class CurrencyRateMatrix {
+
+  /** Version reported for conversions that were not served from a snapshot. */
+  public static final long NO_VERSION = 0L;
+
+  private static final MathContext FACTOR_PRECISION =
+      new MathContext(ScaledFactor.MAX_DIGITS, RoundingMode.HALF_EVEN);
+
+  private final long version;
+  private final Map<String, Integer> ids;
+  private final BigDecimal[] values;
+  private final ScaledFactor[] factors;
+  private final int size;
+
+  private CurrencyRateMatrix(
+      long version, Map<String, Integer> ids, BigDecimal[] values, ScaledFactor[] factors) {
+    this.version = version;
+    this.ids = ids;
+    this.values = values;
+    this.factors = factors;
+    this.size = ids.size();
+  }
+
+  /**
+   * Builds a snapshot from rates that share one base currency.
+   *
+   * @param rates the rates to index
+   * @return the snapshot
+   * @throws IllegalArgumentException if the rates are not all quoted against the same base
+   */
+  public static CurrencyRateMatrix of(Collection<CurrencyRate> rates) {
+    int n = rates.size();
+    Map<String, Integer> ids = new HashMap<>(n * 2);
+    BigDecimal[] values = new BigDecimal[n];
+    String base = null;
+    long version = NO_VERSION;
+    for (CurrencyRate rate : rates) {
+      if (base == null) {
+        base = rate.getBaseCurrencyCode();
+      } else if (!base.equals(rate.getBaseCurrencyCode())) {
+        throw new IllegalArgumentException(
+            "Rates must share one base currency: " + base + " and " + rate.getBaseCurrencyCode());
+      }
+      if (ids.putIfAbsent(rate.getTargetCurrencyCode(), ids.size()) == null) {
+        values[ids.size() - 1] = rate.getRate();
+      }
+      Instant updatedAt = rate.getUpdatedAt();
+      if (updatedAt != null) {
+        version = Math.max(version, updatedAt.toEpochMilli());
+      }
+    }
+
+    int size = ids.size();
+    ScaledFactor[] factors = new ScaledFactor[size * size];
+    for (int from = 0; from < size; from++) {
+      for (int to = 0; to < size; to++) {
+        factors[from * size + to] = from == to
+            ? ScaledFactor.ONE
+            : factor(values[from], values[to]);
+      }
+    }
+    return new CurrencyRateMatrix(version, Map.copyOf(ids), values, factors);
+  }
+
+  private static ScaledFactor factor(BigDecimal fromRate, BigDecimal toRate) {
+    BigDecimal value = toRate.divide(fromRate, FACTOR_PRECISION);
+    return ScaledFactor.of(value, value.multiply(fromRate).compareTo(toRate) == 0);
+  }
+
+  /**
+   * Returns the factor that converts an amount in {@code from} into {@code to}.
+   *
+   * @param from the source currency code
+   * @param to the target currency code
+   * @return the factor, or null if either currency is not part of this snapshot
+   */
+  public BigDecimal factor(String from, String to) {
+    Integer fromId = ids.get(from);
+    Integer toId = ids.get(to);
+    return fromId != null && toId != null ? factors[fromId * size + toId].value() : null;
+  }
+
+  /**
+   * Converts an amount from {@code from} into {@code to}, with fixed-point arithmetic where the
+   * precomputed factor decides the result.
+   *
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param amount the amount to convert
+   * @param scale the scale of the result
+   * @param mode the rounding mode
+   * @return the same result as {@link CurrencyConversions#convert} over the two rates, or null if
+   *     either currency is not part of this snapshot
+   */
+  public BigDecimal convert(
+      String from, String to, BigDecimal amount, int scale, RoundingMode mode) {
+    Integer fromId = ids.get(from);
+    Integer toId = ids.get(to);
+    if (fromId == null || toId == null) {
+      return null;
+    }
+    BigDecimal result = factors[fromId * size + toId].apply(amount, scale, mode);
+    return result != null
+        ? result
+        : CurrencyConversions.convert(amount, values[fromId], values[toId], scale, mode);
+  }
+
+  /**
+   * Returns the snapshot version.
+   *
+   * @return the epoch milliseconds of the newest rate in the snapshot
+   */
+  public long getVersion() { return version; }
+
+  /**
+   * Returns the currency codes contained in the snapshot.
+   *
+   * @return the currency codes
+   */
+  public Set<String> getCurrencyCodes() { return ids.keySet(); }
+
+  /**
+   * Returns the number of currencies in the snapshot.
+   *
+   * @return the number of currencies
+   */
+  public int size() { return size; }
+}
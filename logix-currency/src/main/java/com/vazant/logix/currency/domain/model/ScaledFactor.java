@@ -0,0 +1,189 @@
+package com.vazant.logix.currency.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversion factor with at most 18 significant digits, held both as a {@link BigDecimal} and as
+ * an unscaled {@code long} with its scale.
+ * <p>
+ * {@link #apply} multiplies and rounds to the target scale with {@code long} arithmetic instead of
+ * {@code BigDecimal} multiplication. An exact factor matches {@code amount.multiply(value)
+ * .setScale(...)} for every {@link RoundingMode}, falling back to it only when an intermediate
+ * value would overflow. An inexact factor is the cross rate rounded half-even to 18 digits, so it
+ * is off by at most half a unit in its last digit; when that error could move the product across
+ * a rounding boundary, {@link #apply} returns null and the caller converts with the exact rates.
+ *
+ * @param value the factor
+ * @param unscaled the unscaled value of the factor
+ * @param scale the scale of the factor
+ * @param exact whether the factor equals the cross rate it was derived from
+ */
+public record ScaledFactor(BigDecimal value, long unscaled, int scale, boolean exact) {
+
+  /** Maximum number of significant digits of a factor, so its unscaled value fits in a long. */
+  public static final int MAX_DIGITS = 18;
+
+  /** Factor converting a currency into itself. */
+  public static final ScaledFactor ONE = of(BigDecimal.ONE);
+
+  private static final int SPLIT_DIGITS = 9;
+  private static final long SPLIT = 1_000_000_000L;
+  private static final long SPLIT_LIMIT = 1L << 33;
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  /**
+   * Creates an exact scaled factor from a positive value of at most {@link #MAX_DIGITS} digits.
+   *
+   * @param value the factor
+   * @return the scaled factor
+   * @throws IllegalArgumentException if the value is not positive or has too many digits
+   */
+  public static ScaledFactor of(BigDecimal value) {
+    return of(value, true);
+  }
+
+  /**
+   * Creates a scaled factor from a positive value of at most {@link #MAX_DIGITS} digits.
+   *
+   * @param value the factor
+   * @param exact whether the value is exact, or the cross rate rounded half-even to
+   *     {@link #MAX_DIGITS} digits
+   * @return the scaled factor
+   * @throws IllegalArgumentException if the value is not positive or has too many digits
+   */
+  public static ScaledFactor of(BigDecimal value, boolean exact) {
+    if (value.signum() <= 0 || value.precision() > MAX_DIGITS) {
+      throw new IllegalArgumentException("Factor must be positive with at most "
+          + MAX_DIGITS + " digits: " + value);
+    }
+    return new ScaledFactor(value, value.unscaledValue().longValue(), value.scale(), exact);
+  }
+
+  /**
+   * Multiplies an amount by this factor and rounds the product to the given scale.
+   *
+   * @param amount the amount to convert
+   * @param targetScale the scale of the result
+   * @param mode the rounding mode
+   * @return the product of the amount and the exact cross rate rounded to {@code targetScale},
+   *     or null if the factor is inexact and the rounded product cannot be decided from it
+   * @throws ArithmeticException if {@code mode} is UNNECESSARY and rounding is needed
+   */
+  public BigDecimal apply(BigDecimal amount, int targetScale, RoundingMode mode) {
+    if (amount.precision() <= MAX_DIGITS && (exact || mode != RoundingMode.UNNECESSARY)) {
+      // Reads the compact long without the BigInteger that unscaledValue() allocates.
+      long amountUnscaled = amount.scaleByPowerOfTen(amount.scale()).longValue();
+      BigDecimal result = multiply(amountUnscaled, amount.scale(), targetScale, mode);
+      if (result != null) {
+        return result;
+      }
+    }
+    return exact ? amount.multiply(value).setScale(targetScale, mode) : null;
+  }
+
+  // Returns null when the fixed-point path cannot represent the operands or the result.
+  private BigDecimal multiply(long amountUnscaled, int amountScale, int targetScale,
+      RoundingMode mode) {
+    int signum = Long.signum(amountUnscaled);
+    if (signum == 0) {
+      return BigDecimal.valueOf(0, targetScale);
+    }
+    long magnitude = Math.abs(amountUnscaled);
+    long high = Math.multiplyHigh(magnitude, unscaled);
+    long low = magnitude * unscaled;
+    int shift = amountScale + scale - targetScale;
+
+    if (shift <= 0) {
+      if (!exact || high != 0 || low < 0 || -shift >= POWERS_OF_TEN.length) {
+        return null;
+      }
+      long power = POWERS_OF_TEN[-shift];
+      if (Math.multiplyHigh(low, power) != 0 || low * power < 0) {
+        return null;
+      }
+      return BigDecimal.valueOf(signum * low * power, targetScale);
+    }
+
+    long quotient;
+    long digit;
+    boolean sticky;
+    if (high == 0 && low >= 0 && shift < POWERS_OF_TEN.length) {
+      long divisor = POWERS_OF_TEN[shift - 1];
+      long scaled = low / divisor;
+      long rest = low - scaled * divisor;
+      sticky = rest != 0;
+      quotient = scaled / 10;
+      digit = scaled - quotient * 10;
+      // The product is off by at most magnitude / 2 units of its last digit.
+      if (!exact && nearBoundary(mode, digit * divisor + rest, divisor * 10, magnitude / 2)) {
+        return null;
+      }
+    } else if (magnitude < SPLIT_LIMIT && shift > SPLIT_DIGITS
+        && shift - SPLIT_DIGITS < POWERS_OF_TEN.length) {
+      // The product overflows a long: split the factor into two 9-digit halves so that
+      // floor(product / 10^9) = magnitude * factorHigh + floor(magnitude * factorLow / 10^9)
+      // is computed without overflow, then divide the rest of the way.
+      long factorHigh = unscaled / SPLIT;
+      long factorLow = unscaled - factorHigh * SPLIT;
+      long lowProduct = magnitude * factorLow;
+      long carry = lowProduct / SPLIT;
+      long shifted = magnitude * factorHigh + carry;
+      long divisor = POWERS_OF_TEN[shift - SPLIT_DIGITS - 1];
+      long scaled = shifted / divisor;
+      long rest = shifted - scaled * divisor;
+      sticky = lowProduct - carry * SPLIT != 0 || rest != 0;
+      quotient = scaled / 10;
+      digit = scaled - quotient * 10;
+      // Same bound in units of 10^9, widened by one unit for the digits dropped by the split.
+      if (!exact && nearBoundary(
+          mode, digit * divisor + rest, divisor * 10, magnitude / (2 * SPLIT) + 1)) {
+        return null;
+      }
+    } else {
+      return null;
+    }
+    if (roundUp(mode, signum, quotient, digit, sticky)) {
+      if (quotient == Long.MAX_VALUE) {
+        return null;
+      }
+      quotient++;
+    }
+    return BigDecimal.valueOf(signum * quotient, targetScale);
+  }
+
+  // True when a rounding boundary of the mode lies within `error` of the dropped remainder, so
+  // the product of the exact cross rate may round differently.
+  private static boolean nearBoundary(RoundingMode mode, long remainder, long unit, long error) {
+    long distance = switch (mode) {
+      case HALF_UP, HALF_DOWN, HALF_EVEN -> Math.abs(remainder - unit / 2);
+      default -> Math.min(remainder, unit - remainder);
+    };
+    return distance <= error;
+  }
+
+  private static boolean roundUp(
+      RoundingMode mode, int signum, long quotient, long digit, boolean sticky) {
+    boolean inexact = digit != 0 || sticky;
+    if (!inexact) {
+      return false;
+    }
+    return switch (mode) {
+      case UP -> true;
+      case DOWN -> false;
+      case CEILING -> signum > 0;
+      case FLOOR -> signum < 0;
+      case HALF_UP -> digit >= 5;
+      case HALF_DOWN -> digit > 5 || (digit == 5 && sticky);
+      case HALF_EVEN -> digit > 5 || (digit == 5 && (sticky || (quotient & 1) == 1));
+      case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+    };
+  }
+}
@@ -2,57 +2,284 @@ package com.vazant.logix.currency.infrastructure.cache;
 
 import com.vazant.logix.currency.domain.model.CurrencyRate;
 import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
-import org.springframework.cache.CacheManager;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
 
 /**
  * Service for caching and retrieving currency rates.
  * <p>
- * Uses a Spring CacheManager to store and fetch CurrencyRate objects by currency code.
+ * Each rate set is stored as one Redis hash ({@code <cacheName>:v:<version>}) keyed by currency
+ * code, {@code <cacheName>:current} names the version readers should use, and
+ * {@code <cacheName>:meta} records its version, fetch time and currency count. Rates read from
+ * Redis are kept in an in-process near cache, so repeated lookups do not leave the JVM. The near
+ * cache is cleared when any instance publishes a rates-updated signal, and each entry is re-read
+ * from Redis once it is older than the configured staleness bound in case a signal is missed.
  */
+@Slf4j
 @Service
 public class CurrencyCacheService {
 
-  private final CacheManager cacheManager;
+  private static final Duration RETIRED_VERSION_GRACE = Duration.ofMinutes(1);
+  private static final long SCAN_BATCH = 500;
+  private static final String META_VERSION = "version";
+  private static final String META_FETCHED_AT = "fetchedAt";
+  private static final String META_COUNT = "count";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisSerializer<CurrencyRate> rateSerializer;
   private final String cacheName;
+  private final String currentKey;
+  private final String metadataKey;
+  private final Duration ratesTtl;
+  private final CurrencyProperties.NearCache nearCacheProperties;
+  private final long maxStalenessNanos;
+  private final Map<String, NearEntry> nearCache = new ConcurrentHashMap<>();
+  private final String instanceId = UUID.randomUUID().toString();
 
   /**
    * Constructs a new CurrencyCacheService.
    *
    * @param properties the currency properties containing the cache name
-   * @param cacheManager the Spring CacheManager
+   * @param redisTemplate the Redis template for rate storage and invalidation signals
+   * @param rateSerializer the serializer for CurrencyRate values
    */
-  public CurrencyCacheService(CurrencyProperties properties, CacheManager cacheManager) {
-    this.cacheManager = cacheManager;
+  public CurrencyCacheService(
+      CurrencyProperties properties,
+      StringRedisTemplate redisTemplate,
+      RedisSerializer<CurrencyRate> rateSerializer) {
+    this.redisTemplate = redisTemplate;
+    this.rateSerializer = rateSerializer;
     this.cacheName = properties.getCacheName();
+    this.currentKey = cacheName + ":current";
+    this.metadataKey = cacheName + ":meta";
+    this.ratesTtl = Duration.ofHours(properties.getRedis().getTtlCurrencyRatesHours());
+    this.nearCacheProperties = properties.getNearCache();
+    this.maxStalenessNanos = TimeUnit.SECONDS.toNanos(nearCacheProperties.getMaxStalenessSeconds());
   }
 
   /**
-   * Retrieves a currency rate from the cache by currency code.
+   * Retrieves a currency rate by currency code, from the near cache when it holds a fresh entry
+   * and from Redis otherwise.
    *
    * @param currencyCode the currency code
    * @return the cached CurrencyRate
-   * @throws IllegalStateException if the cache or rate is not found
+   * @throws IllegalStateException if the rate is not found
    */
   public CurrencyRate getRate(String currencyCode) {
-    var cache = cacheManager.getCache(cacheName);
-    if (cache == null) throw new IllegalStateException("❌ Cache not found: " + cacheName);
-    CurrencyRate rate = cache.get(currencyCode, CurrencyRate.class);
-    if (rate == null) throw new IllegalStateException("❌ Rate not cached yet: " + currencyCode);
+    if (!nearCacheProperties.isEnabled()) {
+      return loadRate(currencyCode);
+    }
+    long now = System.nanoTime();
+    NearEntry entry = nearCache.get(currencyCode);
+    if (entry != null && now - entry.loadedAt() < maxStalenessNanos) {
+      return entry.rate();
+    }
+    CurrencyRate rate = loadRate(currencyCode);
+    nearCache.put(currencyCode, new NearEntry(rate, now));
     return rate;
   }
 
   /**
-   * Saves a currency rate to the cache.
+   * Reads every currency rate of the current rate version from Redis.
    *
-   * @param rate the CurrencyRate to save
-   * @return the saved CurrencyRate
-   * @throws IllegalStateException if the cache is not found
+   * @return the cached rates, empty if none are cached yet
    */
-  public CurrencyRate saveRate(CurrencyRate rate) {
-    var cache = cacheManager.getCache(cacheName);
-    if (cache == null) throw new IllegalStateException("❌ Cache not found: " + cacheName);
-    cache.put(rate.getTargetCurrencyCode(), rate);
-    return rate;
+  public List<CurrencyRate> getAllRates() {
+    String version = redisTemplate.opsForValue().get(currentKey);
+    if (version == null) {
+      return List.of();
+    }
+    Map<byte[], byte[]> fields = redisTemplate.execute(
+        (RedisCallback<Map<byte[], byte[]>>) connection ->
+            connection.hashCommands().hGetAll(bytes(versionKey(version))));
+    if (fields == null || fields.isEmpty()) {
+      return List.of();
+    }
+    List<CurrencyRate> rates = new ArrayList<>(fields.size());
+    for (byte[] value : fields.values()) {
+      rates.add(rateSerializer.deserialize(value));
+    }
+    return rates;
+  }
+
+  /**
+   * Returns the version of the rate set readers currently see.
+   *
+   * @return the current version, or empty if no rate set is cached
+   */
+  public OptionalLong getCurrentVersion() {
+    String version = redisTemplate.opsForValue().get(currentKey);
+    return version != null ? OptionalLong.of(Long.parseLong(version)) : OptionalLong.empty();
+  }
+
+  /**
+   * Reads the metadata of the current rate set with a single HGETALL.
+   *
+   * @return the metadata, or empty if no rate set was saved or it has expired
+   */
+  public Optional<CurrencyRatesMetadata> getMetadata() {
+    Map<Object, Object> fields = redisTemplate.opsForHash().entries(metadataKey);
+    if (fields.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new CurrencyRatesMetadata(
+          Long.parseLong((String) fields.get(META_VERSION)),
+          Instant.ofEpochMilli(Long.parseLong((String) fields.get(META_FETCHED_AT))),
+          Integer.parseInt((String) fields.get(META_COUNT))));
+    } catch (RuntimeException e) {
+      log.warn("Ignoring malformed rate metadata {}: {}", fields, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reads rates stored under the legacy per-currency keys ({@code <cacheName>::<code>}) with a
+   * cursor-based SCAN. Only used to migrate a deployment that has no rate metadata yet.
+   *
+   * @return the legacy rates, empty if there are none
+   */
+  public List<CurrencyRate> scanLegacyRates() {
+    String keyPrefix = cacheName + "::";
+    ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(SCAN_BATCH).build();
+    List<String> keys = new ArrayList<>();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      cursor.forEachRemaining(keys::add);
+    }
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+    List<byte[]> values = redisTemplate.execute(
+        (RedisCallback<List<byte[]>>) connection ->
+            connection.stringCommands().mGet(keys.stream().map(CurrencyCacheService::bytes)
+                .toArray(byte[][]::new)));
+    List<CurrencyRate> rates = new ArrayList<>(keys.size());
+    if (values != null) {
+      for (byte[] value : values) {
+        if (value != null) {
+          rates.add(rateSerializer.deserialize(value));
+        }
+      }
+    }
+    return rates;
   }
+
+  /**
+   * Saves a complete rate set as one Redis hash and atomically points readers at it.
+   * <p>
+   * The hash write, its expiry, the pointer swap and the metadata record run in one MULTI/EXEC
+   * transaction sent as a single pipeline, so readers see either the previous set or the new one,
+   * never a mix. The previous version is kept for a short grace period for readers that already
+   * resolved it.
+   *
+   * @param rates the rates to save
+   * @param version the version of the rate set
+   */
+  public void saveRates(Collection<CurrencyRate> rates, long version) {
+    Assert.notEmpty(rates, "Rates must not be empty");
+    Map<byte[], byte[]> fields = new HashMap<>(rates.size() * 2);
+    for (CurrencyRate rate : rates) {
+      fields.put(bytes(rate.getTargetCurrencyCode()), rateSerializer.serialize(rate));
+    }
+    byte[] key = bytes(versionKey(String.valueOf(version)));
+    byte[] pointer = bytes(currentKey);
+    byte[] metadata = bytes(metadataKey);
+    byte[] versionValue = bytes(String.valueOf(version));
+    String previous = redisTemplate.opsForValue().get(currentKey);
+
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.multi();
+      connection.hashCommands().hMSet(key, fields);
+      connection.keyCommands().expire(key, ratesTtl.toSeconds());
+      connection.stringCommands().set(
+          pointer, versionValue, Expiration.from(ratesTtl), SetOption.upsert());
+      connection.hashCommands().hMSet(metadata, Map.of(
+          bytes(META_VERSION), versionValue,
+          bytes(META_FETCHED_AT), bytes(String.valueOf(System.currentTimeMillis())),
+          bytes(META_COUNT), bytes(String.valueOf(fields.size()))));
+      connection.keyCommands().expire(metadata, ratesTtl.toSeconds());
+      if (previous != null && !previous.equals(String.valueOf(version))) {
+        connection.keyCommands().expire(
+            bytes(versionKey(previous)), RETIRED_VERSION_GRACE.toSeconds());
+      }
+      connection.exec();
+      return null;
+    });
+    nearCache.clear();
+  }
+
+  /**
+   * Clears the local near cache and notifies the other instances that the rates in Redis were
+   * replaced. Failures are logged only: the staleness bound still expires the near cache entries.
+   */
+  public void publishRatesUpdated() {
+    invalidateNearCache();
+    if (!nearCacheProperties.isEnabled()) {
+      return;
+    }
+    try {
+      redisTemplate.convertAndSend(
+          nearCacheProperties.getInvalidationChannel(), instanceId);
+    } catch (Exception e) {
+      log.warn("Failed to publish rates-updated signal: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Tells whether a rates-updated signal was published by this instance.
+   *
+   * @param payload the signal payload
+   * @return true if this instance sent the signal
+   */
+  public boolean isOwnSignal(String payload) {
+    return instanceId.equals(payload);
+  }
+
+  /**
+   * Drops every entry from the near cache so the next lookups are read from Redis.
+   */
+  public void invalidateNearCache() {
+    nearCache.clear();
+  }
+
+  private CurrencyRate loadRate(String currencyCode) {
+    String version = redisTemplate.opsForValue().get(currentKey);
+    if (version == null) throw new IllegalStateException("❌ Rate not cached yet: " + currencyCode);
+    byte[] value = redisTemplate.execute(
+        (RedisCallback<byte[]>) connection ->
+            connection.hashCommands().hGet(bytes(versionKey(version)), bytes(currencyCode)));
+    if (value == null) throw new IllegalStateException("❌ Rate not cached yet: " + currencyCode);
+    return rateSerializer.deserialize(value);
+  }
+
+  private String versionKey(String version) {
+    return cacheName + ":v:" + version;
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private record NearEntry(CurrencyRate rate, long loadedAt) {}
 }
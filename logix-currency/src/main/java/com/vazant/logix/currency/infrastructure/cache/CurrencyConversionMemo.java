@@ -0,0 +1,143 @@
+package com.vazant.logix.currency.infrastructure.cache;
+
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded memo of conversion results keyed by {@code (from, to, amount)} within one rate snapshot
+ * version.
+ * <p>
+ * Entries belong to the generation of the snapshot version they were computed from. The first
+ * lookup with a newer version replaces the whole generation, so a rate refresh invalidates the
+ * memo without any explicit signal. When a generation reaches the configured size it is cleared
+ * and refilled by the amounts that keep recurring. Hits and misses are counted for
+ * {@link #snapshot()}.
+ */
+@Component
+public class CurrencyConversionMemo {
+
+  private final boolean enabled;
+  private final int maxEntries;
+  private final AtomicReference<Generation> generation =
+      new AtomicReference<>(new Generation(Long.MIN_VALUE));
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder clears = new LongAdder();
+
+  /**
+   * Constructs a new CurrencyConversionMemo.
+   *
+   * @param properties currency service properties
+   */
+  public CurrencyConversionMemo(CurrencyProperties properties) {
+    this.enabled = properties.getMemo().isEnabled();
+    this.maxEntries = properties.getMemo().getMaxEntries();
+  }
+
+  /**
+   * Returns the memoized result of a conversion at the given snapshot version.
+   *
+   * @param version the rate snapshot version
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param amount the amount to convert
+   * @return the converted amount, or null if it is not memoized
+   */
+  public BigDecimal get(long version, String from, String to, BigDecimal amount) {
+    if (!enabled) {
+      return null;
+    }
+    Generation current = generation.get();
+    BigDecimal result = current.version == version
+        ? current.results.get(new Key(from, to, amount))
+        : null;
+    if (result != null) {
+      hits.increment();
+    } else {
+      misses.increment();
+    }
+    return result;
+  }
+
+  /**
+   * Memoizes the result of a conversion at the given snapshot version. Results for a version
+   * older than the current generation are dropped.
+   *
+   * @param version the rate snapshot version
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param amount the amount that was converted
+   * @param result the converted amount
+   */
+  public void put(long version, String from, String to, BigDecimal amount, BigDecimal result) {
+    if (!enabled) {
+      return;
+    }
+    Generation current = generation.get();
+    if (current.version != version) {
+      if (current.version > version) {
+        return;
+      }
+      Generation next = new Generation(version);
+      current = generation.compareAndSet(current, next) ? next : generation.get();
+      if (current.version != version) {
+        return;
+      }
+    }
+    if (current.results.size() >= maxEntries) {
+      current.results.clear();
+      clears.increment();
+    }
+    current.results.put(new Key(from, to, amount), result);
+  }
+
+  /**
+   * Returns a point-in-time copy of the memo counters.
+   *
+   * @return the snapshot
+   */
+  public Snapshot snapshot() {
+    Generation current = generation.get();
+    long hitCount = hits.sum();
+    long missCount = misses.sum();
+    long lookups = hitCount + missCount;
+    return new Snapshot(
+        current.version == Long.MIN_VALUE ? null : current.version,
+        current.results.size(),
+        hitCount,
+        missCount,
+        clears.sum(),
+        lookups == 0 ? 0.0 : (double) hitCount / lookups);
+  }
+
+  /**
+   * Point-in-time view of the memo.
+   *
+   * @param version the snapshot version of the current generation, or null before the first put
+   * @param size the number of memoized results in the current generation
+   * @param hits lookups answered from the memo
+   * @param misses lookups that had to be computed
+   * @param clears times a full generation was cleared to stay within its bound
+   * @param hitRatio hits divided by all lookups
+   */
+  public record Snapshot(Long version, int size, long hits, long misses, long clears,
+      double hitRatio) {}
+
+  private record Key(String from, String to, BigDecimal amount) {}
+
+  private static final class Generation {
+
+    private final long version;
+    private final Map<Key, BigDecimal> results = new ConcurrentHashMap<>();
+
+    private Generation(long version) {
+      this.version = version;
+    }
+  }
+}
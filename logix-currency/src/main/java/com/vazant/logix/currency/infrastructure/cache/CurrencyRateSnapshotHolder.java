@@ -0,0 +1,147 @@
+package com.vazant.logix.currency.infrastructure.cache;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.domain.model.CurrencyRateMatrix;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link CurrencyRateMatrix} and swaps it atomically on every rate refresh.
+ * <p>
+ * Instances that did not run the refresh themselves drop their snapshot on the rates-updated
+ * signal and rebuild it from Redis on the next conversion. In case a signal is missed, a snapshot
+ * older than the near cache staleness bound is checked against the current version in Redis and
+ * rebuilt when they differ. Every invalidation or publish bumps a generation counter, so a rebuild
+ * that read the rates before it never replaces the newer state.
+ */
+@Slf4j
+@Component
+public class CurrencyRateSnapshotHolder {
+
+  private final CurrencyCacheService cacheService;
+  private final long maxStalenessNanos;
+  private final AtomicReference<Snapshot> current = new AtomicReference<>();
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Constructs a new CurrencyRateSnapshotHolder.
+   *
+   * @param cacheService the cache service used to rebuild the snapshot from Redis
+   * @param properties the currency properties containing the staleness bound
+   */
+  public CurrencyRateSnapshotHolder(
+      CurrencyCacheService cacheService, CurrencyProperties properties) {
+    this.cacheService = cacheService;
+    this.maxStalenessNanos =
+        TimeUnit.SECONDS.toNanos(properties.getNearCache().getMaxStalenessSeconds());
+  }
+
+  /**
+   * Returns the current snapshot, rebuilding it from Redis if it was invalidated or if it is older
+   * than the staleness bound and Redis holds a different version.
+   *
+   * @return the current snapshot, or empty if no rates are cached yet
+   */
+  public Optional<CurrencyRateMatrix> current() {
+    Snapshot snapshot = current.get();
+    if (snapshot != null && System.nanoTime() - snapshot.checkedAt() < maxStalenessNanos) {
+      return Optional.of(snapshot.matrix());
+    }
+    return Optional.ofNullable(refresh());
+  }
+
+  /**
+   * Returns the current snapshot without rebuilding it, so the call never touches Redis.
+   *
+   * @return the current snapshot, or empty if none is held in memory
+   */
+  public Optional<CurrencyRateMatrix> peek() {
+    Snapshot snapshot = current.get();
+    return snapshot != null ? Optional.of(snapshot.matrix()) : Optional.empty();
+  }
+
+  /**
+   * Builds a snapshot from the given rates and makes it the current one.
+   *
+   * @param rates the freshly fetched rates
+   * @return the new snapshot
+   */
+  public CurrencyRateMatrix publish(Collection<CurrencyRate> rates) {
+    return publish(CurrencyRateMatrix.of(rates));
+  }
+
+  /**
+   * Makes the given snapshot the current one.
+   *
+   * @param matrix the snapshot built from the freshly saved rates
+   * @return the same snapshot
+   */
+  public CurrencyRateMatrix publish(CurrencyRateMatrix matrix) {
+    generation.incrementAndGet();
+    current.set(new Snapshot(matrix, System.nanoTime()));
+    log.info("Currency rate snapshot {} built for {} currencies", matrix.getVersion(), matrix.size());
+    return matrix;
+  }
+
+  /**
+   * Drops the current snapshot so the next conversion rebuilds it.
+   */
+  public void invalidate() {
+    generation.incrementAndGet();
+    current.set(null);
+  }
+
+  private synchronized CurrencyRateMatrix refresh() {
+    long observedGeneration = generation.get();
+    Snapshot snapshot = current.get();
+    long now = System.nanoTime();
+    if (snapshot != null && now - snapshot.checkedAt() < maxStalenessNanos) {
+      return snapshot.matrix();
+    }
+    try {
+      if (snapshot != null && isCurrent(snapshot.matrix())) {
+        current.compareAndSet(snapshot, new Snapshot(snapshot.matrix(), now));
+        return snapshot.matrix();
+      }
+      List<CurrencyRate> rates = cacheService.getAllRates();
+      if (rates.isEmpty()) {
+        return snapshot != null ? snapshot.matrix() : null;
+      }
+      return rebuild(CurrencyRateMatrix.of(rates), observedGeneration);
+    } catch (Exception e) {
+      log.warn("Failed to rebuild currency rate snapshot: {}", e.getMessage());
+      return snapshot != null ? snapshot.matrix() : null;
+    }
+  }
+
+  // An empty pointer means the rate set expired in Redis, so the snapshot is still the newest.
+  private boolean isCurrent(CurrencyRateMatrix matrix) {
+    OptionalLong version = cacheService.getCurrentVersion();
+    return version.isEmpty() || version.getAsLong() == matrix.getVersion();
+  }
+
+  private CurrencyRateMatrix rebuild(CurrencyRateMatrix matrix, long observedGeneration) {
+    if (generation.get() != observedGeneration) {
+      // Invalidated or republished while the rates were read: serve them once, keep the newer state
+      return matrix;
+    }
+    Snapshot rebuilt = new Snapshot(matrix, System.nanoTime());
+    current.set(rebuilt);
+    if (generation.get() != observedGeneration) {
+      current.compareAndSet(rebuilt, null);
+      return matrix;
+    }
+    log.info("Currency rate snapshot {} rebuilt for {} currencies", matrix.getVersion(), matrix.size());
+    return matrix;
+  }
+
+  private record Snapshot(CurrencyRateMatrix matrix, long checkedAt) {}
+}
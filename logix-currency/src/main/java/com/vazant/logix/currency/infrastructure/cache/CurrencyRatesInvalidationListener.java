@@ -0,0 +1,42 @@
+package com.vazant.logix.currency.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Clears the local near cache and rate snapshot when another instance publishes a rates-updated
+ * signal on the Redis channel.
+ */
+@Slf4j
+@Component
+public class CurrencyRatesInvalidationListener implements MessageListener {
+
+  private final CurrencyCacheService cacheService;
+  private final CurrencyRateSnapshotHolder snapshotHolder;
+
+  /**
+   * Constructs a new CurrencyRatesInvalidationListener.
+   *
+   * @param cacheService the cache service holding the near cache
+   * @param snapshotHolder the holder of the current rate snapshot
+   */
+  public CurrencyRatesInvalidationListener(
+      CurrencyCacheService cacheService, CurrencyRateSnapshotHolder snapshotHolder) {
+    this.cacheService = cacheService;
+    this.snapshotHolder = snapshotHolder;
+  }
+
+  @Override
+  public void onMessage(@NonNull Message message, byte[] pattern) {
+    if (cacheService.isOwnSignal(new String(message.getBody(), StandardCharsets.UTF_8))) {
+      return;
+    }
+    log.debug("Rates-updated signal received, clearing near cache");
+    cacheService.invalidateNearCache();
+    snapshotHolder.invalidate();
+  }
+}
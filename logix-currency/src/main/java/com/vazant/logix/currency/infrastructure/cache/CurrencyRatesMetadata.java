@@ -0,0 +1,26 @@
+package com.vazant.logix.currency.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Metadata of the current rate set, stored next to it in Redis and written in the same
+ * transaction, so a single read tells whether the cached rates are usable.
+ *
+ * @param version the version of the current rate set
+ * @param fetchedAt when the rate set was fetched from the provider
+ * @param currencyCount the number of currencies in the rate set
+ */
+public record CurrencyRatesMetadata(long version, Instant fetchedAt, int currencyCount) {
+
+  /**
+   * Tells whether the rate set is non-empty and younger than the given age.
+   *
+   * @param maxAge the maximum accepted age
+   * @param now the current time
+   * @return true if the cached rates can be used without a refresh
+   */
+  public boolean isFresh(Duration maxAge, Instant now) {
+    return currencyCount > 0 && fetchedAt.plus(maxAge).isAfter(now);
+  }
+}
@@ -0,0 +1,57 @@
+package com.vazant.logix.currency.infrastructure.client.stub;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Local stand-in for the external rate provider, active with the {@code stub-provider} profile.
+ * <p>
+ * Serves a fixed rate set in the provider's response format with an ETag and Last-Modified, and
+ * answers conditional requests with 304, so the fetcher can be exercised without network access
+ * or an API key.
+ */
+@RestController
+@Profile("stub-provider")
+@RequestMapping("/stub/provider")
+public class StubCurrencyProviderController {
+
+  private static final String ETAG = "\"stub-rates-1\"";
+  private static final Instant LAST_MODIFIED = Instant.parse("2026-01-01T00:00:00Z");
+  private static final Map<String, String> RATES = new LinkedHashMap<>();
+
+  static {
+    RATES.put("USD", "1");
+    RATES.put("EUR", "0.9213");
+    RATES.put("GBP", "0.7891");
+    RATES.put("RUB", "92.4512");
+    RATES.put("CNY", "7.2385");
+    RATES.put("JPY", "151.8374");
+  }
+
+  /**
+   * Returns the stub rate set.
+   *
+   * @param base the requested base currency; the stub always quotes against USD
+   * @param request the current request, used for conditional GETs
+   * @return the rates, or 304 if the client already holds them
+   */
+  @GetMapping("/rates")
+  public ResponseEntity<Map<String, Object>> rates(
+      @RequestParam(defaultValue = "USD") String base, WebRequest request) {
+    if (request.checkNotModified(ETAG, LAST_MODIFIED.toEpochMilli())) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .eTag(ETAG)
+        .lastModified(LAST_MODIFIED)
+        .body(Map.of("date", LAST_MODIFIED.toString(), "base", "USD", "rates", RATES));
+  }
+}
@@ -0,0 +1,244 @@
+package com.vazant.logix.currency.infrastructure.codec;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.Assert;
+
+/**
+ * Compact binary codec for {@link CurrencyRate}, usable as a Redis serializer and as a Kafka
+ * serializer/deserializer.
+ * <p>
+ * Format version 1:
+ * <pre>
+ * version   1 byte   (0x01)
+ * flags     1 byte   (bit 0: unscaled value is a BigInteger, bit 1: timestamp present)
+ * target    1 byte length + ASCII code
+ * base      1 byte length + ASCII code
+ * scale     zigzag varint
+ * unscaled  zigzag varlong, or 1 byte length + two's complement bytes
+ * updatedAt zigzag varlong epoch millis, if present
+ * </pre>
+ * A typical rate takes about 20 bytes instead of roughly 110 as JSON. Decoded currency codes are
+ * interned, so all rates share one String instance per code.
+ * <p>
+ * Values starting with {@code '{'} were written by the previous JSON serializer and are decoded
+ * with the given legacy serializer, so existing entries stay readable until they expire.
+ */
+public class CurrencyRateCodec
+    implements RedisSerializer<CurrencyRate>, Serializer<CurrencyRate>, Deserializer<CurrencyRate> {
+
+  private static final byte VERSION_1 = 0x01;
+
+  private static final byte JSON_START = '{';
+  private static final int FLAG_BIG_UNSCALED = 1;
+  private static final int FLAG_HAS_TIMESTAMP = 1 << 1;
+  private static final int MAX_CODE_LENGTH = 16;
+
+  private final RedisSerializer<CurrencyRate> legacySerializer;
+  private final ConcurrentMap<String, String> codes = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new CurrencyRateCodec.
+   *
+   * @param legacySerializer the JSON serializer used to read entries written before this codec
+   */
+  public CurrencyRateCodec(RedisSerializer<CurrencyRate> legacySerializer) {
+    this.legacySerializer = legacySerializer;
+  }
+
+  /**
+   * Encodes a rate in the current binary format.
+   *
+   * @param rate the rate to encode
+   * @return the encoded bytes
+   * @throws IllegalArgumentException if a currency code is not short ASCII
+   */
+  public byte[] encode(CurrencyRate rate) {
+    BigInteger unscaled = rate.getRate().unscaledValue();
+    boolean big = unscaled.bitLength() > 63;
+    Instant updatedAt = rate.getUpdatedAt();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(32);
+    out.write(VERSION_1);
+    out.write((big ? FLAG_BIG_UNSCALED : 0) | (updatedAt != null ? FLAG_HAS_TIMESTAMP : 0));
+    writeCode(out, rate.getTargetCurrencyCode());
+    writeCode(out, rate.getBaseCurrencyCode());
+    writeVarLong(out, rate.getRate().scale());
+    if (big) {
+      byte[] bytes = unscaled.toByteArray();
+      Assert.isTrue(bytes.length <= 0xFF, "Rate value is too large");
+      out.write(bytes.length);
+      out.writeBytes(bytes);
+    } else {
+      writeVarLong(out, unscaled.longValue());
+    }
+    if (updatedAt != null) {
+      writeVarLong(out, updatedAt.toEpochMilli());
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes a rate written in the binary format or, for older entries, as JSON.
+   *
+   * @param bytes the encoded rate
+   * @return the decoded rate
+   * @throws IllegalArgumentException if the bytes are truncated or use an unknown version
+   */
+  public CurrencyRate decode(byte[] bytes) {
+    if (bytes.length > 0 && bytes[0] == JSON_START) {
+      return legacySerializer.deserialize(bytes);
+    }
+    Reader in = new Reader(bytes);
+    int version = in.readByte();
+    if (version != VERSION_1) {
+      throw new IllegalArgumentException("Unsupported currency rate format version " + version);
+    }
+    int flags = in.readByte();
+    String target = readCode(in);
+    String base = readCode(in);
+    int scale = Math.toIntExact(in.readVarLong());
+    BigDecimal value = (flags & FLAG_BIG_UNSCALED) != 0
+        ? new BigDecimal(new BigInteger(in.readBytes(in.readByte())), scale)
+        : BigDecimal.valueOf(in.readVarLong(), scale);
+    Instant updatedAt = (flags & FLAG_HAS_TIMESTAMP) != 0
+        ? Instant.ofEpochMilli(in.readVarLong())
+        : null;
+    return new CurrencyRate(target, value, base, updatedAt);
+  }
+
+  @Override
+  public byte[] serialize(CurrencyRate rate) throws SerializationException {
+    if (rate == null) {
+      return null;
+    }
+    try {
+      return encode(rate);
+    } catch (IllegalArgumentException e) {
+      throw new SerializationException("Cannot encode currency rate " + rate, e);
+    }
+  }
+
+  @Override
+  public CurrencyRate deserialize(byte[] bytes) throws SerializationException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    try {
+      return decode(bytes);
+    } catch (IllegalArgumentException | ArithmeticException e) {
+      throw new SerializationException("Cannot decode currency rate", e);
+    }
+  }
+
+  @Override
+  public byte[] serialize(String topic, CurrencyRate rate) {
+    if (rate == null) {
+      return null;
+    }
+    try {
+      return encode(rate);
+    } catch (IllegalArgumentException e) {
+      throw new org.apache.kafka.common.errors.SerializationException(
+          "Cannot encode currency rate for topic " + topic, e);
+    }
+  }
+
+  @Override
+  public CurrencyRate deserialize(String topic, byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    try {
+      return decode(bytes);
+    } catch (RuntimeException e) {
+      throw new org.apache.kafka.common.errors.SerializationException(
+          "Cannot decode currency rate from topic " + topic, e);
+    }
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    // Stateless apart from the code intern table.
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release.
+  }
+
+  private static void writeCode(ByteArrayOutputStream out, String code) {
+    byte[] bytes = code.getBytes(StandardCharsets.US_ASCII);
+    Assert.isTrue(bytes.length <= MAX_CODE_LENGTH, "Currency code is too long: " + code);
+    out.write(bytes.length);
+    out.writeBytes(bytes);
+  }
+
+  private String readCode(Reader in) {
+    int length = in.readByte();
+    if (length > MAX_CODE_LENGTH) {
+      throw new IllegalArgumentException("Currency code length " + length + " is out of range");
+    }
+    String code = new String(in.readBytes(length), StandardCharsets.US_ASCII);
+    return codes.computeIfAbsent(code, String::intern);
+  }
+
+  private static void writeVarLong(ByteArrayOutputStream out, long value) {
+    long zigzag = (value << 1) ^ (value >> 63);
+    while ((zigzag & ~0x7FL) != 0) {
+      out.write((int) ((zigzag & 0x7F) | 0x80));
+      zigzag >>>= 7;
+    }
+    out.write((int) zigzag);
+  }
+
+  /** Sequential reader over an encoded rate that fails on truncated input. */
+  private static final class Reader {
+
+    private final byte[] bytes;
+    private int position;
+
+    Reader(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    int readByte() {
+      if (position >= bytes.length) {
+        throw new IllegalArgumentException("Truncated currency rate");
+      }
+      return bytes[position++] & 0xFF;
+    }
+
+    byte[] readBytes(int length) {
+      if (position + length > bytes.length) {
+        throw new IllegalArgumentException("Truncated currency rate");
+      }
+      byte[] result = Arrays.copyOfRange(bytes, position, position + length);
+      position += length;
+      return result;
+    }
+
+    long readVarLong() {
+      long zigzag = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        int b = readByte();
+        zigzag |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+      }
+      throw new IllegalArgumentException("Malformed varint in currency rate");
+    }
+  }
+}
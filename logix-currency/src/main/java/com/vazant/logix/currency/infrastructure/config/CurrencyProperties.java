@@ -1,6 +1,8 @@
 package com.vazant.logix.currency.infrastructure.config;
 
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -9,7 +11,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * Configuration properties for the currency service.
  * <p>
  * Maps properties with the prefix 'currency' from the application configuration.
- * Includes nested classes for retry, Redis TTL, REST, and Kafka topic settings.
+ * Includes nested classes for retry, Redis TTL, REST, Kafka topic, near cache,
+ * rate history, conversion memo and rate provider settings.
  */
 @Getter
 @Setter
@@ -28,6 +31,10 @@ public class CurrencyProperties {
   private RedisTtlProperties redis;
   private Rest rest;
   private KafkaTopics kafka;
+  private NearCache nearCache = new NearCache();
+  private History history = new History();
+  private Memo memo = new Memo();
+  private List<Provider> providers = new ArrayList<>();
 
   /**
    * Retry configuration properties for currency operations.
@@ -65,8 +72,10 @@ public class CurrencyProperties {
   public static class Rest {
     private int connectTimeout = 5;
     private int readTimeout = 5;
+    private long hedgeDelayMs = 2000;
     public int getConnectTimeout() { return connectTimeout; }
     public int getReadTimeout() { return readTimeout; }
+    public long getHedgeDelayMs() { return hedgeDelayMs; }
   }
 
   /**
@@ -76,11 +85,73 @@ public class CurrencyProperties {
   @Setter
   public static class KafkaTopics {
     private String requestTopic;
+    private String batchRequestTopic;
     private String replyTopicPrefix;
     private String groupId;
+    private int concurrency = 3;
+    private int maxPollRecords = 500;
     public String getRequestTopic() { return requestTopic; }
+    public String getBatchRequestTopic() { return batchRequestTopic; }
     public String getReplyTopicPrefix() { return replyTopicPrefix; }
     public String getGroupId() { return groupId; }
+    public int getConcurrency() { return concurrency; }
+    public int getMaxPollRecords() { return maxPollRecords; }
+  }
+
+  /**
+   * In-process near cache settings for currency rates held in front of Redis.
+   */
+  @Getter
+  @Setter
+  public static class NearCache {
+    private boolean enabled = true;
+    private long maxStalenessSeconds = 300;
+    private String invalidationChannel = "currency.rates-updated";
+    public boolean isEnabled() { return enabled; }
+    public long getMaxStalenessSeconds() { return maxStalenessSeconds; }
+    public String getInvalidationChannel() { return invalidationChannel; }
+  }
+
+  /**
+   * Append-only rate history used for point-in-time conversions.
+   */
+  @Getter
+  @Setter
+  public static class History {
+    private boolean enabled = true;
+    private String directory = "data/rate-history";
+    public boolean isEnabled() { return enabled; }
+    public String getDirectory() { return directory; }
+  }
+
+  /**
+   * Bounded memo of conversion results per rate snapshot version.
+   */
+  @Getter
+  @Setter
+  public static class Memo {
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+    public boolean isEnabled() { return enabled; }
+    public int getMaxEntries() { return maxEntries; }
+  }
+
+  /**
+   * One external rate provider. Providers are queried in list order, each hedging the previous one.
+   */
+  @Getter
+  @Setter
+  public static class Provider {
+    private String name;
+    private String url;
+    private String apiKey;
+    private String apiKeyParam = "apikey";
+    private String apiKeyHeader;
+    public String getName() { return name; }
+    public String getUrl() { return url; }
+    public String getApiKey() { return apiKey; }
+    public String getApiKeyParam() { return apiKeyParam; }
+    public String getApiKeyHeader() { return apiKeyHeader; }
   }
 
   public String getScheduleCron() { return scheduleCron; }
@@ -94,4 +165,8 @@ public class CurrencyProperties {
   public RedisTtlProperties getRedis() { return redis; }
   public Rest getRest() { return rest; }
   public KafkaTopics getKafka() { return kafka; }
+  public NearCache getNearCache() { return nearCache; }
+  public History getHistory() { return history; }
+  public Memo getMemo() { return memo; }
+  public List<Provider> getProviders() { return providers; }
 }
@@ -1,9 +1,12 @@
 package com.vazant.logix.currency.infrastructure.config;
 
-import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse;
+import com.vazant.logix.shared.kafka.config.KafkaTopics;
+import com.vazant.logix.shared.kafka.dto.CurrencyRateSetMessage;
 import com.vazant.logix.shared.kafka.dto.CurrencyConversionResponse;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -12,7 +15,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -28,6 +34,8 @@ import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
 @EnableConfigurationProperties(CurrencyProperties.class)
 public class KafkaConfig {
 
+  private static final int REPLY_LINGER_MS = 5;
+
   @Value("${spring.kafka.bootstrap-servers}")
   private String bootstrapServers;
 
@@ -43,7 +51,8 @@ public class KafkaConfig {
   }
 
   /**
-   * Producer factory for currency conversion response messages.
+   * Producer factory for currency conversion response messages. Replies linger briefly so the
+   * replies of one polled batch share produce requests; the listener flushes after each batch.
    *
    * @return the producer factory
    */
@@ -53,6 +62,7 @@ public class KafkaConfig {
     config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
     config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+    config.put(ProducerConfig.LINGER_MS_CONFIG, REPLY_LINGER_MS);
     return new DefaultKafkaProducerFactory<>(config);
   }
 
@@ -61,19 +71,83 @@ public class KafkaConfig {
     return new KafkaTemplate<>(responseProducerFactory());
   }
 
+  /**
+   * Producer factory for batched currency conversion response messages.
+   *
+   * @return the producer factory
+   */
+  @Bean
+  public ProducerFactory<String, CurrencyConversionBatchResponse> batchResponseProducerFactory() {
+    Map<String, Object> config = new HashMap<>();
+    config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+    config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+    config.put(ProducerConfig.LINGER_MS_CONFIG, REPLY_LINGER_MS);
+    return new DefaultKafkaProducerFactory<>(config);
+  }
+
+  @Bean
+  public KafkaTemplate<String, CurrencyConversionBatchResponse> batchKafkaTemplate() {
+    return new KafkaTemplate<>(batchResponseProducerFactory());
+  }
+
+  /**
+   * Producer factory for rate set messages. Idempotent with acks=all, so a refresh is never
+   * half-written to the compacted topic.
+   *
+   * @return the producer factory
+   */
+  @Bean
+  public ProducerFactory<String, CurrencyRateSetMessage> ratesProducerFactory() {
+    Map<String, Object> config = new HashMap<>();
+    config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+    config.put(ProducerConfig.ACKS_CONFIG, "all");
+    config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+    return new DefaultKafkaProducerFactory<>(config);
+  }
+
+  @Bean
+  public KafkaTemplate<String, CurrencyRateSetMessage> ratesKafkaTemplate() {
+    return new KafkaTemplate<>(ratesProducerFactory());
+  }
+
+  /**
+   * Log-compacted topic holding the latest rate set per base currency.
+   *
+   * @return the topic definition
+   */
+  @Bean
+  public NewTopic currencyRatesTopic() {
+    return TopicBuilder.name(KafkaTopics.CURRENCY_RATES).partitions(1).replicas(1).compact().build();
+  }
+
+  /**
+   * Batch listener container factory for conversion requests. Each consumer thread receives up to
+   * {@code currency.kafka.max-poll-records} records per poll; unreadable records arrive with a
+   * null value instead of blocking the partition.
+   *
+   * @return the listener container factory
+   */
   @Bean
-  public ConsumerFactory<String, CurrencyConversionRequest> requestConsumerFactory() {
-    JsonDeserializer<CurrencyConversionRequest> deserializer =
-        new JsonDeserializer<>(CurrencyConversionRequest.class);
-    deserializer.setRemoveTypeHeaders(false);
+  public ConcurrentKafkaListenerContainerFactory<String, Object> conversionListenerContainerFactory() {
+    JsonDeserializer<Object> deserializer = new JsonDeserializer<>();
     deserializer.addTrustedPackages("com.vazant.logix.shared.kafka.dto");
 
     Map<String, Object> config = new HashMap<>();
     config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     config.put(ConsumerConfig.GROUP_ID_CONFIG, properties.getKafka().getGroupId());
-    config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+    config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getKafka().getMaxPollRecords());
 
-    return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), deserializer);
+    ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+        config, new StringDeserializer(), new ErrorHandlingDeserializer<>(deserializer)));
+    factory.setBatchListener(true);
+    factory.setConcurrency(properties.getKafka().getConcurrency());
+    return factory;
   }
 }
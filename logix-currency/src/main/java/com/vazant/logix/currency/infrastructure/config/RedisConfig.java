@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyRatesInvalidationListener;
+import com.vazant.logix.currency.infrastructure.codec.CurrencyRateCodec;
 import java.time.Duration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
@@ -13,6 +15,8 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -21,7 +25,8 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 /**
  * Redis configuration for currency service caching.
  * <p>
- * Configures cache manager, serializers, and Redis template for storing currency rates.
+ * Configures cache manager, serializers, and Redis template for storing currency rates,
+ * and the pub/sub listener that invalidates the in-process near cache.
  */
 @Configuration
 @EnableCaching
@@ -54,33 +59,33 @@ public class RedisConfig {
   }
 
   /**
-   * Jackson2 JSON serializer for CurrencyRate objects.
+   * Compact binary serializer for CurrencyRate objects.
+   * <p>
+   * Entries written as JSON by earlier versions are still read through a Jackson2 serializer.
    *
-   * @return the Jackson2 JSON Redis serializer for CurrencyRate
+   * @return the binary CurrencyRate codec
    */
   @Bean
-  public Jackson2JsonRedisSerializer<CurrencyRate> currencyRateSerializer() {
+  public CurrencyRateCodec currencyRateSerializer() {
     ObjectMapper mapper =
         new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-    return new Jackson2JsonRedisSerializer<>(mapper, CurrencyRate.class);
+    return new CurrencyRateCodec(new Jackson2JsonRedisSerializer<>(mapper, CurrencyRate.class));
   }
 
   /**
-   * Configures the Redis cache manager with custom cache settings.
+   * Configures the Redis cache manager with the default cache settings. Currency rates are not
+   * stored through it: {@code CurrencyCacheService} writes them as versioned hashes.
    *
    * @param factory the Redis connection factory
    * @param genericSerializer the generic JSON serializer
-   * @param rateSerializer the serializer for CurrencyRate objects
    * @return the Redis cache manager
    */
   @Bean
   public RedisCacheManager cacheManager(
-      RedisConnectionFactory factory,
-      GenericJackson2JsonRedisSerializer genericSerializer,
-      Jackson2JsonRedisSerializer<CurrencyRate> rateSerializer) {
+      RedisConnectionFactory factory, GenericJackson2JsonRedisSerializer genericSerializer) {
 
     RedisCacheConfiguration defaultConfig =
         RedisCacheConfiguration.defaultCacheConfig()
@@ -89,17 +94,7 @@ public class RedisConfig {
             .serializeValuesWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(genericSerializer));
 
-    RedisCacheConfiguration ratesConfig =
-        RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofHours(properties.getRedis().getTtlCurrencyRatesHours()))
-            .disableCachingNullValues()
-            .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(rateSerializer));
-
-    return RedisCacheManager.builder(factory)
-        .cacheDefaults(defaultConfig)
-        .withCacheConfiguration(properties.getCacheName(), ratesConfig)
-        .build();
+    return RedisCacheManager.builder(factory).cacheDefaults(defaultConfig).build();
   }
 
   /**
@@ -121,4 +116,22 @@ public class RedisConfig {
     template.setHashValueSerializer(genericSerializer);
     return template;
   }
+
+  /**
+   * Subscribes the near cache invalidation listener to the rates-updated channel.
+   *
+   * @param factory the Redis connection factory
+   * @param listener the listener clearing the near cache
+   * @return the Redis message listener container
+   */
+  @Bean
+  public RedisMessageListenerContainer ratesUpdatedListenerContainer(
+      RedisConnectionFactory factory, CurrencyRatesInvalidationListener listener) {
+
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(factory);
+    container.addMessageListener(
+        listener, new ChannelTopic(properties.getNearCache().getInvalidationChannel()));
+    return container;
+  }
 }
@@ -0,0 +1,258 @@
+package com.vazant.logix.currency.infrastructure.history;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only history of exchange rates, kept as one memory-mapped time series file per currency.
+ * <p>
+ * Each file ({@code <directory>/<base>/<code>.rates}) starts with a 16-byte header (magic, format
+ * version and record count) followed by fixed-size records of effective time (epoch millis),
+ * unscaled rate and scale, ordered by time. Files grow in preallocated chunks of
+ * {@value #CHUNK_RECORDS} records and are mapped read-write once per chunk, so an append is a
+ * write into the mapping; the pages are forced to disk once per appended rate set. A point-in-time
+ * lookup is a binary search over the mapped records, so it never leaves the process and needs no
+ * provider call.
+ */
+@Slf4j
+@Component
+public class CurrencyRateHistoryStore {
+
+  private static final int MAGIC = 0x4C585248; // "LXRH"
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+  private static final int COUNT_OFFSET = 8;
+  private static final int RECORD_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES;
+  static final int CHUNK_RECORDS = 1024;
+  private static final Pattern CODE = Pattern.compile("[A-Z0-9]{2,10}");
+
+  private final boolean enabled;
+  private final Path directory;
+  private final ConcurrentMap<String, Series> series = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new CurrencyRateHistoryStore.
+   *
+   * @param properties currency service properties
+   */
+  public CurrencyRateHistoryStore(CurrencyProperties properties) {
+    this.enabled = properties.getHistory().isEnabled();
+    this.directory = Path.of(properties.getHistory().getDirectory());
+  }
+
+  /**
+   * Appends a rate set to the history. A currency whose series already has an entry at or after
+   * {@code effectiveAt} is skipped, so re-appending the same rate set is a no-op. A rate whose
+   * unscaled value does not fit in a long is skipped with a warning rather than rounded.
+   *
+   * @param rates the rates to append
+   * @param effectiveAt the time from which the rates are valid
+   * @return the number of currencies that received a new entry
+   */
+  public int append(Collection<CurrencyRate> rates, Instant effectiveAt) {
+    if (!enabled) {
+      return 0;
+    }
+    List<Series> touched = new ArrayList<>(rates.size());
+    for (CurrencyRate rate : rates) {
+      String base = rate.getBaseCurrencyCode();
+      String code = rate.getTargetCurrencyCode();
+      if (!CODE.matcher(base).matches() || !CODE.matcher(code).matches()) {
+        log.warn("Skipping rate history entry with unsupported code {}/{}", base, code);
+        continue;
+      }
+      if (rate.getRate().unscaledValue().bitLength() > 63) {
+        log.warn("Skipping rate history entry {}/{} that does not fit in a record: {}",
+            base, code, rate.getRate());
+        continue;
+      }
+      Series target = series(base, code, true);
+      if (target.append(effectiveAt.toEpochMilli(), rate.getRate())) {
+        touched.add(target);
+      }
+    }
+    touched.forEach(Series::force);
+    return touched.size();
+  }
+
+  /**
+   * Finds the rate of a currency against the base that was valid at the given time.
+   *
+   * @param base the base currency code
+   * @param code the currency code
+   * @param at the point in time
+   * @return the rate with its effective time as {@code updatedAt}, or empty if the history has no
+   *     entry for the currency at or before {@code at}
+   */
+  public Optional<CurrencyRate> rateAt(String base, String code, Instant at) {
+    String baseCode = base.toUpperCase(Locale.ROOT);
+    String currencyCode = code.toUpperCase(Locale.ROOT);
+    if (!enabled || !CODE.matcher(baseCode).matches() || !CODE.matcher(currencyCode).matches()) {
+      return Optional.empty();
+    }
+    Series found = series(baseCode, currencyCode, false);
+    return found != null
+        ? found.find(at.toEpochMilli()).map(entry ->
+            new CurrencyRate(currencyCode, entry.rate(), baseCode, Instant.ofEpochMilli(entry.at())))
+        : Optional.empty();
+  }
+
+  /**
+   * Closes all open series files.
+   */
+  @PreDestroy
+  public void close() {
+    series.values().forEach(Series::close);
+    series.clear();
+  }
+
+  private Series series(String base, String code, boolean create) {
+    String key = base + "/" + code;
+    Series existing = series.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    Path file = directory.resolve(base).resolve(code + ".rates");
+    if (!create && !Files.exists(file)) {
+      return null;
+    }
+    return series.computeIfAbsent(key, k -> Series.open(file));
+  }
+
+  private record Entry(long at, BigDecimal rate) {}
+
+  /**
+   * One currency's time series. Appends run under a lock and publish the new record through the
+   * volatile count; readers search the mapping without locking.
+   */
+  private static final class Series {
+
+    private final Path file;
+    private final FileChannel channel;
+    private volatile MappedByteBuffer mapped;
+    private volatile int count;
+
+    private Series(Path file, FileChannel channel) throws IOException {
+      this.file = file;
+      this.channel = channel;
+      if (channel.size() < HEADER_SIZE) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+            .putInt(MAGIC).putInt(FORMAT_VERSION).putInt(0).putInt(0);
+        channel.write(header.flip(), 0);
+      }
+      MappedByteBuffer buffer = map(Math.max(channel.size(), capacityBytes(CHUNK_RECORDS)));
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+        throw new IllegalStateException("Unsupported rate history file " + file);
+      }
+      this.mapped = buffer;
+      this.count = Math.min(buffer.getInt(COUNT_OFFSET), capacity(buffer));
+    }
+
+    static Series open(Path file) {
+      try {
+        Files.createDirectories(file.getParent());
+        return new Series(file, FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Cannot open rate history file " + file, e);
+      }
+    }
+
+    synchronized boolean append(long at, BigDecimal rate) {
+      int n = count;
+      MappedByteBuffer buffer = mapped;
+      if (n > 0 && timeAt(buffer, n - 1) >= at) {
+        return false;
+      }
+      if (n == capacity(buffer)) {
+        try {
+          buffer = map(capacityBytes(n + CHUNK_RECORDS));
+        } catch (IOException e) {
+          throw new UncheckedIOException("Cannot grow rate history file " + file, e);
+        }
+        mapped = buffer;
+      }
+      int offset = HEADER_SIZE + n * RECORD_SIZE;
+      buffer.putLong(offset, at)
+          .putLong(offset + Long.BYTES, rate.unscaledValue().longValueExact())
+          .putInt(offset + 2 * Long.BYTES, rate.scale())
+          .putInt(COUNT_OFFSET, n + 1);
+      count = n + 1;
+      return true;
+    }
+
+    synchronized void force() {
+      mapped.force();
+    }
+
+    Optional<Entry> find(long at) {
+      int n = count;
+      MappedByteBuffer buffer = mapped;
+      int low = 0;
+      int high = n - 1;
+      int found = -1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (timeAt(buffer, mid) <= at) {
+          found = mid;
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      if (found < 0) {
+        return Optional.empty();
+      }
+      int offset = HEADER_SIZE + found * RECORD_SIZE;
+      long unscaled = buffer.getLong(offset + Long.BYTES);
+      int scale = buffer.getInt(offset + 2 * Long.BYTES);
+      return Optional.of(new Entry(buffer.getLong(offset), BigDecimal.valueOf(unscaled, scale)));
+    }
+
+    void close() {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        log.warn("Failed to close rate history file {}: {}", file, e.getMessage());
+      }
+    }
+
+    // Mapping read-write past the end of the file extends it to the mapped size.
+    private MappedByteBuffer map(long size) throws IOException {
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private static long capacityBytes(int records) {
+      return HEADER_SIZE + (long) records * RECORD_SIZE;
+    }
+
+    private static int capacity(MappedByteBuffer buffer) {
+      return (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+    }
+
+    private static long timeAt(MappedByteBuffer buffer, int index) {
+      return buffer.getLong(HEADER_SIZE + index * RECORD_SIZE);
+    }
+  }
+}
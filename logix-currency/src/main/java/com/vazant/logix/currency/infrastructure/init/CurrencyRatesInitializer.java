@@ -1,63 +1,80 @@
 package com.vazant.logix.currency.infrastructure.init;
 
 import com.vazant.logix.currency.application.scheduler.CurrencyRatesUpdater;
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.domain.model.CurrencyRateMatrix;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyCacheService;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyRatesMetadata;
 import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 /**
  * Initializes currency rates on application startup.
  * <p>
- * Checks the presence and freshness of rates in Redis and triggers update if needed.
+ * Reads the rate metadata record in Redis and triggers an update if the rates are missing or
+ * stale. Rates found under the legacy per-currency keys are migrated first, so they stay
+ * available until the update completes.
  */
+@Slf4j
 @Service
 public class CurrencyRatesInitializer {
 
   private final CurrencyRatesUpdater updater;
-  private final StringRedisTemplate redisTemplate;
-  private final CurrencyProperties properties;
+  private final CurrencyCacheService cacheService;
+  private final Duration maxAge;
 
   /**
    * Constructs a new CurrencyRatesInitializer.
    *
    * @param updater service for updating currency rates
-   * @param redisTemplate template for working with Redis
+   * @param cacheService the cache service holding the current rate set
    * @param properties currency service properties
    */
-  public CurrencyRatesInitializer(CurrencyRatesUpdater updater, StringRedisTemplate redisTemplate, CurrencyProperties properties) {
+  public CurrencyRatesInitializer(
+      CurrencyRatesUpdater updater, CurrencyCacheService cacheService, CurrencyProperties properties) {
     this.updater = updater;
-    this.redisTemplate = redisTemplate;
-    this.properties = properties;
+    this.cacheService = cacheService;
+    this.maxAge = Duration.ofHours(properties.getRedis().getTtlCurrencyRatesHours());
   }
 
   /**
-   * Checks the cache for currency rates and updates them if missing or expired.
-   * Invoked on application startup.
+   * Decides from the rate metadata whether the cached rates are fresh and updates them if they
+   * are missing or older than the rate TTL. A deployment without metadata is first migrated from
+   * the legacy per-currency keys, if any exist, and then updated as well, because the age of the
+   * legacy rates is unknown. Invoked on application startup.
    */
   @EventListener(ApplicationReadyEvent.class)
   public void init() {
-    var cacheName = properties.getCacheName();
-    var keyPrefix = cacheName + "::";
-
-    var keys = redisTemplate.keys(keyPrefix + "*");
-    boolean shouldUpdate = true;
-
-    if (!keys.isEmpty()) {
-      shouldUpdate = false;
-      for (String key : keys) {
-        var ttl = redisTemplate.getExpire(key, java.util.concurrent.TimeUnit.SECONDS);
-        if (ttl <= 0) {
-          shouldUpdate = true;
-          break;
-        }
+    Optional<CurrencyRatesMetadata> metadata = cacheService.getMetadata();
+    if (metadata.isPresent()) {
+      if (metadata.get().isFresh(maxAge, Instant.now())) {
+        log.info("Cached rate set {} is fresh, skipping startup update", metadata.get().version());
+        return;
       }
+    } else {
+      migrateLegacyRates();
     }
+    updater.updateRates();
+  }
 
-    if (shouldUpdate) {
-      updater.updateRates();
+  private void migrateLegacyRates() {
+    List<CurrencyRate> legacy = cacheService.scanLegacyRates();
+    if (legacy.isEmpty()) {
+      return;
+    }
+    try {
+      updater.importRates(legacy);
+      log.info("Migrated {} legacy rates into rate set {}",
+          legacy.size(), CurrencyRateMatrix.of(legacy).getVersion());
+    } catch (RuntimeException e) {
+      log.warn("Failed to migrate legacy rates: {}", e.getMessage());
     }
   }
 }
@@ -1,25 +1,43 @@
 package com.vazant.logix.currency.infrastructure.kafka;
 
 import com.vazant.logix.currency.application.service.CurrencyApplicationService;
+import com.vazant.logix.currency.domain.model.CurrencyConversion;
 import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse;
 import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
 import com.vazant.logix.shared.kafka.dto.CurrencyConversionResponse;
-import java.math.BigDecimal;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 /**
  * Kafka listener for handling currency conversion requests.
  * <p>
  * Listens for conversion requests, performs conversion, and sends replies to the appropriate topic.
+ * Records are consumed in batches. Each partition of a batch is handled on its own virtual thread,
+ * in offset order, and all replies of the batch are flushed together before the offsets are
+ * committed.
  */
 @Component
 public class CurrencyConversionListener {
@@ -28,59 +46,132 @@ public class CurrencyConversionListener {
 
   private final CurrencyApplicationService service;
   private final KafkaTemplate<String, CurrencyConversionResponse> kafkaTemplate;
+  private final KafkaTemplate<String, CurrencyConversionBatchResponse> batchKafkaTemplate;
   private final CurrencyProperties properties;
+  private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
 
   /**
    * Constructs a new CurrencyConversionListener.
    *
    * @param service the currency application service
    * @param kafkaTemplate the Kafka template for sending responses
+   * @param batchKafkaTemplate the Kafka template for sending batch responses
    * @param properties the currency properties
    */
   public CurrencyConversionListener(
       CurrencyApplicationService service,
       KafkaTemplate<String, CurrencyConversionResponse> kafkaTemplate,
+      KafkaTemplate<String, CurrencyConversionBatchResponse> batchKafkaTemplate,
       CurrencyProperties properties) {
     this.service = service;
     this.kafkaTemplate = kafkaTemplate;
+    this.batchKafkaTemplate = batchKafkaTemplate;
     this.properties = properties;
   }
 
   /**
-   * Handles incoming currency conversion requests from Kafka, performs the conversion,
-   * and sends the response to the reply topic with the correlation ID.
+   * Handles a polled batch of currency conversion requests and sends each response to its reply
+   * topic with the correlation ID.
    *
-   * @param request the currency conversion request
-   * @param replyTopicHeader the reply topic header (may be null)
-   * @param correlationIdBytes the correlation ID as a byte array
+   * @param records the polled conversion requests
    */
-  @KafkaListener(topics = "${currency.kafka.request-topic}", groupId = "currency-service")
-  public void handleConversionRequest(
-      CurrencyConversionRequest request,
-      @Header(KafkaHeaders.REPLY_TOPIC) String replyTopicHeader,
-      @Header(KafkaHeaders.CORRELATION_ID) byte[] correlationIdBytes) {
+  @KafkaListener(
+      topics = "${currency.kafka.request-topic}",
+      groupId = "currency-service",
+      containerFactory = "conversionListenerContainerFactory")
+  public void handleConversionRequests(
+      List<ConsumerRecord<String, CurrencyConversionRequest>> records) {
+    handleInPartitionOrder(records, kafkaTemplate, request -> {
+      CurrencyConversion result =
+          service.convertWithVersion(request.from(), request.to(), request.amount());
+      return new CurrencyConversionResponse(result.amount(), result.ratesVersion());
+    }, (request, error) -> new CurrencyConversionResponse(null, null, error));
+  }
+
+  /**
+   * Handles a polled batch of batched conversion requests. Each request is converted in one pass
+   * against a single rate snapshot and answered with one reply holding the results in request
+   * order.
+   *
+   * @param records the polled batch conversion requests
+   */
+  @KafkaListener(
+      topics = "${currency.kafka.batch-request-topic}",
+      groupId = "currency-service",
+      containerFactory = "conversionListenerContainerFactory")
+  public void handleBatchConversionRequests(
+      List<ConsumerRecord<String, CurrencyConversionBatchRequest>> records) {
+    handleInPartitionOrder(records, batchKafkaTemplate, request -> service.convertAll(
+        request.conversions() != null ? request.conversions() : List.of()),
+        (request, error) -> new CurrencyConversionBatchResponse(Collections.nCopies(
+            request.conversions() != null ? request.conversions().size() : 0,
+            new CurrencyConversionBatchResponse.Result(null, error)), null));
+  }
 
-    log.info(
-        "📥 Получен Kafka-запрос: {} → {}, amount = {}",
-        request.from(),
-        request.to(),
-        request.amount());
+  @PreDestroy
+  void shutdown() {
+    workers.shutdown();
+  }
+
+  private <Q, R> void handleInPartitionOrder(
+      List<ConsumerRecord<String, Q>> records,
+      KafkaTemplate<String, R> template,
+      Function<Q, R> converter,
+      BiFunction<Q, String, R> errorReply) {
+    Map<TopicPartition, List<ConsumerRecord<String, Q>>> byPartition = new LinkedHashMap<>();
+    for (ConsumerRecord<String, Q> record : records) {
+      byPartition
+          .computeIfAbsent(
+              new TopicPartition(record.topic(), record.partition()), tp -> new ArrayList<>())
+          .add(record);
+    }
+
+    List<CompletableFuture<Void>> partitions = new ArrayList<>(byPartition.size());
+    for (List<ConsumerRecord<String, Q>> partition : byPartition.values()) {
+      partitions.add(CompletableFuture.runAsync(
+          () -> partition.forEach(record -> reply(record, template, converter, errorReply)),
+          workers));
+    }
+    CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new)).join();
+    template.flush();
+    log.debug("📤 Обработано {} запросов из {} партиций", records.size(), byPartition.size());
+  }
 
-    BigDecimal result = service.convert(request.from(), request.to(), request.amount());
-    CurrencyConversionResponse response = new CurrencyConversionResponse(result);
+  // A failed conversion is answered with an error reply, so the caller fails fast instead of
+  // waiting for its timeout.
+  private <Q, R> void reply(
+      ConsumerRecord<String, Q> record,
+      KafkaTemplate<String, R> template,
+      Function<Q, R> converter,
+      BiFunction<Q, String, R> errorReply) {
+    byte[] correlationIdBytes = headerValue(record, KafkaHeaders.CORRELATION_ID);
+    if (record.value() == null || correlationIdBytes == null) {
+      log.warn("Skipping unreadable conversion request at {}-{}@{}",
+          record.topic(), record.partition(), record.offset());
+      return;
+    }
+    R response;
+    try {
+      response = converter.apply(record.value());
+    } catch (RuntimeException e) {
+      log.warn("Conversion request {} failed: {}", new String(correlationIdBytes), e.getMessage());
+      response = errorReply.apply(record.value(),
+          e.getMessage() != null ? e.getMessage() : "Currency conversion failed");
+    }
 
+    byte[] replyTopicHeader = headerValue(record, KafkaHeaders.REPLY_TOPIC);
     String replyTopic =
         replyTopicHeader != null
-            ? replyTopicHeader
+            ? new String(replyTopicHeader)
             : properties.getKafka().getReplyTopicPrefix() + new String(correlationIdBytes);
 
-    ProducerRecord<String, CurrencyConversionResponse> record =
-        new ProducerRecord<>(replyTopic, response);
-    record.headers().add(KafkaHeaders.CORRELATION_ID, correlationIdBytes);
-    kafkaTemplate.send(record);
-    log.info(
-        "📤 Ответ отправлен в Kafka: {} (correlation-id = {})",
-        replyTopic,
-        new String(correlationIdBytes));
+    ProducerRecord<String, R> reply = new ProducerRecord<>(replyTopic, response);
+    reply.headers().add(KafkaHeaders.CORRELATION_ID, correlationIdBytes);
+    template.send(reply);
+  }
+
+  private static byte[] headerValue(ConsumerRecord<String, ?> record, String name) {
+    Header header = record.headers().lastHeader(name);
+    return header != null ? header.value() : null;
   }
 }
@@ -0,0 +1,68 @@
+package com.vazant.logix.currency.infrastructure.kafka;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import com.vazant.logix.shared.kafka.config.KafkaTopics;
+import com.vazant.logix.shared.kafka.dto.CurrencyRateSetMessage;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes every refreshed rate set to the log-compacted rates topic.
+ * <p>
+ * Consumers such as the orders service keep a local replica of the latest record and convert
+ * without a request-reply round trip.
+ */
+@Component
+public class CurrencyRatesPublisher {
+
+  private static final Logger log = LoggerFactory.getLogger(CurrencyRatesPublisher.class);
+
+  private final KafkaTemplate<String, CurrencyRateSetMessage> ratesKafkaTemplate;
+  private final CurrencyProperties properties;
+
+  /**
+   * Constructs a new CurrencyRatesPublisher.
+   *
+   * @param ratesKafkaTemplate the Kafka template for rate set messages
+   * @param properties the currency properties
+   */
+  public CurrencyRatesPublisher(
+      KafkaTemplate<String, CurrencyRateSetMessage> ratesKafkaTemplate,
+      CurrencyProperties properties) {
+    this.ratesKafkaTemplate = ratesKafkaTemplate;
+    this.properties = properties;
+  }
+
+  /**
+   * Publishes the given rates as one record keyed by the base currency. Failures are logged only:
+   * consumers keep the previous rate set and fall back to request-reply for unknown currencies.
+   *
+   * @param rates the refreshed rates
+   * @param version the rate set version
+   */
+  public void publish(Collection<CurrencyRate> rates, long version) {
+    Map<String, BigDecimal> values = new HashMap<>(rates.size() * 2);
+    for (CurrencyRate rate : rates) {
+      values.put(rate.getTargetCurrencyCode(), rate.getRate());
+    }
+    String base = properties.getBaseCurrency().toUpperCase();
+    CurrencyRateSetMessage message = new CurrencyRateSetMessage(
+        base, values, version, properties.getScale(), properties.getRoundingMode().name());
+
+    ratesKafkaTemplate.send(KafkaTopics.CURRENCY_RATES, base, message)
+        .whenComplete((result, error) -> {
+          if (error != null) {
+            log.error("Failed to publish rate set {}: {}", version, error.getMessage(), error);
+          } else {
+            log.info("Rate set {} with {} currencies published", version, values.size());
+          }
+        });
+  }
+}
@@ -0,0 +1,206 @@
+package com.vazant.logix.currency.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vazant.logix.currency.application.service.CurrencyApplicationService;
+import com.vazant.logix.currency.domain.model.AvailableCurrencies;
+import com.vazant.logix.currency.domain.model.CurrencyConversion;
+import com.vazant.logix.currency.domain.model.CurrencyRateMatrix;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse.Result;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyControllerTest {
+
+  private static final long VERSION = 1_792_310_400_000L;
+  private static final String ETAG = "\"" + VERSION + "\"";
+
+  @Mock
+  private CurrencyApplicationService currencyService;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .standaloneSetup(new CurrencyController(currencyService, new ObjectMapper()))
+        .build();
+  }
+
+  @Test
+  void getExchangeRate_ShouldCarryETagAndMaxAgeUntilNextRefresh() throws Exception {
+    when(currencyService.peekRatesVersion()).thenReturn(OptionalLong.of(VERSION));
+    when(currencyService.getRate("USD", "PLN", null))
+        .thenReturn(new CurrencyConversion(new BigDecimal("3.9457"), VERSION));
+    when(currencyService.timeUntilNextRefresh()).thenReturn(Duration.ofMinutes(10));
+
+    mockMvc.perform(get("/api/currency/rate").param("from", "USD").param("to", "PLN"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, public"))
+        .andExpect(header().string("X-Rates-Version", String.valueOf(VERSION)))
+        .andExpect(content().string("3.9457"));
+  }
+
+  @Test
+  void getExchangeRate_WithMatchingETag_ShouldReturnNotModifiedWithoutLookup() throws Exception {
+    when(currencyService.peekRatesVersion()).thenReturn(OptionalLong.of(VERSION));
+
+    mockMvc.perform(get("/api/currency/rate").param("from", "USD").param("to", "PLN")
+            .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(content().string(""));
+
+    verify(currencyService).peekRatesVersion();
+    verifyNoMoreInteractions(currencyService);
+  }
+
+  @Test
+  void getExchangeRate_WithStaleETag_ShouldReturnCurrentRate() throws Exception {
+    when(currencyService.peekRatesVersion()).thenReturn(OptionalLong.of(VERSION));
+    when(currencyService.getRate("USD", "PLN", null))
+        .thenReturn(new CurrencyConversion(new BigDecimal("3.9457"), VERSION));
+    when(currencyService.timeUntilNextRefresh()).thenReturn(Duration.ofMinutes(10));
+
+    mockMvc.perform(get("/api/currency/rate").param("from", "USD").param("to", "PLN")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+  }
+
+  @Test
+  void getExchangeRate_AtPointInTime_ShouldNotBeConditionalOrCached() throws Exception {
+    Instant at = Instant.parse("2026-10-01T12:00:00Z");
+    when(currencyService.getRate("USD", "PLN", at))
+        .thenReturn(new CurrencyConversion(new BigDecimal("3.90"), 1_000L));
+
+    mockMvc.perform(get("/api/currency/rate").param("from", "USD").param("to", "PLN")
+            .param("at", at.toString())
+            .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+        .andExpect(header().string("X-Rates-Version", "1000"))
+        .andExpect(content().string("3.90"));
+
+    verify(currencyService, never()).peekRatesVersion();
+  }
+
+  @Test
+  void getExchangeRate_WithoutSnapshotVersion_ShouldNotBeCached() throws Exception {
+    when(currencyService.peekRatesVersion()).thenReturn(OptionalLong.empty());
+    when(currencyService.getRate("USD", "PLN", null))
+        .thenReturn(new CurrencyConversion(new BigDecimal("3.9457"), CurrencyRateMatrix.NO_VERSION));
+
+    mockMvc.perform(get("/api/currency/rate").param("from", "USD").param("to", "PLN")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+  }
+
+  @Test
+  void getAvailableCurrencies_ShouldListSnapshotCurrenciesWithETag() throws Exception {
+    when(currencyService.peekRatesVersion()).thenReturn(OptionalLong.of(VERSION));
+    when(currencyService.getAvailableCurrencies())
+        .thenReturn(new AvailableCurrencies(List.of("EUR", "PLN", "USD"), VERSION));
+    when(currencyService.timeUntilNextRefresh()).thenReturn(Duration.ofSeconds(30));
+
+    mockMvc.perform(get("/api/currency/available"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
+        .andExpect(jsonPath("$.currencies").value("EUR,PLN,USD"));
+  }
+
+  @Test
+  void getAvailableCurrencies_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+    when(currencyService.peekRatesVersion()).thenReturn(OptionalLong.of(VERSION));
+
+    mockMvc.perform(get("/api/currency/available").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isNotModified());
+
+    verify(currencyService, never()).getAvailableCurrencies();
+    verify(currencyService, never()).getRate(any(), any(), any());
+  }
+
+  @Test
+  void convertCurrencyBatch_ShouldStreamResultsWithSnapshotVersion() throws Exception {
+    when(currencyService.convertAll(any(), any())).thenAnswer(invocation -> {
+      Consumer<Result> sink = invocation.getArgument(1);
+      sink.accept(new Result(new BigDecimal("39.46"), null));
+      sink.accept(new Result(null, "Currency rate not found in rate set 3000: JPY"));
+      return VERSION;
+    });
+
+    MvcResult result = mockMvc.perform(post("/api/currency/convert/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"conversions": [
+                  {"from": "USD", "to": "PLN", "amount": 10},
+                  {"from": "USD", "to": "JPY", "amount": 10}
+                ]}"""))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.results[0].result").value(39.46))
+        .andExpect(jsonPath("$.results[0].error").doesNotExist())
+        .andExpect(jsonPath("$.results[1].result").doesNotExist())
+        .andExpect(jsonPath("$.results[1].error").value("Currency rate not found in rate set 3000: JPY"))
+        .andExpect(jsonPath("$.ratesVersion").value(VERSION));
+
+    ArgumentCaptor<List<CurrencyConversionRequest>> conversions = ArgumentCaptor.captor();
+    verify(currencyService).convertAll(conversions.capture(), any());
+    assertThat(conversions.getValue()).containsExactly(
+        new CurrencyConversionRequest("USD", "PLN", BigDecimal.TEN),
+        new CurrencyConversionRequest("USD", "JPY", BigDecimal.TEN));
+  }
+
+  @Test
+  void convertCurrencyBatch_WithTooManyConversions_ShouldReturnBadRequest() throws Exception {
+    String item = "{\"from\": \"USD\", \"to\": \"PLN\", \"amount\": 10}";
+    String body = "{\"conversions\": [" + String.join(",", Collections.nCopies(10_001, item)) + "]}";
+
+    mockMvc.perform(post("/api/currency/convert/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(status().isBadRequest());
+
+    verifyNoMoreInteractions(currencyService);
+  }
+}
@@ -0,0 +1,215 @@
+package com.vazant.logix.currency.application.service;
+
+import com.vazant.logix.currency.application.service.provider.CurrencyProviderClient;
+import com.vazant.logix.currency.application.service.provider.CurrencyProviderClient.FetchedRates;
+import com.vazant.logix.currency.application.service.validation.CurrencyValidationService;
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.domain.model.CurrencyRateMatrix;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyCacheService;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyConversionMemo;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyRateSnapshotHolder;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import com.vazant.logix.currency.infrastructure.history.CurrencyRateHistoryStore;
+import com.vazant.logix.currency.infrastructure.kafka.CurrencyRatesPublisher;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse.Result;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyApplicationServiceTest {
+
+  private static final long VERSION = 3_000L;
+
+  @Mock
+  private CurrencyProviderClient providerClient;
+  @Mock
+  private CurrencyValidationService validationService;
+  @Mock
+  private CurrencyCacheService currencyCacheService;
+  @Mock
+  private CurrencyRateSnapshotHolder snapshotHolder;
+  @Mock
+  private CurrencyRatesPublisher ratesPublisher;
+  @Mock
+  private CurrencyRateHistoryStore historyStore;
+
+  private CurrencyConversionMemo conversionMemo;
+  private CurrencyApplicationService service;
+
+  @BeforeEach
+  void setUp() {
+    CurrencyProperties properties = new CurrencyProperties();
+    properties.setScheduleCron("0 0 * * * *");
+    properties.setBaseCurrency("USD");
+    properties.setScale(2);
+    properties.setRoundingMode(RoundingMode.HALF_EVEN);
+    conversionMemo = new CurrencyConversionMemo(properties);
+    service = new CurrencyApplicationService(providerClient, validationService,
+        currencyCacheService, snapshotHolder, ratesPublisher, historyStore, conversionMemo,
+        properties);
+  }
+
+  @Test
+  void convertAll_ShouldConvertEveryItemAgainstTheSnapshot() {
+    when(snapshotHolder.current()).thenReturn(Optional.of(matrix()));
+
+    CurrencyConversionBatchResponse response = service.convertAll(List.of(
+        request("USD", "PLN", "10"),
+        request("PLN", "EUR", "100"),
+        request("EUR", "EUR", "5.5")));
+
+    assertThat(response.ratesVersion()).isEqualTo(VERSION);
+    assertThat(response.results()).extracting(Result::result).containsExactly(
+        new BigDecimal("39.46"), new BigDecimal("23.34"), new BigDecimal("5.5"));
+    assertThat(response.results()).allMatch(Result::succeeded);
+    verifyNoInteractions(currencyCacheService);
+  }
+
+  @Test
+  void convertAll_WithCurrencyMissingFromSnapshot_ShouldFailOnlyThatItemWithoutRedis() {
+    when(snapshotHolder.current()).thenReturn(Optional.of(matrix()));
+
+    CurrencyConversionBatchResponse response = service.convertAll(List.of(
+        request("USD", "JPY", "10"),
+        request("USD", "PLN", "10")));
+
+    assertThat(response.results().get(0).result()).isNull();
+    assertThat(response.results().get(0).error())
+        .isEqualTo("Currency rate not found in rate set 3000: JPY");
+    assertThat(response.results().get(1).result()).isEqualByComparingTo("39.46");
+    assertThat(response.ratesVersion()).isEqualTo(VERSION);
+    verifyNoInteractions(currencyCacheService);
+  }
+
+  @Test
+  void convertAll_WithoutSnapshot_ShouldFailItemsWithoutRedis() {
+    when(snapshotHolder.current()).thenReturn(Optional.empty());
+
+    CurrencyConversionBatchResponse response =
+        service.convertAll(List.of(request("USD", "PLN", "10")));
+
+    assertThat(response.ratesVersion()).isNull();
+    assertThat(response.results().get(0).error()).isEqualTo("No currency rate snapshot available");
+    verifyNoInteractions(currencyCacheService);
+  }
+
+  @Test
+  void convertAll_ShouldValidateEachItemLikeASingleConversion() {
+    when(snapshotHolder.current()).thenReturn(Optional.of(matrix()));
+
+    CurrencyConversionBatchResponse response = service.convertAll(Arrays.asList(
+        request("USD", "PLN", "0.009"),
+        request("USD", "PLN", "-5"),
+        request("USD", null, "10"),
+        null,
+        request("USD", "PLN", "0.01")));
+
+    assertThat(response.results()).extracting(Result::error).containsExactly(
+        "Amount must be at least 0.01",
+        "Amount must be at least 0.01",
+        "Conversion must specify from, to and amount",
+        "Conversion must specify from, to and amount",
+        null);
+    assertThat(response.results().get(4).result()).isEqualByComparingTo("0.04");
+  }
+
+  @Test
+  void convertAll_ShouldStreamResultsInRequestOrderAndMemoizeThem() {
+    when(snapshotHolder.current()).thenReturn(Optional.of(matrix()));
+    List<Result> streamed = new ArrayList<>();
+
+    Long version = service.convertAll(List.of(
+        request("USD", "PLN", "10"),
+        request("USD", "PLN", "10"),
+        request("PLN", "USD", "10")), streamed::add);
+
+    assertThat(version).isEqualTo(VERSION);
+    assertThat(streamed).extracting(Result::result).containsExactly(
+        new BigDecimal("39.46"), new BigDecimal("39.46"), new BigDecimal("2.53"));
+    assertThat(conversionMemo.snapshot().hits()).isEqualTo(1);
+    verify(snapshotHolder).current();
+  }
+
+  @Test
+  void updateRatesFromProvider_ShouldCommitValidatorsAfterSaving() {
+    AtomicBoolean committed = new AtomicBoolean();
+    when(currencyCacheService.getCurrentVersion()).thenReturn(OptionalLong.of(1L));
+    when(providerClient.fetchRatesAsync(true)).thenReturn(CompletableFuture.completedFuture(
+        Optional.of(new FetchedRates(Map.of("PLN", rate("PLN", "3.9457")),
+            () -> committed.set(true)))));
+
+    service.updateRatesFromProvider();
+
+    verify(currencyCacheService).saveRates(any(), eq(VERSION));
+    verify(ratesPublisher).publish(any(), eq(VERSION));
+    assertThat(committed).isTrue();
+  }
+
+  @Test
+  void updateRatesFromProvider_WhenSaveFails_ShouldFailWithoutCommittingValidators() {
+    AtomicBoolean committed = new AtomicBoolean();
+    when(currencyCacheService.getCurrentVersion()).thenReturn(OptionalLong.of(1L));
+    when(providerClient.fetchRatesAsync(true)).thenReturn(CompletableFuture.completedFuture(
+        Optional.of(new FetchedRates(Map.of("PLN", rate("PLN", "3.9457")),
+            () -> committed.set(true)))));
+    doThrow(new IllegalStateException("Redis down"))
+        .when(currencyCacheService).saveRates(any(), eq(VERSION));
+
+    assertThatThrownBy(() -> service.updateRatesFromProvider())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Redis down");
+    assertThat(committed).isFalse();
+    verifyNoInteractions(snapshotHolder, ratesPublisher, historyStore);
+  }
+
+  @Test
+  void importRates_ShouldSaveAndPublishLikeAProviderUpdate() {
+    List<CurrencyRate> rates = List.of(rate("USD", "1"), rate("PLN", "3.9457"));
+
+    service.importRates(rates);
+
+    verify(currencyCacheService).saveRates(rates, VERSION);
+    verify(historyStore).append(rates, Instant.ofEpochMilli(VERSION));
+    verify(snapshotHolder).publish(any(CurrencyRateMatrix.class));
+    verify(currencyCacheService).publishRatesUpdated();
+    verify(ratesPublisher).publish(rates, VERSION);
+  }
+
+  private static CurrencyRateMatrix matrix() {
+    return CurrencyRateMatrix.of(List.of(
+        rate("USD", "1"), rate("PLN", "3.9457"), rate("EUR", "0.9211")));
+  }
+
+  private static CurrencyRate rate(String code, String value) {
+    return new CurrencyRate(code, new BigDecimal(value), "USD", Instant.ofEpochMilli(VERSION));
+  }
+
+  private static CurrencyConversionRequest request(String from, String to, String amount) {
+    return new CurrencyConversionRequest(from, to, new BigDecimal(amount));
+  }
+}
@@ -0,0 +1,226 @@
+package com.vazant.logix.currency.application.service.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vazant.logix.currency.application.service.provider.CurrencyProviderClient.FetchedRates;
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the client against stub providers served by a local HTTP server.
+ */
+@Timeout(30)
+class CurrencyProviderClientTest {
+
+  private static final String RATES = """
+      {"base": "USD", "timestamp": 1792310400, "rates": {"EUR": 0.9211, "PLN": "3.9457",
+       "BAD": "n/a", "ZERO": 0, "nested": {"x": 1}}}""";
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+
+  private ExecutorService executor;
+  private HttpServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    executor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(executor);
+    server.createContext("/ok", exchange -> {
+      record(exchange);
+      String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+      if ("\"v1\"".equals(ifNoneMatch)) {
+        respond(exchange, 304, null);
+        return;
+      }
+      exchange.getResponseHeaders().add("ETag", "\"v1\"");
+      respond(exchange, 200, RATES);
+    });
+    server.createContext("/fail", exchange -> {
+      record(exchange);
+      respond(exchange, 500, "{}");
+    });
+    server.createContext("/slow", exchange -> {
+      record(exchange);
+      try {
+        release.await(20, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      respond(exchange, 200, RATES);
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldParseRatesFromTheFirstProvider() {
+    CurrencyProviderClient client = client(10_000, provider("primary", "/ok"));
+
+    Map<String, CurrencyRate> rates = client.fetchRatesAsync(false).join().orElseThrow().rates();
+
+    assertThat(rates).containsOnlyKeys("EUR", "PLN");
+    assertThat(rates.get("EUR").getRate()).isEqualByComparingTo("0.9211");
+    assertThat(rates.get("PLN").getRate()).isEqualByComparingTo("3.9457");
+    assertThat(rates.get("PLN").getBaseCurrencyCode()).isEqualTo("USD");
+    assertThat(requests).containsExactly("/ok base=USD&apikey=secret");
+  }
+
+  @Test
+  void shouldReturnEmptyWhenTheProviderAnswersNotModified() {
+    CurrencyProviderClient client = client(10_000, provider("primary", "/ok"));
+    client.fetchRatesAsync(true).join().orElseThrow().commit();
+
+    Optional<FetchedRates> unchanged = client.fetchRatesAsync(true).join();
+    Optional<FetchedRates> unconditional = client.fetchRatesAsync(false).join();
+
+    assertThat(unchanged).isEmpty();
+    assertThat(unconditional).isPresent();
+  }
+
+  @Test
+  void shouldNotSendValidatorsUntilTheyAreCommitted() {
+    CurrencyProviderClient client = client(10_000, provider("primary", "/ok"));
+    client.fetchRatesAsync(true).join();
+
+    Optional<FetchedRates> refetched = client.fetchRatesAsync(true).join();
+
+    assertThat(refetched).isPresent();
+    assertThat(refetched.get().rates()).containsOnlyKeys("EUR", "PLN");
+  }
+
+  @Test
+  void shouldHedgeToTheNextProviderWhenTheFirstIsSlow() {
+    CurrencyProviderClient client = client(100, provider("slow", "/slow"), provider("backup", "/ok"));
+
+    long startedAt = System.nanoTime();
+    Optional<FetchedRates> rates = client.fetchRatesAsync(false).join();
+
+    assertThat(rates).isPresent();
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5_000);
+    assertThat(requests).extracting(request -> request.substring(0, request.indexOf(' ')))
+        .containsExactly("/slow", "/ok");
+  }
+
+  @Test
+  void shouldAskTheNextProviderRightAwayWhenOneFails() {
+    CurrencyProviderClient client =
+        client(60_000, provider("broken", "/fail"), provider("backup", "/ok"));
+
+    Optional<FetchedRates> rates = client.fetchRatesAsync(false).join();
+
+    assertThat(rates).isPresent();
+    assertThat(requests).hasSize(2);
+  }
+
+  @Test
+  void shouldWaitForAStartedProviderAfterAnotherFails() {
+    AtomicInteger calls = new AtomicInteger();
+    server.createContext("/fail-later", exchange -> {
+      record(exchange);
+      calls.incrementAndGet();
+      sleep(200);
+      respond(exchange, 500, "{}");
+    });
+    CurrencyProviderClient client =
+        client(50, provider("slow", "/slow"), provider("failing", "/fail-later"));
+
+    var fetch = client.fetchRatesAsync(false);
+    while (calls.get() == 0) {
+      sleep(10);
+    }
+    sleep(400);
+    assertThat(fetch).isNotDone();
+    release.countDown();
+
+    assertThat(fetch.join()).isPresent();
+  }
+
+  @Test
+  void shouldFailWhenEveryProviderFails() {
+    CurrencyProviderClient client =
+        client(60_000, provider("first", "/fail"), provider("second", "/fail"));
+
+    assertThatThrownBy(() -> client.fetchRatesAsync(false).join())
+        .isInstanceOf(CompletionException.class)
+        .cause()
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("All currency rate providers failed")
+        .satisfies(error -> assertThat(error.getSuppressed()).hasSize(2));
+  }
+
+  private CurrencyProviderClient client(long hedgeDelayMs, CurrencyProperties.Provider... providers) {
+    CurrencyProperties properties = new CurrencyProperties();
+    properties.setBaseCurrency("USD");
+    CurrencyProperties.Rest rest = new CurrencyProperties.Rest();
+    rest.setHedgeDelayMs(hedgeDelayMs);
+    properties.setRest(rest);
+    properties.setProviders(List.of(providers));
+    return new CurrencyProviderClient(properties, new ObjectMapper());
+  }
+
+  private CurrencyProperties.Provider provider(String name, String path) {
+    CurrencyProperties.Provider provider = new CurrencyProperties.Provider();
+    provider.setName(name);
+    provider.setUrl("http://localhost:" + server.getAddress().getPort() + path);
+    provider.setApiKey("secret");
+    return provider;
+  }
+
+  private void record(HttpExchange exchange) {
+    requests.add(exchange.getRequestURI().getPath() + " " + exchange.getRequestURI().getQuery());
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    if (body == null) {
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+      return;
+    }
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
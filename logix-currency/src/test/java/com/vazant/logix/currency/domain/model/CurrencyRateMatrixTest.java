@@ -0,0 +1,146 @@
+package com.vazant.logix.currency.domain.model;
+
+import com.vazant.logix.shared.currency.CurrencyConversions;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyRateMatrixTest {
+
+  private static final List<CurrencyRate> RATES = List.of(
+      rate("USD", "1", 1_000),
+      rate("PLN", "3.9457", 3_000),
+      rate("EUR", "0.9211", 2_000));
+
+  @Test
+  void shouldUseNewestRateTimestampAsVersion() {
+    CurrencyRateMatrix matrix = CurrencyRateMatrix.of(RATES);
+
+    assertThat(matrix.getVersion()).isEqualTo(3_000);
+    assertThat(matrix.size()).isEqualTo(3);
+    assertThat(matrix.getCurrencyCodes()).containsExactlyInAnyOrder("USD", "PLN", "EUR");
+  }
+
+  @Test
+  void shouldPrecomputeCrossFactorsForEveryPair() {
+    CurrencyRateMatrix matrix = CurrencyRateMatrix.of(RATES);
+
+    assertThat(matrix.factor("PLN", "PLN")).isEqualByComparingTo(BigDecimal.ONE);
+    assertThat(matrix.factor("USD", "PLN")).isEqualByComparingTo("3.9457");
+    assertThat(matrix.factor("PLN", "EUR")).isEqualTo(new BigDecimal("0.9211").divide(
+        new BigDecimal("3.9457"), new MathContext(ScaledFactor.MAX_DIGITS, RoundingMode.HALF_EVEN)));
+  }
+
+  @Test
+  void shouldNotKnowCurrenciesOutsideTheSnapshot() {
+    CurrencyRateMatrix matrix = CurrencyRateMatrix.of(RATES);
+
+    assertThat(matrix.factor("USD", "JPY")).isNull();
+    assertThat(matrix.convert("JPY", "USD", BigDecimal.TEN, 2, RoundingMode.HALF_EVEN)).isNull();
+  }
+
+  @Test
+  void shouldConvertWithScaleAndRounding() {
+    CurrencyRateMatrix matrix = CurrencyRateMatrix.of(RATES);
+
+    assertThat(matrix.convert("PLN", "EUR", new BigDecimal("100"), 2, RoundingMode.HALF_EVEN))
+        .isEqualTo(new BigDecimal("23.34"));
+    assertThat(matrix.convert("USD", "PLN", BigDecimal.ONE, 2, RoundingMode.HALF_EVEN))
+        .isEqualTo(new BigDecimal("3.95"));
+  }
+
+  @Test
+  void shouldRoundLikeMultiplyThenDivideNearRoundingBoundaries() {
+    CurrencyRateMatrix matrix = CurrencyRateMatrix.of(List.of(
+        rate("USD", "1", 1_000), rate("EUR", "0.92", 1_000)));
+    BigDecimal amount = new BigDecimal("0.000138");
+
+    assertThat(matrix.convert("EUR", "USD", amount, 4, RoundingMode.HALF_EVEN))
+        .isEqualTo(new BigDecimal("0.0002"))
+        .isEqualTo(CurrencyConversions.convert(
+            amount, new BigDecimal("0.92"), BigDecimal.ONE, 4, RoundingMode.HALF_EVEN));
+  }
+
+  @Test
+  void shouldMatchMultiplyThenDivideForRandomAmountsRatesAndModes() {
+    Random random = new Random(21);
+    RoundingMode[] modes = RoundingMode.values();
+    for (int i = 0; i < 20_000; i++) {
+      BigDecimal fromRate = randomRate(random);
+      BigDecimal toRate = randomRate(random);
+      CurrencyRateMatrix matrix = CurrencyRateMatrix.of(List.of(
+          rate("AAA", fromRate.toPlainString(), 1_000),
+          rate("BBB", toRate.toPlainString(), 1_000)));
+      BigDecimal amount = randomAmount(random);
+      int scale = random.nextInt(9);
+      RoundingMode mode = modes[random.nextInt(modes.length)];
+
+      String expected = outcome(() -> CurrencyConversions.convert(
+          amount, fromRate, toRate, scale, mode));
+      String actual = outcome(() -> matrix.convert("AAA", "BBB", amount, scale, mode));
+
+      assertThat(actual)
+          .as("%s AAA=%s BBB=%s scale %d %s", amount, fromRate, toRate, scale, mode)
+          .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void shouldKeepFirstRateOfDuplicateCurrency() {
+    CurrencyRateMatrix matrix = CurrencyRateMatrix.of(List.of(
+        rate("USD", "1", 1_000), rate("PLN", "4", 1_000), rate("PLN", "5", 1_000)));
+
+    assertThat(matrix.size()).isEqualTo(2);
+    assertThat(matrix.factor("USD", "PLN")).isEqualByComparingTo("4");
+  }
+
+  @Test
+  void shouldRejectRatesWithDifferentBases() {
+    List<CurrencyRate> mixed = List.of(
+        rate("PLN", "3.9457", 1_000),
+        new CurrencyRate("PLN", new BigDecimal("4.3"), "EUR", Instant.ofEpochMilli(1_000)));
+
+    assertThatThrownBy(() -> CurrencyRateMatrix.of(mixed))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("one base currency");
+  }
+
+  // Rates with 1 to 12 significant digits across several magnitudes, including round values
+  // whose cross factors are exact.
+  private static BigDecimal randomRate(Random random) {
+    int digits = 1 + random.nextInt(12);
+    long unscaled = 1 + (long) (random.nextDouble() * (Math.pow(10, digits) - 1));
+    return BigDecimal.valueOf(unscaled, digits - 1 - random.nextInt(5) + 2).stripTrailingZeros();
+  }
+
+  // Amounts from tiny to large, with short decimal tails so results often land on ties.
+  private static BigDecimal randomAmount(Random random) {
+    long unscaled = switch (random.nextInt(3)) {
+      case 0 -> random.nextInt(1_000);
+      case 1 -> random.nextLong(1_000_000_000L);
+      default -> random.nextLong(Long.MAX_VALUE / 10);
+    };
+    BigDecimal amount = BigDecimal.valueOf(unscaled, random.nextInt(10));
+    return random.nextBoolean() ? amount : amount.negate();
+  }
+
+  private static String outcome(Supplier<BigDecimal> conversion) {
+    try {
+      return conversion.get().toString();
+    } catch (ArithmeticException e) {
+      return "ArithmeticException";
+    }
+  }
+
+  private static CurrencyRate rate(String code, String value, long updatedAt) {
+    return new CurrencyRate(code, new BigDecimal(value), "USD", Instant.ofEpochMilli(updatedAt));
+  }
+}
@@ -0,0 +1,49 @@
+package com.vazant.logix.currency.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScaledFactorTest {
+
+  @Test
+  void shouldMatchBigDecimalMultiplicationForEveryRoundingMode() {
+    Random random = new Random(21);
+    for (int i = 0; i < 20_000; i++) {
+      ScaledFactor factor = ScaledFactor.of(
+          BigDecimal.valueOf(1 + random.nextLong(999_999_999_999L), random.nextInt(4, 16)));
+      BigDecimal amount = BigDecimal.valueOf(
+          random.nextLong(-10_000_000_000L, 10_000_000_000L), random.nextInt(0, 5));
+      int scale = random.nextInt(0, 5);
+      for (RoundingMode mode : RoundingMode.values()) {
+        if (mode == RoundingMode.UNNECESSARY) {
+          continue;
+        }
+        assertThat(factor.apply(amount, scale, mode))
+            .as("%s * %s at scale %d %s", amount, factor.value(), scale, mode)
+            .isEqualTo(amount.multiply(factor.value()).setScale(scale, mode));
+      }
+    }
+  }
+
+  @Test
+  void shouldFallBackToBigDecimalForWideAmounts() {
+    ScaledFactor factor = ScaledFactor.of(new BigDecimal("3.9457"));
+    BigDecimal amount = new BigDecimal("123456789012345678901.25");
+
+    assertThat(factor.apply(amount, 2, RoundingMode.HALF_EVEN))
+        .isEqualTo(amount.multiply(factor.value()).setScale(2, RoundingMode.HALF_EVEN));
+  }
+
+  @Test
+  void shouldRejectFactorsThatDoNotFitALong() {
+    assertThatThrownBy(() -> ScaledFactor.of(new BigDecimal("1234567890.1234567890")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ScaledFactor.of(BigDecimal.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
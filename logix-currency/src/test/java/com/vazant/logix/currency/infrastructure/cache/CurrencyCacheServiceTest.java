@@ -0,0 +1,294 @@
+package com.vazant.logix.currency.infrastructure.cache;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CurrencyCacheServiceTest {
+
+  private static final CurrencyRate PLN =
+      new CurrencyRate("PLN", new BigDecimal("3.9457"), "USD", Instant.ofEpochMilli(1_000));
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private RedisConnection connection;
+
+  @Mock
+  private RedisHashCommands hashCommands;
+
+  @Mock
+  private RedisKeyCommands keyCommands;
+
+  @Mock
+  private RedisStringCommands stringCommands;
+
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+
+  @Mock
+  private Cursor<String> cursor;
+
+  @Mock
+  private RedisSerializer<CurrencyRate> serializer;
+
+  private CurrencyProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new CurrencyProperties();
+    properties.setCacheName("currencyRates");
+    properties.setRedis(new CurrencyProperties.RedisTtlProperties());
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get("currencyRates:current")).thenReturn("7");
+    when(redisTemplate.execute(any(RedisCallback.class)))
+        .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+      return List.of();
+    });
+    when(connection.hashCommands()).thenReturn(hashCommands);
+    when(connection.keyCommands()).thenReturn(keyCommands);
+    when(connection.stringCommands()).thenReturn(stringCommands);
+    when(hashCommands.hGet(bytes("currencyRates:v:7"), bytes("PLN"))).thenReturn(bytes("pln"));
+    when(serializer.deserialize(bytes("pln"))).thenReturn(PLN);
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromNearCache() {
+    CurrencyCacheService service = service();
+
+    assertThat(service.getRate("PLN")).isEqualTo(PLN);
+    assertThat(service.getRate("PLN")).isEqualTo(PLN);
+
+    verify(hashCommands, times(1)).hGet(any(), any());
+  }
+
+  @Test
+  void shouldReloadAfterInvalidation() {
+    CurrencyCacheService service = service();
+    service.getRate("PLN");
+
+    service.invalidateNearCache();
+    service.getRate("PLN");
+
+    verify(hashCommands, times(2)).hGet(any(), any());
+  }
+
+  @Test
+  void shouldReloadEntriesOlderThanStalenessBound() {
+    properties.getNearCache().setMaxStalenessSeconds(0);
+    CurrencyCacheService service = service();
+
+    service.getRate("PLN");
+    service.getRate("PLN");
+
+    verify(hashCommands, times(2)).hGet(any(), any());
+  }
+
+  @Test
+  void shouldBypassNearCacheWhenDisabled() {
+    properties.getNearCache().setEnabled(false);
+    CurrencyCacheService service = service();
+
+    service.getRate("PLN");
+    service.getRate("PLN");
+
+    verify(hashCommands, times(2)).hGet(any(), any());
+  }
+
+  @Test
+  void shouldNotCacheMissingRates() {
+    CurrencyCacheService service = service();
+
+    assertThatThrownBy(() -> service.getRate("JPY"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("JPY");
+    assertThatThrownBy(() -> service.getRate("JPY")).isInstanceOf(IllegalStateException.class);
+    verify(hashCommands, times(2)).hGet(any(), any());
+  }
+
+  @Test
+  void shouldClearLocallyAndSignalOtherInstances() {
+    CurrencyCacheService service = service();
+    service.getRate("PLN");
+
+    service.publishRatesUpdated();
+    service.getRate("PLN");
+
+    verify(hashCommands, times(2)).hGet(any(), any());
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(redisTemplate).convertAndSend(
+        eq(properties.getNearCache().getInvalidationChannel()), payload.capture());
+    assertThat(service.isOwnSignal(payload.getValue())).isTrue();
+    assertThat(service().isOwnSignal(payload.getValue())).isFalse();
+  }
+
+  @Test
+  void shouldKeepWorkingWhenSignalCannotBePublished() {
+    CurrencyCacheService service = service();
+    when(redisTemplate.convertAndSend(anyString(), any()))
+        .thenThrow(new IllegalStateException("Redis down"));
+
+    service.publishRatesUpdated();
+
+    assertThat(service.getRate("PLN")).isEqualTo(PLN);
+  }
+
+  @Test
+  void shouldSwapRateSetInOneTransaction() {
+    when(serializer.serialize(PLN)).thenReturn(bytes("pln"));
+    CurrencyCacheService service = service();
+
+    service.saveRates(List.of(PLN), 8);
+
+    long ttl = Duration.ofHours(properties.getRedis().getTtlCurrencyRatesHours()).toSeconds();
+    InOrder inOrder = inOrder(connection, hashCommands, keyCommands, stringCommands);
+    inOrder.verify(connection).multi();
+    inOrder.verify(hashCommands).hMSet(
+        aryEq(bytes("currencyRates:v:8")), argThat(fields -> fields.size() == 1));
+    inOrder.verify(keyCommands).expire(bytes("currencyRates:v:8"), ttl);
+    inOrder.verify(stringCommands).set(
+        aryEq(bytes("currencyRates:current")), aryEq(bytes("8")), any(), any());
+    inOrder.verify(hashCommands).hMSet(
+        aryEq(bytes("currencyRates:meta")), argThat(fields -> fields.size() == 3));
+    inOrder.verify(keyCommands).expire(bytes("currencyRates:meta"), ttl);
+    inOrder.verify(keyCommands).expire(bytes("currencyRates:v:7"), 60);
+    inOrder.verify(connection).exec();
+    verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+  }
+
+  @Test
+  void shouldNotRetireVersionThatIsSavedAgain() {
+    when(serializer.serialize(PLN)).thenReturn(bytes("pln"));
+    CurrencyCacheService service = service();
+
+    service.saveRates(List.of(PLN), 7);
+
+    verify(keyCommands, times(2)).expire(any(), anyLong());
+    verify(keyCommands, never()).expire(bytes("currencyRates:v:7"), 60);
+  }
+
+  @Test
+  void shouldClearNearCacheWhenSavingRates() {
+    when(serializer.serialize(PLN)).thenReturn(bytes("pln"));
+    CurrencyCacheService service = service();
+    service.getRate("PLN");
+
+    service.saveRates(List.of(PLN), 8);
+    service.getRate("PLN");
+
+    verify(hashCommands, times(2)).hGet(any(), any());
+  }
+
+  @Test
+  void shouldReadAllRatesOfTheCurrentVersion() {
+    when(hashCommands.hGetAll(bytes("currencyRates:v:7")))
+        .thenReturn(Map.of(bytes("PLN"), bytes("pln")));
+
+    assertThat(service().getAllRates()).containsExactly(PLN);
+    assertThat(service().getCurrentVersion()).hasValue(7);
+  }
+
+  @Test
+  void shouldReadMetadataWithOneHashRead() {
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.entries("currencyRates:meta"))
+        .thenReturn(Map.of("version", "7", "fetchedAt", "1000", "count", "30"));
+
+    assertThat(service().getMetadata())
+        .contains(new CurrencyRatesMetadata(7L, Instant.ofEpochMilli(1_000), 30));
+  }
+
+  @Test
+  void shouldTreatMissingOrMalformedMetadataAsAbsent() {
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.entries("currencyRates:meta"))
+        .thenReturn(Map.of())
+        .thenReturn(Map.of("version", "7"));
+
+    assertThat(service().getMetadata()).isEmpty();
+    assertThat(service().getMetadata()).isEmpty();
+  }
+
+  @Test
+  void shouldScanLegacyKeysAndReadThemWithOneMget() {
+    when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    doCallRealMethod().when(cursor).forEachRemaining(any());
+    when(cursor.hasNext()).thenReturn(true, true, false);
+    when(cursor.next()).thenReturn("currencyRates::PLN", "currencyRates::EUR");
+    when(stringCommands.mGet(any(byte[][].class))).thenReturn(Arrays.asList(bytes("pln"), null));
+
+    assertThat(service().scanLegacyRates()).containsExactly(PLN);
+
+    ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
+    verify(redisTemplate).scan(options.capture());
+    assertThat(options.getValue().getPattern()).isEqualTo("currencyRates::*");
+    verify(stringCommands, times(1)).mGet(any(byte[][].class));
+    verify(cursor).close();
+  }
+
+  @Test
+  void shouldNotReadValuesWhenNoLegacyKeysExist() {
+    when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    doCallRealMethod().when(cursor).forEachRemaining(any());
+
+    assertThat(service().scanLegacyRates()).isEmpty();
+    verify(stringCommands, never()).mGet(any(byte[][].class));
+  }
+
+  private CurrencyCacheService service() {
+    return new CurrencyCacheService(properties, redisTemplate, serializer);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,102 @@
+package com.vazant.logix.currency.infrastructure.cache;
+
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrencyConversionMemoTest {
+
+  private static final BigDecimal TEN = new BigDecimal("10.00");
+  private static final BigDecimal RESULT = new BigDecimal("39.46");
+
+  @Test
+  void shouldReturnMemoizedResultForTheSameVersion() {
+    CurrencyConversionMemo memo = memo(true, 100);
+
+    assertThat(memo.get(1, "USD", "PLN", TEN)).isNull();
+    memo.put(1, "USD", "PLN", TEN, RESULT);
+
+    assertThat(memo.get(1, "USD", "PLN", TEN)).isEqualTo(RESULT);
+    assertThat(memo.get(1, "PLN", "USD", TEN)).isNull();
+    assertThat(memo.get(1, "USD", "PLN", new BigDecimal("11.00"))).isNull();
+  }
+
+  @Test
+  void shouldStartANewGenerationWhenTheVersionChanges() {
+    CurrencyConversionMemo memo = memo(true, 100);
+    memo.put(1, "USD", "PLN", TEN, RESULT);
+
+    assertThat(memo.get(2, "USD", "PLN", TEN)).isNull();
+    memo.put(2, "USD", "EUR", TEN, new BigDecimal("9.21"));
+
+    assertThat(memo.get(1, "USD", "PLN", TEN)).isNull();
+    assertThat(memo.get(2, "USD", "EUR", TEN)).isEqualByComparingTo("9.21");
+    assertThat(memo.snapshot().version()).isEqualTo(2L);
+    assertThat(memo.snapshot().size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldDropResultsOfAnOlderVersion() {
+    CurrencyConversionMemo memo = memo(true, 100);
+    memo.put(2, "USD", "PLN", TEN, RESULT);
+
+    memo.put(1, "USD", "EUR", TEN, new BigDecimal("9.21"));
+
+    assertThat(memo.snapshot().version()).isEqualTo(2L);
+    assertThat(memo.get(2, "USD", "PLN", TEN)).isEqualTo(RESULT);
+    assertThat(memo.get(1, "USD", "EUR", TEN)).isNull();
+  }
+
+  @Test
+  void shouldClearAFullGeneration() {
+    CurrencyConversionMemo memo = memo(true, 3);
+    for (int i = 0; i < 3; i++) {
+      memo.put(1, "USD", "PLN", BigDecimal.valueOf(i), RESULT);
+    }
+
+    memo.put(1, "USD", "PLN", TEN, RESULT);
+
+    assertThat(memo.snapshot().size()).isEqualTo(1);
+    assertThat(memo.snapshot().clears()).isEqualTo(1);
+    assertThat(memo.get(1, "USD", "PLN", BigDecimal.ZERO)).isNull();
+    assertThat(memo.get(1, "USD", "PLN", TEN)).isEqualTo(RESULT);
+  }
+
+  @Test
+  void shouldCountHitsAndMisses() {
+    CurrencyConversionMemo memo = memo(true, 100);
+    assertThat(memo.snapshot().version()).isNull();
+    assertThat(memo.snapshot().hitRatio()).isZero();
+
+    memo.get(1, "USD", "PLN", TEN);
+    memo.put(1, "USD", "PLN", TEN, RESULT);
+    memo.get(1, "USD", "PLN", TEN);
+    memo.get(1, "USD", "PLN", TEN);
+    memo.get(1, "USD", "EUR", TEN);
+
+    CurrencyConversionMemo.Snapshot snapshot = memo.snapshot();
+    assertThat(snapshot.hits()).isEqualTo(2);
+    assertThat(snapshot.misses()).isEqualTo(2);
+    assertThat(snapshot.hitRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  void shouldNotMemoizeWhenDisabled() {
+    CurrencyConversionMemo memo = memo(false, 100);
+
+    memo.put(1, "USD", "PLN", TEN, RESULT);
+
+    assertThat(memo.get(1, "USD", "PLN", TEN)).isNull();
+    assertThat(memo.snapshot().size()).isZero();
+    assertThat(memo.snapshot().misses()).isZero();
+  }
+
+  private static CurrencyConversionMemo memo(boolean enabled, int maxEntries) {
+    CurrencyProperties properties = new CurrencyProperties();
+    properties.getMemo().setEnabled(enabled);
+    properties.getMemo().setMaxEntries(maxEntries);
+    return new CurrencyConversionMemo(properties);
+  }
+}
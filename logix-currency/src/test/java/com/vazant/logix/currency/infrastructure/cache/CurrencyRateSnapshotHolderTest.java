@@ -0,0 +1,145 @@
+package com.vazant.logix.currency.infrastructure.cache;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.domain.model.CurrencyRateMatrix;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyRateSnapshotHolderTest {
+
+  private static final List<CurrencyRate> RATES = List.of(
+      new CurrencyRate("USD", BigDecimal.ONE, "USD", Instant.ofEpochMilli(5)),
+      new CurrencyRate("PLN", new BigDecimal("3.9457"), "USD", Instant.ofEpochMilli(7)));
+
+  private static final List<CurrencyRate> NEWER_RATES = List.of(
+      new CurrencyRate("USD", BigDecimal.ONE, "USD", Instant.ofEpochMilli(9)),
+      new CurrencyRate("PLN", new BigDecimal("3.9512"), "USD", Instant.ofEpochMilli(9)));
+
+  @Mock
+  private CurrencyCacheService cacheService;
+
+  private CurrencyProperties properties;
+
+  private CurrencyRateSnapshotHolder holder;
+
+  @BeforeEach
+  void setUp() {
+    properties = new CurrencyProperties();
+    holder = new CurrencyRateSnapshotHolder(cacheService, properties);
+  }
+
+  @Test
+  void shouldBuildSnapshotFromRedisOnceAndReuseIt() {
+    when(cacheService.getAllRates()).thenReturn(RATES);
+
+    CurrencyRateMatrix first = holder.current().orElseThrow();
+    CurrencyRateMatrix second = holder.current().orElseThrow();
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.getVersion()).isEqualTo(7);
+    verify(cacheService, times(1)).getAllRates();
+  }
+
+  @Test
+  void shouldRebuildAfterInvalidation() {
+    when(cacheService.getAllRates()).thenReturn(RATES);
+    CurrencyRateMatrix first = holder.current().orElseThrow();
+
+    holder.invalidate();
+
+    assertThat(holder.peek()).isEmpty();
+    assertThat(holder.current()).get().isNotSameAs(first);
+    verify(cacheService, times(2)).getAllRates();
+  }
+
+  @Test
+  void shouldPeekWithoutTouchingRedis() {
+    assertThat(holder.peek()).isEmpty();
+
+    CurrencyRateMatrix published = holder.publish(RATES);
+
+    assertThat(holder.peek()).containsSame(published);
+    verify(cacheService, never()).getAllRates();
+  }
+
+  @Test
+  void shouldStayEmptyWhenNothingIsCachedOrRedisFails() {
+    when(cacheService.getAllRates())
+        .thenReturn(List.of())
+        .thenThrow(new IllegalStateException("Redis down"));
+
+    assertThat(holder.current()).isEmpty();
+    assertThat(holder.current()).isEmpty();
+  }
+
+  @Test
+  void shouldKeepStaleSnapshotWhenRedisHoldsTheSameVersion() {
+    properties.getNearCache().setMaxStalenessSeconds(0);
+    holder = new CurrencyRateSnapshotHolder(cacheService, properties);
+    CurrencyRateMatrix published = holder.publish(RATES);
+    when(cacheService.getCurrentVersion()).thenReturn(OptionalLong.of(7));
+
+    assertThat(holder.current()).containsSame(published);
+    verify(cacheService, never()).getAllRates();
+  }
+
+  @Test
+  void shouldRebuildStaleSnapshotWhenRedisHoldsAnotherVersion() {
+    properties.getNearCache().setMaxStalenessSeconds(0);
+    holder = new CurrencyRateSnapshotHolder(cacheService, properties);
+    holder.publish(RATES);
+    when(cacheService.getCurrentVersion()).thenReturn(OptionalLong.of(9));
+    when(cacheService.getAllRates()).thenReturn(NEWER_RATES);
+
+    assertThat(holder.current()).get().extracting(CurrencyRateMatrix::getVersion).isEqualTo(9L);
+    assertThat(holder.peek()).get().extracting(CurrencyRateMatrix::getVersion).isEqualTo(9L);
+  }
+
+  @Test
+  void shouldServeStaleSnapshotWhenVersionCannotBeRead() {
+    properties.getNearCache().setMaxStalenessSeconds(0);
+    holder = new CurrencyRateSnapshotHolder(cacheService, properties);
+    CurrencyRateMatrix published = holder.publish(RATES);
+    when(cacheService.getCurrentVersion()).thenThrow(new IllegalStateException("Redis down"));
+
+    assertThat(holder.current()).containsSame(published);
+  }
+
+  @Test
+  void shouldNotPublishRebuildThatRacedWithInvalidation() {
+    when(cacheService.getAllRates()).thenAnswer(invocation -> {
+      holder.invalidate();
+      return RATES;
+    });
+
+    assertThat(holder.current()).get().extracting(CurrencyRateMatrix::getVersion).isEqualTo(7L);
+    assertThat(holder.peek()).isEmpty();
+  }
+
+  @Test
+  void shouldNotReplaceSnapshotPublishedDuringRebuild() {
+    when(cacheService.getAllRates()).thenAnswer(invocation -> {
+      holder.publish(NEWER_RATES);
+      return RATES;
+    });
+
+    holder.current();
+
+    assertThat(holder.peek()).get().extracting(CurrencyRateMatrix::getVersion).isEqualTo(9L);
+  }
+}
@@ -0,0 +1,52 @@
+package com.vazant.logix.currency.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyRatesInvalidationListenerTest {
+
+  @Mock
+  private CurrencyCacheService cacheService;
+
+  @Mock
+  private CurrencyRateSnapshotHolder snapshotHolder;
+
+  @InjectMocks
+  private CurrencyRatesInvalidationListener listener;
+
+  @Test
+  void shouldDropNearCacheAndSnapshotOnForeignSignal() {
+    when(cacheService.isOwnSignal("other-instance")).thenReturn(false);
+
+    listener.onMessage(message("other-instance"), null);
+
+    verify(cacheService).invalidateNearCache();
+    verify(snapshotHolder).invalidate();
+  }
+
+  @Test
+  void shouldIgnoreOwnSignal() {
+    when(cacheService.isOwnSignal("this-instance")).thenReturn(true);
+
+    listener.onMessage(message("this-instance"), null);
+
+    verify(cacheService, never()).invalidateNearCache();
+    verify(snapshotHolder, never()).invalidate();
+  }
+
+  private static DefaultMessage message(String payload) {
+    return new DefaultMessage(
+        "currency.rates-updated".getBytes(StandardCharsets.UTF_8),
+        payload.getBytes(StandardCharsets.UTF_8));
+  }
+}
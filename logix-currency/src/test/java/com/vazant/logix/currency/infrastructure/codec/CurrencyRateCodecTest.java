@@ -0,0 +1,101 @@
+package com.vazant.logix.currency.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyRateCodecTest {
+
+  private static final CurrencyRate PLN = new CurrencyRate(
+      "PLN", new BigDecimal("3.945712"), "USD", Instant.parse("2026-10-18T08:00:00.123Z"));
+
+  private Jackson2JsonRedisSerializer<CurrencyRate> json;
+  private CurrencyRateCodec codec;
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    json = new Jackson2JsonRedisSerializer<>(mapper, CurrencyRate.class);
+    codec = new CurrencyRateCodec(json);
+  }
+
+  @Test
+  void shouldRoundTripRates() {
+    for (CurrencyRate rate : List.of(
+        PLN,
+        new CurrencyRate("JPY", new BigDecimal("1.5E+2"), "USD", Instant.ofEpochMilli(0)),
+        new CurrencyRate("BTC", new BigDecimal("0.000015873"), "USD", null),
+        new CurrencyRate("XAU", new BigDecimal("123456789012345678901234567890.5"), "USD",
+            Instant.ofEpochMilli(Long.MAX_VALUE)))) {
+      CurrencyRate decoded = codec.deserialize(codec.serialize(rate));
+
+      assertThat(decoded).isEqualTo(rate);
+      assertThat(decoded.getRate().scale()).isEqualTo(rate.getRate().scale());
+      assertThat(decoded.getUpdatedAt()).isEqualTo(rate.getUpdatedAt());
+    }
+  }
+
+  @Test
+  void shouldBeMuchSmallerThanJson() {
+    byte[] binary = codec.serialize(PLN);
+
+    assertThat(binary).hasSizeLessThanOrEqualTo(24);
+    assertThat(binary.length * 4).isLessThan(json.serialize(PLN).length);
+  }
+
+  @Test
+  void shouldReadEntriesWrittenAsJson() {
+    CurrencyRate decoded = codec.deserialize(json.serialize(PLN));
+
+    assertThat(decoded).isEqualTo(PLN);
+    assertThat(decoded.getUpdatedAt()).isEqualTo(PLN.getUpdatedAt());
+  }
+
+  @Test
+  void shouldShareOneStringPerCurrencyCode() {
+    CurrencyRate first = codec.deserialize(codec.serialize(PLN));
+    CurrencyRate second = codec.deserialize(codec.serialize(PLN));
+
+    assertThat(second.getTargetCurrencyCode()).isSameAs(first.getTargetCurrencyCode());
+    assertThat(second.getBaseCurrencyCode()).isSameAs(first.getBaseCurrencyCode());
+  }
+
+  @Test
+  void shouldRejectTruncatedOrUnknownInput() {
+    byte[] encoded = codec.serialize(PLN);
+    byte[] unknownVersion = encoded.clone();
+    unknownVersion[0] = 0x7F;
+
+    assertThatThrownBy(() -> codec.deserialize(Arrays.copyOf(encoded, encoded.length - 1)))
+        .isInstanceOf(SerializationException.class);
+    assertThatThrownBy(() -> codec.deserialize(unknownVersion))
+        .isInstanceOf(SerializationException.class)
+        .hasRootCauseMessage("Unsupported currency rate format version 127");
+    assertThatThrownBy(() -> codec.deserialize("orders", Arrays.copyOf(encoded, 3)))
+        .isInstanceOf(org.apache.kafka.common.errors.SerializationException.class);
+  }
+
+  @Test
+  void shouldRoundTripThroughKafkaInterfaces() {
+    assertThat(codec.deserialize("currency.rates", codec.serialize("currency.rates", PLN)))
+        .isEqualTo(PLN);
+    assertThat(codec.serialize("currency.rates", null)).isNull();
+    assertThat(codec.deserialize("currency.rates", null)).isNull();
+    assertThat(codec.serialize((CurrencyRate) null)).isNull();
+    assertThat(codec.deserialize(new byte[0])).isNull();
+  }
+}
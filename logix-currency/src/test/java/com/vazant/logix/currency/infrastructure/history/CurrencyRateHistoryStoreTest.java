@@ -0,0 +1,140 @@
+package com.vazant.logix.currency.infrastructure.history;
+
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrencyRateHistoryStoreTest {
+
+  private static final Instant T1 = Instant.parse("2026-10-01T00:00:00Z");
+  private static final Instant T2 = Instant.parse("2026-10-02T00:00:00Z");
+  private static final Instant T3 = Instant.parse("2026-10-03T00:00:00Z");
+
+  @TempDir
+  Path directory;
+
+  private CurrencyRateHistoryStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = open();
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.close();
+  }
+
+  @Test
+  void shouldFindTheRateValidAtAPointInTime() {
+    store.append(List.of(pln("3.90")), T1);
+    store.append(List.of(pln("3.95")), T2);
+    store.append(List.of(pln("4.00")), T3);
+
+    assertThat(store.rateAt("USD", "PLN", T1.minusMillis(1))).isEmpty();
+    assertThat(rate(store.rateAt("USD", "PLN", T1))).isEqualByComparingTo("3.90");
+    assertThat(rate(store.rateAt("USD", "PLN", T2.minusMillis(1)))).isEqualByComparingTo("3.90");
+    assertThat(rate(store.rateAt("usd", "pln", T2))).isEqualByComparingTo("3.95");
+    assertThat(store.rateAt("USD", "PLN", T3.plusSeconds(60)))
+        .get()
+        .satisfies(found -> {
+          assertThat(found.getRate()).isEqualByComparingTo("4.00");
+          assertThat(found.getUpdatedAt()).isEqualTo(T3);
+        });
+    assertThat(store.rateAt("USD", "EUR", T3)).isEmpty();
+  }
+
+  @Test
+  void shouldIgnoreReappendedAndOlderRateSets() {
+    assertThat(store.append(List.of(pln("3.90"), eur("0.92")), T2)).isEqualTo(2);
+
+    assertThat(store.append(List.of(pln("3.99"), eur("0.99")), T2)).isZero();
+    assertThat(store.append(List.of(pln("3.80")), T1)).isZero();
+    assertThat(rate(store.rateAt("USD", "PLN", T3))).isEqualByComparingTo("3.90");
+    assertThat(store.rateAt("USD", "PLN", T1)).isEmpty();
+  }
+
+  @Test
+  void shouldKeepHistoryAcrossReopen() {
+    store.append(List.of(pln("3.90")), T1);
+    store.append(List.of(pln("3.95")), T2);
+    store.close();
+
+    store = open();
+    store.append(List.of(pln("4.00")), T3);
+
+    assertThat(rate(store.rateAt("USD", "PLN", T1))).isEqualByComparingTo("3.90");
+    assertThat(rate(store.rateAt("USD", "PLN", T2))).isEqualByComparingTo("3.95");
+    assertThat(rate(store.rateAt("USD", "PLN", T3))).isEqualByComparingTo("4.00");
+  }
+
+  @Test
+  void shouldGrowPastOneChunk() {
+    int entries = CurrencyRateHistoryStore.CHUNK_RECORDS * 2 + 5;
+    for (int i = 0; i < entries; i++) {
+      store.append(List.of(pln(BigDecimal.valueOf(i + 1, 4).toPlainString())), T1.plusSeconds(i));
+    }
+    store.close();
+    store = open();
+
+    for (int i = 0; i < entries; i += 97) {
+      assertThat(rate(store.rateAt("USD", "PLN", T1.plusSeconds(i).plusMillis(500))))
+          .isEqualByComparingTo(BigDecimal.valueOf(i + 1, 4));
+    }
+    assertThat(rate(store.rateAt("USD", "PLN", T1.plusSeconds(entries))))
+        .isEqualByComparingTo(BigDecimal.valueOf(entries, 4));
+  }
+
+  @Test
+  void shouldSkipRatesWiderThanARecord() {
+    BigDecimal wide = new BigDecimal("3.9457123456789012345678");
+
+    assertThat(store.append(List.of(pln(wide.toPlainString()), eur("0.92")), T1)).isEqualTo(1);
+
+    assertThat(store.rateAt("USD", "PLN", T1)).isEmpty();
+    assertThat(rate(store.rateAt("USD", "EUR", T1))).isEqualByComparingTo("0.92");
+  }
+
+  @Test
+  void shouldDoNothingWhenDisabled() {
+    CurrencyProperties properties = properties();
+    properties.getHistory().setEnabled(false);
+    CurrencyRateHistoryStore disabled = new CurrencyRateHistoryStore(properties);
+
+    assertThat(disabled.append(List.of(pln("3.90")), T1)).isZero();
+    assertThat(disabled.rateAt("USD", "PLN", T1)).isEmpty();
+  }
+
+  private CurrencyRateHistoryStore open() {
+    return new CurrencyRateHistoryStore(properties());
+  }
+
+  private CurrencyProperties properties() {
+    CurrencyProperties properties = new CurrencyProperties();
+    properties.getHistory().setDirectory(directory.toString());
+    return properties;
+  }
+
+  private static BigDecimal rate(Optional<CurrencyRate> rate) {
+    assertThat(rate).isPresent();
+    return rate.get().getRate();
+  }
+
+  private static CurrencyRate pln(String rate) {
+    return new CurrencyRate("PLN", new BigDecimal(rate), "USD", null);
+  }
+
+  private static CurrencyRate eur(String rate) {
+    return new CurrencyRate("EUR", new BigDecimal(rate), "USD", null);
+  }
+}
@@ -0,0 +1,113 @@
+package com.vazant.logix.currency.infrastructure.init;
+
+import com.vazant.logix.currency.application.scheduler.CurrencyRatesUpdater;
+import com.vazant.logix.currency.domain.model.CurrencyRate;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyCacheService;
+import com.vazant.logix.currency.infrastructure.cache.CurrencyRatesMetadata;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyRatesInitializerTest {
+
+  @Mock
+  private CurrencyRatesUpdater updater;
+
+  @Mock
+  private CurrencyCacheService cacheService;
+
+  private CurrencyRatesInitializer initializer;
+
+  @BeforeEach
+  void setUp() {
+    CurrencyProperties properties = new CurrencyProperties();
+    properties.setRedis(new CurrencyProperties.RedisTtlProperties());
+    properties.getRedis().setTtlCurrencyRatesHours(12);
+    initializer = new CurrencyRatesInitializer(updater, cacheService, properties);
+  }
+
+  @Test
+  void shouldSkipUpdateWhenMetadataIsFresh() {
+    when(cacheService.getMetadata()).thenReturn(Optional.of(
+        new CurrencyRatesMetadata(5L, Instant.now().minus(Duration.ofHours(1)), 30)));
+
+    initializer.init();
+
+    verify(updater, never()).updateRates();
+    verify(cacheService, never()).scanLegacyRates();
+  }
+
+  @Test
+  void shouldUpdateWhenMetadataIsStale() {
+    when(cacheService.getMetadata()).thenReturn(Optional.of(
+        new CurrencyRatesMetadata(5L, Instant.now().minus(Duration.ofHours(13)), 30)));
+
+    initializer.init();
+
+    verify(updater).updateRates();
+    verify(cacheService, never()).scanLegacyRates();
+  }
+
+  @Test
+  void shouldUpdateWhenMetadataRecordsNoCurrencies() {
+    when(cacheService.getMetadata())
+        .thenReturn(Optional.of(new CurrencyRatesMetadata(5L, Instant.now(), 0)));
+
+    initializer.init();
+
+    verify(updater).updateRates();
+  }
+
+  @Test
+  void shouldMigrateLegacyKeysAndStillUpdate() {
+    when(cacheService.getMetadata()).thenReturn(Optional.empty());
+    List<CurrencyRate> legacy = List.of(
+        new CurrencyRate("USD", BigDecimal.ONE, "USD", Instant.ofEpochMilli(3_000)),
+        new CurrencyRate("PLN", new BigDecimal("3.9457"), "USD", Instant.ofEpochMilli(4_000)));
+    when(cacheService.scanLegacyRates()).thenReturn(legacy);
+
+    initializer.init();
+
+    verify(updater).importRates(legacy);
+    verify(updater).updateRates();
+  }
+
+  @Test
+  void shouldUpdateWhenMigrationFails() {
+    when(cacheService.getMetadata()).thenReturn(Optional.empty());
+    List<CurrencyRate> legacy = List.of(
+        new CurrencyRate("USD", BigDecimal.ONE, "USD", Instant.ofEpochMilli(3_000)));
+    when(cacheService.scanLegacyRates()).thenReturn(legacy);
+    doThrow(new IllegalStateException("Redis down")).when(updater).importRates(legacy);
+
+    initializer.init();
+
+    verify(updater).updateRates();
+  }
+
+  @Test
+  void shouldUpdateWhenThereIsNothingToMigrate() {
+    when(cacheService.getMetadata()).thenReturn(Optional.empty());
+    when(cacheService.scanLegacyRates()).thenReturn(List.of());
+
+    initializer.init();
+
+    verify(updater, never()).importRates(any());
+    verify(updater).updateRates();
+  }
+}
@@ -0,0 +1,176 @@
+package com.vazant.logix.currency.infrastructure.kafka;
+
+import com.vazant.logix.currency.application.service.CurrencyApplicationService;
+import com.vazant.logix.currency.domain.model.CurrencyConversion;
+import com.vazant.logix.currency.infrastructure.config.CurrencyProperties;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionResponse;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CurrencyConversionListenerTest {
+
+  private static final String TOPIC = "currency.requests";
+
+  @Mock
+  private CurrencyApplicationService service;
+
+  @Mock
+  private KafkaTemplate<String, CurrencyConversionResponse> kafkaTemplate;
+
+  @Mock
+  private KafkaTemplate<String, CurrencyConversionBatchResponse> batchKafkaTemplate;
+
+  private final Queue<ProducerRecord<String, CurrencyConversionResponse>> sent =
+      new ConcurrentLinkedQueue<>();
+  private CurrencyConversionListener listener;
+
+  @BeforeEach
+  void setUp() {
+    CurrencyProperties properties = new CurrencyProperties();
+    properties.setKafka(new CurrencyProperties.KafkaTopics());
+    properties.getKafka().setReplyTopicPrefix("currency.replies.");
+    listener = new CurrencyConversionListener(service, kafkaTemplate, batchKafkaTemplate, properties);
+    when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+      sent.add(invocation.getArgument(0));
+      return new CompletableFuture<>();
+    });
+    when(service.convertWithVersion(any(), any(), any())).thenAnswer(invocation ->
+        new CurrencyConversion(invocation.getArgument(2), 9L));
+  }
+
+  @AfterEach
+  void tearDown() {
+    listener.shutdown();
+  }
+
+  @Test
+  void shouldReplyInOffsetOrderWithinEachPartition() {
+    List<ConsumerRecord<String, CurrencyConversionRequest>> records = new ArrayList<>();
+    for (int offset = 0; offset < 50; offset++) {
+      records.add(request(offset % 3, offset, "c" + offset, null));
+    }
+
+    listener.handleConversionRequests(records);
+
+    assertThat(sent).hasSize(50);
+    for (int partition = 0; partition < 3; partition++) {
+      int p = partition;
+      List<Integer> amounts = sent.stream()
+          .map(reply -> reply.value().result().intValueExact())
+          .filter(offset -> offset % 3 == p)
+          .toList();
+      assertThat(amounts).isSorted().hasSizeGreaterThan(15);
+    }
+  }
+
+  @Test
+  void shouldFlushOnceAfterAllRepliesAreSent() {
+    listener.handleConversionRequests(List.of(
+        request(0, 0, "a", null), request(1, 0, "b", null)));
+
+    InOrder inOrder = inOrder(kafkaTemplate);
+    inOrder.verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+    inOrder.verify(kafkaTemplate).flush();
+  }
+
+  @Test
+  void shouldReplyToRequestedTopicWithCorrelationId() {
+    listener.handleConversionRequests(List.of(
+        request(0, 0, "abc", "orders.replies"), request(0, 1, "def", null)));
+
+    List<ProducerRecord<String, CurrencyConversionResponse>> replies = List.copyOf(sent);
+    assertThat(replies).extracting(ProducerRecord::topic)
+        .containsExactly("orders.replies", "currency.replies.def");
+    assertThat(new String(replies.get(0).headers().lastHeader(KafkaHeaders.CORRELATION_ID).value(),
+        StandardCharsets.UTF_8)).isEqualTo("abc");
+    assertThat(replies.get(0).value().ratesVersion()).isEqualTo(9L);
+  }
+
+  @Test
+  void shouldSkipUnreadableRequestsAndAnswerFailedOnesWithAnError() {
+    when(service.convertWithVersion(eq("USD"), eq("XXX"), any()))
+        .thenThrow(new IllegalStateException("Currency rate not found: XXX"));
+    ConsumerRecord<String, CurrencyConversionRequest> failing = new ConsumerRecord<>(
+        TOPIC, 0, 1, null, new CurrencyConversionRequest("USD", "XXX", BigDecimal.ONE));
+    failing.headers().add(KafkaHeaders.CORRELATION_ID, "failing".getBytes(StandardCharsets.UTF_8));
+
+    listener.handleConversionRequests(List.of(
+        new ConsumerRecord<>(TOPIC, 0, 0, null, null),
+        failing,
+        request(0, 2, "ok", null)));
+
+    List<ProducerRecord<String, CurrencyConversionResponse>> replies = List.copyOf(sent);
+    assertThat(replies).extracting(ProducerRecord::topic)
+        .containsExactly("currency.replies.failing", "currency.replies.ok");
+    assertThat(replies.get(0).value().succeeded()).isFalse();
+    assertThat(replies.get(0).value().error()).isEqualTo("Currency rate not found: XXX");
+    assertThat(replies.get(0).value().result()).isNull();
+    assertThat(replies.get(1).value().succeeded()).isTrue();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldAnswerFailedBatchWithAnErrorForEachConversion() {
+    List<ProducerRecord<String, CurrencyConversionBatchResponse>> batchReplies =
+        new ArrayList<>();
+    when(batchKafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+      batchReplies.add(invocation.getArgument(0));
+      return new CompletableFuture<>();
+    });
+    when(service.convertAll(any())).thenThrow(new IllegalStateException("Snapshot unavailable"));
+    ConsumerRecord<String, CurrencyConversionBatchRequest> batch = new ConsumerRecord<>(
+        "currency.batch-requests", 0, 0, null, new CurrencyConversionBatchRequest(List.of(
+            new CurrencyConversionRequest("USD", "PLN", BigDecimal.ONE),
+            new CurrencyConversionRequest("USD", "EUR", BigDecimal.TEN))));
+    batch.headers().add(KafkaHeaders.CORRELATION_ID, "batch".getBytes(StandardCharsets.UTF_8));
+
+    listener.handleBatchConversionRequests(List.of(batch));
+
+    assertThat(batchReplies).hasSize(1);
+    assertThat(batchReplies.get(0).value().results())
+        .hasSize(2)
+        .allSatisfy(result -> assertThat(result.error()).isEqualTo("Snapshot unavailable"));
+  }
+
+  private static ConsumerRecord<String, CurrencyConversionRequest> request(
+      int partition, long offset, String correlationId, String replyTopic) {
+    ConsumerRecord<String, CurrencyConversionRequest> record = new ConsumerRecord<>(
+        TOPIC, partition, offset, null,
+        new CurrencyConversionRequest("USD", "PLN", BigDecimal.valueOf(offset)));
+    record.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes(StandardCharsets.UTF_8));
+    if (replyTopic != null) {
+      record.headers().add(KafkaHeaders.REPLY_TOPIC, replyTopic.getBytes(StandardCharsets.UTF_8));
+    }
+    return record;
+  }
+}
@@ -9,6 +9,10 @@ public class Constants {
     // Kafka topic names
     public static final String CURRENCY_REQUESTS = "currency.requests";
     public static final String CURRENCY_REPLIES = "currency.replies";
+    public static final String CURRENCY_BATCH_REQUESTS = "currency.batch-requests";
+    public static final String CURRENCY_BATCH_REPLIES = "currency.batch-replies";
+    public static final String CURRENCY_RATES = "currency.rates";
+    public static final String ORDERS_EVENTS = "orders.events";
     // SMTP and server configuration
     public static final int SMTP_PORT = 3025;
     public static final String LOCALHOST = "localhost";
@@ -0,0 +1,33 @@
+package com.vazant.logix.shared.currency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Reference currency conversion shared by the currency service and its consumers.
+ * <p>
+ * Both rates are quoted against the same base currency. The amount is multiplied by the target
+ * rate before dividing by the source rate, so the only rounding is the final one to the requested
+ * scale. Every fast path that converts amounts must give the same result as this method.
+ */
+public final class CurrencyConversions {
+
+  private CurrencyConversions() {}
+
+  /**
+   * Converts an amount between two currencies quoted against a common base.
+   *
+   * @param amount the amount to convert
+   * @param fromRate the rate of the source currency against the base
+   * @param toRate the rate of the target currency against the base
+   * @param scale the scale of the converted amount
+   * @param roundingMode the rounding applied at that scale
+   * @return {@code amount * toRate / fromRate}, rounded once to {@code scale}
+   * @throws ArithmeticException if {@code fromRate} is zero, or the rounding mode is
+   *     {@link RoundingMode#UNNECESSARY} and the result is not exact at {@code scale}
+   */
+  public static BigDecimal convert(
+      BigDecimal amount, BigDecimal fromRate, BigDecimal toRate, int scale, RoundingMode roundingMode) {
+    return amount.multiply(toRate).divide(fromRate, scale, roundingMode);
+  }
+}
@@ -3,9 +3,10 @@ package com.vazant.logix.shared.kafka.config;
 import com.vazant.logix.shared.Constants;
 
 /**
- * Shared Kafka topic names for currency-related messaging.
+ * Shared Kafka topic names.
  * <p>
- * Provides topic names for requests and replies, referencing shared constants.
+ * Provides topic names for single and batched currency requests and replies, the currency rate
+ * feed, and order domain events, referencing shared constants.
  */
 public class KafkaTopics {
   /**
@@ -16,6 +17,22 @@ public class KafkaTopics {
    * Kafka topic for currency conversion replies.
    */
   public static final String CURRENCY_REPLIES = Constants.CURRENCY_REPLIES;
+  /**
+   * Kafka topic for batched currency conversion requests.
+   */
+  public static final String CURRENCY_BATCH_REQUESTS = Constants.CURRENCY_BATCH_REQUESTS;
+  /**
+   * Kafka topic for batched currency conversion replies.
+   */
+  public static final String CURRENCY_BATCH_REPLIES = Constants.CURRENCY_BATCH_REPLIES;
+  /**
+   * Log-compacted Kafka topic holding the latest currency rate set, keyed by base currency.
+   */
+  public static final String CURRENCY_RATES = Constants.CURRENCY_RATES;
+  /**
+   * Kafka topic for order domain events, keyed by order UUID.
+   */
+  public static final String ORDERS_EVENTS = Constants.ORDERS_EVENTS;
 
   /**
    * Default constructor.
@@ -0,0 +1,12 @@
+package com.vazant.logix.shared.kafka.dto;
+
+import java.util.List;
+
+/**
+ * Request DTO carrying many currency conversions in a single record.
+ * <p>
+ * The reply lists one result per conversion, in the same order.
+ *
+ * @param conversions the conversions to perform
+ */
+public record CurrencyConversionBatchRequest(List<CurrencyConversionRequest> conversions) {}
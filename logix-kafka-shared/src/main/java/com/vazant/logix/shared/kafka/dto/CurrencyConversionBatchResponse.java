@@ -0,0 +1,34 @@
+package com.vazant.logix.shared.kafka.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Response DTO for a batched currency conversion.
+ * <p>
+ * Results are matched to the request by index. A conversion that failed carries an error message
+ * instead of an amount, without failing the rest of the batch.
+ *
+ * @param results the conversion results, in request order
+ * @param ratesVersion the version of the rate snapshot used, or null if unknown
+ */
+public record CurrencyConversionBatchResponse(List<Result> results, Long ratesVersion) {
+
+  /**
+   * Outcome of a single conversion within a batch.
+   *
+   * @param result the converted amount, or null if the conversion failed
+   * @param error the failure reason, or null if the conversion succeeded
+   */
+  public record Result(BigDecimal result, String error) {
+
+    /**
+     * Tells whether the conversion succeeded.
+     *
+     * @return true if an amount is present
+     */
+    public boolean succeeded() {
+      return error == null;
+    }
+  }
+}
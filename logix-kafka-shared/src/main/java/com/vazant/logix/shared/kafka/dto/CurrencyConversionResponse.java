@@ -5,8 +5,30 @@ import java.math.BigDecimal;
 /**
  * Response DTO for a currency conversion operation.
  * <p>
- * Contains the result of the currency conversion.
+ * Contains the result of the currency conversion, or an error message if it failed.
  *
- * @param result the converted amount
+ * @param result the converted amount, or null if the conversion failed
+ * @param ratesVersion the version of the rate snapshot used, or null if unknown
+ * @param error the failure reason, or null if the conversion succeeded
  */
-public record CurrencyConversionResponse(BigDecimal result) {}
+public record CurrencyConversionResponse(BigDecimal result, Long ratesVersion, String error) {
+
+  /**
+   * Creates a successful response.
+   *
+   * @param result the converted amount
+   * @param ratesVersion the version of the rate snapshot used, or null if unknown
+   */
+  public CurrencyConversionResponse(BigDecimal result, Long ratesVersion) {
+    this(result, ratesVersion, null);
+  }
+
+  /**
+   * Tells whether the conversion succeeded.
+   *
+   * @return true if an amount is present
+   */
+  public boolean succeeded() {
+    return error == null;
+  }
+}
@@ -0,0 +1,24 @@
+package com.vazant.logix.shared.kafka.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Message carrying a complete set of currency rates, published after every rate refresh.
+ * <p>
+ * Records are keyed by base currency on a log-compacted topic, so the latest record is the
+ * current rate table. The scale and rounding mode let consumers convert exactly like the
+ * currency service does.
+ *
+ * @param baseCurrencyCode the currency all rates are quoted against
+ * @param rates the rate of each currency against the base currency, keyed by currency code
+ * @param version the rate set version, the epoch milliseconds of the newest rate
+ * @param scale the scale of converted amounts
+ * @param roundingMode the {@link java.math.RoundingMode} name used for converted amounts
+ */
+public record CurrencyRateSetMessage(
+    String baseCurrencyCode,
+    Map<String, BigDecimal> rates,
+    long version,
+    int scale,
+    String roundingMode) {}
@@ -2,13 +2,17 @@ package com.vazant.logix.orders.application.service.common;
 
 import com.vazant.logix.orders.domain.common.BaseEntity;
 import com.vazant.logix.orders.domain.common.Updatable;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
+import com.vazant.logix.orders.infrastructure.repository.common.FetchPlan;
 import com.vazant.logix.orders.infrastructure.utils.UuidUtils;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -24,7 +28,7 @@ import org.springframework.util.Assert;
 @RequiredArgsConstructor
 public abstract class AbstractCrudService<T extends BaseEntity & Updatable<T>> implements CrudService<T> {
 
-  private final JpaRepository<T, UUID> repository;
+  private final BaseRepository<T> repository;
   private final Class<T> entityClass;
 
   /**
@@ -36,16 +40,37 @@ public abstract class AbstractCrudService<T extends BaseEntity & Updatable<T>> i
     return entityClass.getSimpleName();
   }
 
+  /**
+   * Returns the fetch plan used by {@link #findByUuid(String)}.
+   * <p>
+   * Subclasses override this when the default single-entity read serializes associations.
+   *
+   * @return the default fetch plan
+   */
+  protected FetchPlan getDefaultFetchPlan() {
+    return FetchPlan.NONE;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public T findByUuid(String uuidStr) {
+    return findByUuid(uuidStr, getDefaultFetchPlan());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public T findByUuid(String uuidStr, FetchPlan plan) {
     Assert.hasText(uuidStr, "UUID string must not be null or empty");
+    Assert.notNull(plan, "Fetch plan must not be null");
     
     UUID uuid = UuidUtils.parse(uuidStr);
-    return repository
-        .findById(uuid)
+    Optional<T> found =
+        plan.isEmpty() ? repository.findById(uuid) : repository.findByUuid(uuid, plan);
+    return found
         .orElseThrow(() -> new IllegalArgumentException(
             String.format("%s not found with UUID: %s", getEntityName(), uuidStr)));
   }
@@ -58,6 +83,14 @@ public abstract class AbstractCrudService<T extends BaseEntity & Updatable<T>> i
     return repository.findAll();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CursorPage<T> findPage(String cursor, Integer size) {
+    return CursorPage.of(repository.scroll(PageCursor.decode(cursor), PageCursor.limit(size)));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -66,6 +99,7 @@ public abstract class AbstractCrudService<T extends BaseEntity & Updatable<T>> i
   public T create(T entity) {
     Assert.notNull(entity, "Entity to create must not be null");
     
+    entity.setVersion(null);
     T saved = repository.save(entity);
     log.info("Created {} with UUID: {}", getEntityName(), saved.getUuid());
     return saved;
@@ -80,7 +114,8 @@ public abstract class AbstractCrudService<T extends BaseEntity & Updatable<T>> i
     Assert.hasText(uuidStr, "UUID string must not be null or empty");
     Assert.notNull(updatedEntity, "Entity to update must not be null");
     
-    T existing = findByUuid(uuidStr);
+    T existing = findByUuid(uuidStr, FetchPlan.NONE);
+    checkVersion(existing, updatedEntity.getVersion());
     existing.updateFrom(updatedEntity);
     existing.setUpdatedAt(LocalDateTime.now());
     T saved = repository.save(existing);
@@ -88,6 +123,25 @@ public abstract class AbstractCrudService<T extends BaseEntity & Updatable<T>> i
     return saved;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @Transactional
+  public T patch(String uuidStr, Long expectedVersion, UnaryOperator<T> changes) {
+    Assert.hasText(uuidStr, "UUID string must not be null or empty");
+    Assert.notNull(changes, "Changes must not be null");
+    
+    T existing = findByUuid(uuidStr, FetchPlan.NONE);
+    checkVersion(existing, expectedVersion);
+    existing.updateFrom(changes.apply(existing));
+    existing.setUpdatedAt(LocalDateTime.now());
+    // Flush here so constraint and version violations surface from this call, not at commit
+    repository.flush();
+    log.info("Patched {} with UUID: {}", getEntityName(), existing.getUuid());
+    return existing;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -123,4 +177,10 @@ public abstract class AbstractCrudService<T extends BaseEntity & Updatable<T>> i
   public long count() {
     return repository.count();
   }
+
+  private void checkVersion(T existing, Long expectedVersion) {
+    if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+      throw new ObjectOptimisticLockingFailureException(entityClass, existing.getUuid());
+    }
+  }
 }
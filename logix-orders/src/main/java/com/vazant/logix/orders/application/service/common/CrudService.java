@@ -2,7 +2,9 @@ package com.vazant.logix.orders.application.service.common;
 
 import com.vazant.logix.orders.domain.common.BaseEntity;
 import com.vazant.logix.orders.domain.common.Updatable;
+import com.vazant.logix.orders.infrastructure.repository.common.FetchPlan;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Interface defining basic CRUD operations for entities.
@@ -23,6 +25,16 @@ public interface CrudService<T extends BaseEntity & Updatable<T>> {
    */
   T findByUuid(String uuidStr);
 
+  /**
+   * Find entity by UUID string, loading the associations of the given fetch plan.
+   *
+   * @param uuidStr the UUID string
+   * @param plan the fetch plan to apply
+   * @return the found entity
+   * @throws IllegalArgumentException if entity not found
+   */
+  T findByUuid(String uuidStr, FetchPlan plan);
+
   /**
    * Find all entities.
    *
@@ -30,6 +42,16 @@ public interface CrudService<T extends BaseEntity & Updatable<T>> {
    */
   List<T> findAll();
 
+  /**
+   * Find a page of entities using keyset pagination ordered by {@code (createdAt, uuid)}.
+   *
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @param size the requested page size, clamped to {@link PageCursor#MAX_SIZE}
+   * @return the page of entities
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  CursorPage<T> findPage(String cursor, Integer size);
+
   /**
    * Create a new entity.
    *
@@ -42,11 +64,27 @@ public interface CrudService<T extends BaseEntity & Updatable<T>> {
    * Update an existing entity.
    *
    * @param uuidStr the UUID string of the entity to update
-   * @param updatedEntity the updated entity data
+   * @param updatedEntity the updated entity data; its version, if set, must match the stored one
    * @return the updated entity
+   * @throws org.springframework.dao.OptimisticLockingFailureException if the entity was changed
+   *     since the given version
    */
   T update(String uuidStr, T updatedEntity);
 
+  /**
+   * Apply a partial update to an existing entity. The updated instance built from the loaded
+   * entity is applied through {@link Updatable#updateFrom}, so the entity's own update rules
+   * hold. Only the columns whose values change are written.
+   *
+   * @param uuidStr the UUID string of the entity to update
+   * @param expectedVersion the version the client last read, or null to skip the check
+   * @param changes builds the updated instance from the loaded entity, without modifying it
+   * @return the updated entity
+   * @throws org.springframework.dao.OptimisticLockingFailureException if the entity was changed
+   *     since the expected version
+   */
+  T patch(String uuidStr, Long expectedVersion, UnaryOperator<T> changes);
+
   /**
    * Delete an entity by UUID string.
    *
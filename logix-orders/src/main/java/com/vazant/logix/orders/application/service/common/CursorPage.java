@@ -0,0 +1,48 @@
+package com.vazant.logix.orders.application.service.common;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Window;
+
+/**
+ * A single page of a keyset-paginated result.
+ *
+ * @param items the entities on this page
+ * @param nextCursor the cursor to request the next page with, {@code null} on the last page
+ * @param hasNext whether more entities follow this page
+ * @param <T> the entity type
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasNext) {
+
+  /**
+   * Builds a page from a scroll window.
+   *
+   * @param window the window returned by the repository
+   * @param <T> the entity type
+   * @return the page
+   */
+  public static <T> CursorPage<T> of(Window<T> window) {
+    List<T> items = window.getContent();
+    if (!window.hasNext() || items.isEmpty()) {
+      return new CursorPage<>(items, null, false);
+    }
+    return new CursorPage<>(items, PageCursor.encode(window.positionAt(items.size() - 1)), true);
+  }
+
+  /**
+   * Builds a page from rows fetched with one row more than the page size.
+   *
+   * @param rows the fetched rows, at most {@code limit + 1}
+   * @param limit the page size
+   * @param cursorOf extracts the cursor of a row
+   * @param <T> the row type
+   * @return the page
+   */
+  public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+    if (rows.size() <= limit) {
+      return new CursorPage<>(rows, null, false);
+    }
+    List<T> items = List.copyOf(rows.subList(0, limit));
+    return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)), true);
+  }
+}
@@ -0,0 +1,124 @@
+package com.vazant.logix.orders.application.service.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * Encodes and decodes opaque keyset pagination cursors.
+ * <p>
+ * A cursor carries the {@code (createdAt, uuid)} pair of the last entity returned on the previous
+ * page. Clients must treat it as an opaque token and pass it back unchanged.
+ */
+public final class PageCursor {
+
+  /** Page size used when the caller does not specify one. */
+  public static final int DEFAULT_SIZE = 50;
+
+  /** Hard upper bound for the page size regardless of what the caller asks for. */
+  public static final int MAX_SIZE = 200;
+
+  private static final String CREATED_AT = "createdAt";
+  private static final String UUID_KEY = "uuid";
+  private static final char SEPARATOR = '|';
+
+  /** Position before the first entity, used when no cursor is supplied. */
+  public static final Keyset START = new Keyset(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0, 0));
+
+  private PageCursor() {}
+
+  /**
+   * Keyset position of an entity: its creation timestamp and UUID.
+   *
+   * @param createdAt the creation timestamp
+   * @param uuid the entity UUID
+   */
+  public record Keyset(LocalDateTime createdAt, UUID uuid) {}
+
+  /**
+   * Decodes a cursor into the keyset of the last entity of the previous page, for queries that
+   * apply the keyset predicate themselves.
+   *
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @return the keyset, {@link #START} for the first page
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public static Keyset keyset(String cursor) {
+    if (!(decode(cursor) instanceof KeysetScrollPosition position) || position.isInitial()) {
+      return START;
+    }
+    Map<String, ?> keys = position.getKeys();
+    return new Keyset((LocalDateTime) keys.get(CREATED_AT), (UUID) keys.get(UUID_KEY));
+  }
+
+  /**
+   * Decodes a cursor into a scroll position.
+   *
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @return the keyset scroll position
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public static ScrollPosition decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return ScrollPosition.keyset();
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid page cursor");
+      }
+      LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+      UUID uuid = UUID.fromString(raw.substring(separator + 1));
+      return ScrollPosition.forward(Map.of(CREATED_AT, createdAt, UUID_KEY, uuid));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid page cursor", e);
+    }
+  }
+
+  /**
+   * Encodes a scroll position into an opaque cursor.
+   *
+   * @param position the position of the last returned entity
+   * @return the cursor, or {@code null} if the position carries no keys
+   */
+  public static String encode(ScrollPosition position) {
+    if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+      return null;
+    }
+    Map<String, ?> keys = keyset.getKeys();
+    return encode((LocalDateTime) keys.get(CREATED_AT), (UUID) keys.get(UUID_KEY));
+  }
+
+  /**
+   * Encodes the keyset of the last entity of a page into an opaque cursor.
+   *
+   * @param createdAt the creation timestamp of the entity
+   * @param uuid the UUID of the entity
+   * @return the cursor
+   */
+  public static String encode(LocalDateTime createdAt, UUID uuid) {
+    String raw = createdAt + String.valueOf(SEPARATOR) + uuid;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Resolves the effective page size.
+   *
+   * @param size the requested size, may be {@code null}
+   * @return the size clamped to {@code [1, MAX_SIZE]}
+   */
+  public static int limit(Integer size) {
+    if (size == null) {
+      return DEFAULT_SIZE;
+    }
+    return Math.max(1, Math.min(size, MAX_SIZE));
+  }
+}
@@ -1,22 +1,48 @@
 package com.vazant.logix.orders.application.service.order;
 
 import com.vazant.logix.orders.application.service.common.CrudService;
+import com.vazant.logix.orders.application.service.common.CursorPage;
+import com.vazant.logix.orders.application.service.common.PageCursor;
 import com.vazant.logix.orders.domain.customer.Customer;
+import com.vazant.logix.orders.domain.event.DomainEventPublisher;
+import com.vazant.logix.orders.domain.event.OrderStatusChangedEvent;
 import com.vazant.logix.orders.domain.order.Order;
 import com.vazant.logix.orders.domain.order.OrderStatus;
+import com.vazant.logix.orders.domain.order.OrderStatusConflictException;
 import com.vazant.logix.orders.domain.organization.Organization;
 import com.vazant.logix.orders.domain.product.Product;
+import com.vazant.logix.orders.dto.order.OrderBatchResponse;
+import com.vazant.logix.orders.dto.order.OrderBatchResult;
+import com.vazant.logix.orders.dto.order.OrderDetail;
 import com.vazant.logix.orders.dto.order.OrderRequest;
+import com.vazant.logix.orders.dto.order.OrderStatusTransitionResponse;
+import com.vazant.logix.orders.dto.order.OrderStatusTransitionResult;
+import com.vazant.logix.orders.dto.order.OrderStatusView;
+import com.vazant.logix.orders.dto.order.OrderSummary;
 import com.vazant.logix.orders.infrastructure.repository.customer.CustomerRepository;
 import com.vazant.logix.orders.infrastructure.repository.order.OrderRepository;
 import com.vazant.logix.orders.infrastructure.repository.product.ProductRepository;
 import com.vazant.logix.orders.infrastructure.utils.UuidUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 /**
  * Business service for order operations.
@@ -33,6 +59,10 @@ public class OrderBusinessService {
   private final ProductRepository productRepository;
   private final OrderRepository orderRepository;
   private final OrderCreationService orderCreationService;
+  private final Validator validator;
+
+  /** Maximum number of orders accepted in a single batch submission. */
+  public static final int MAX_BATCH_SIZE = 5000;
 
   /**
    * Creates a new order from request.
@@ -45,48 +75,253 @@ public class OrderBusinessService {
     return orderCrudService.create(orderCreationService.createOrder(request, organization));
   }
 
+  /**
+   * Creates orders from a batch of requests.
+   * <p>
+   * Requests are validated together and their customers and products are resolved with bulk
+   * queries. Valid orders are persisted in one transaction through JDBC batching; invalid records
+   * are rejected individually without failing the rest of the batch.
+   *
+   * @param requests the order requests
+   * @param organization the organization
+   * @return the per-record results
+   * @throws IllegalArgumentException if the batch exceeds {@link #MAX_BATCH_SIZE}
+   */
+  public OrderBatchResponse createOrders(List<OrderRequest> requests, Organization organization) {
+    Assert.notNull(requests, "Order requests must not be null");
+    if (requests.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("Batch size %d exceeds the maximum of %d", requests.size(), MAX_BATCH_SIZE));
+    }
+
+    OrderBatchResult[] results = new OrderBatchResult[requests.size()];
+    List<OrderRequest> valid = new ArrayList<>(requests.size());
+    List<Integer> validIndexes = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      String violations = validate(requests.get(i));
+      if (violations != null) {
+        results[i] = OrderBatchResult.rejected(i, violations);
+      } else {
+        valid.add(requests.get(i));
+        validIndexes.add(i);
+      }
+    }
+
+    List<OrderCreationResult> built = orderCreationService.createOrders(valid, organization);
+    List<Order> orders = new ArrayList<>(built.size());
+    List<Integer> orderIndexes = new ArrayList<>(built.size());
+    for (int i = 0; i < built.size(); i++) {
+      int index = validIndexes.get(i);
+      OrderCreationResult result = built.get(i);
+      if (result.isSuccess()) {
+        orders.add(result.order());
+        orderIndexes.add(index);
+      } else {
+        results[index] = OrderBatchResult.rejected(index, result.error());
+      }
+    }
+
+    List<Order> saved = orderRepository.saveAll(orders);
+    orderRepository.flush();
+    for (int i = 0; i < saved.size(); i++) {
+      int index = orderIndexes.get(i);
+      results[index] = OrderBatchResult.created(index, saved.get(i).getUuid());
+    }
+
+    OrderBatchResponse response = OrderBatchResponse.of(Arrays.asList(results));
+    log.info("Batch order submission: {} created, {} rejected",
+        response.created(), response.rejected());
+    return response;
+  }
+
   /**
    * Updates order status.
+   * <p>
+   * The transition is applied as a single conditional UPDATE that only matches while the order is
+   * still in a status allowed by {@link OrderStatus#canTransitionTo}, so concurrent transitions
+   * cannot overwrite each other. The status-changed event is raised only when the row was updated.
    *
    * @param orderId the order ID
    * @param status the new status
    * @return the updated order
+   * @throws IllegalArgumentException if the order does not exist
+   * @throws OrderStatusConflictException if the order is not in a status that allows the transition
    */
   public Order updateStatus(String orderId, OrderStatus status) {
-    Order order = orderCrudService.findByUuid(orderId);
-    order.setStatus(status);
-    order.setUpdatedAt(LocalDateTime.now());
-    return orderCrudService.update(orderId, order);
+    Assert.notNull(status, "Order status must not be null");
+    UUID uuid = UuidUtils.parse(orderId);
+
+    Set<OrderStatus> allowedFrom = status.allowedSources();
+    if (allowedFrom.size() != 1) {
+      // Several possible sources: pin the observed one so the event reports the real previous status
+      OrderStatus current = findStatus(uuid);
+      if (!current.canTransitionTo(status)) {
+        throw new OrderStatusConflictException(uuid, current, status);
+      }
+      allowedFrom = Set.of(current);
+    }
+
+    int updated = orderRepository.compareAndSetStatus(
+        List.of(uuid), allowedFrom, status, LocalDateTime.now());
+    if (updated == 0) {
+      throw new OrderStatusConflictException(uuid, findStatus(uuid), status);
+    }
+    OrderStatus previous = allowedFrom.iterator().next();
+    DomainEventPublisher.publish(new OrderStatusChangedEvent(uuid.toString(), previous, status));
+    return orderCrudService.findByUuid(orderId, OrderRepository.FULL);
+  }
+
+  /**
+   * Moves many orders to a new status.
+   * <p>
+   * Orders are moved with one conditional UPDATE per source status and no row locks. When the
+   * target can only be reached from one status, that is the only statement; otherwise current
+   * statuses are read first so each event reports the status the order really moved from. Only
+   * the orders an UPDATE did not move are read back, so they can be reported as unknown or not in
+   * a status that allows the transition without failing the rest.
+   *
+   * @param orderIds the order UUIDs
+   * @param status the new status
+   * @return the per-order results
+   * @throws IllegalArgumentException if the request exceeds {@link #MAX_BATCH_SIZE} orders
+   */
+  public OrderStatusTransitionResponse updateStatuses(List<UUID> orderIds, OrderStatus status) {
+    Assert.notNull(orderIds, "Order UUIDs must not be null");
+    Assert.notNull(status, "Order status must not be null");
+    if (orderIds.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("Batch size %d exceeds the maximum of %d", orderIds.size(), MAX_BATCH_SIZE));
+    }
+
+    Set<UUID> uuids = new LinkedHashSet<>(orderIds);
+    Map<UUID, OrderStatusTransitionResult> outcomes = new HashMap<>();
+    Map<OrderStatus, List<UUID>> bySource = new EnumMap<>(OrderStatus.class);
+    Set<OrderStatus> sources = status.allowedSources();
+    if (sources.size() == 1) {
+      bySource.put(sources.iterator().next(), new ArrayList<>(uuids));
+    } else {
+      Map<UUID, OrderStatus> current = new HashMap<>();
+      for (OrderStatusView view : orderRepository.findStatuses(uuids)) {
+        current.put(view.uuid(), view.status());
+      }
+      for (UUID uuid : uuids) {
+        OrderStatus from = current.get(uuid);
+        if (from != null && from.canTransitionTo(status)) {
+          bySource.computeIfAbsent(from, key -> new ArrayList<>()).add(uuid);
+        } else {
+          outcomes.put(uuid, rejection(uuid, from, status));
+        }
+      }
+    }
+
+    // Stamp the update so rows it moved can be told apart from rows that were already there
+    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    bySource.forEach((from, group) -> {
+      int updated = orderRepository.compareAndSetStatus(group, Set.of(from), status, now);
+      Map<UUID, OrderStatus> unmatched = new HashMap<>();
+      if (updated < group.size()) {
+        for (OrderStatusView view : orderRepository.findStatusesNotSetAt(group, status, now)) {
+          unmatched.put(view.uuid(), view.status());
+        }
+      }
+      List<UUID> moved = new ArrayList<>(updated);
+      for (UUID uuid : group) {
+        OrderStatus observed = unmatched.get(uuid);
+        if (observed != null) {
+          outcomes.put(uuid, rejection(uuid, observed, status));
+        } else {
+          moved.add(uuid);
+        }
+      }
+      if (moved.size() > updated) {
+        // Some of the remaining orders do not exist: they are the ones without a row at all
+        Set<UUID> existing = orderRepository.findStatuses(moved).stream()
+            .map(OrderStatusView::uuid)
+            .collect(Collectors.toSet());
+        moved.removeIf(uuid -> {
+          if (existing.contains(uuid)) {
+            return false;
+          }
+          outcomes.put(uuid, rejection(uuid, null, status));
+          return true;
+        });
+      }
+      for (UUID uuid : moved) {
+        outcomes.put(uuid, OrderStatusTransitionResult.transitioned(uuid, from));
+        DomainEventPublisher.publish(new OrderStatusChangedEvent(uuid.toString(), from, status));
+      }
+    });
+
+    List<OrderStatusTransitionResult> results = uuids.stream().map(outcomes::get).toList();
+    OrderStatusTransitionResponse response = OrderStatusTransitionResponse.of(status, results);
+    log.info("Bulk status transition to {}: {} transitioned, {} rejected",
+        status, response.transitioned(), response.rejected());
+    return response;
   }
 
   /**
-   * Finds orders by customer.
+   * Finds a page of order summaries by customer.
    *
    * @param customerId the customer ID
-   * @return list of orders
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @param size the requested page size
+   * @return page of order summaries
    */
-  public List<Order> findByCustomer(String customerId) {
-    return orderRepository.findByCustomerUuid(UuidUtils.parse(customerId));
+  @Transactional(readOnly = true)
+  public CursorPage<OrderSummary> findByCustomer(String customerId, String cursor, Integer size) {
+    PageCursor.Keyset after = PageCursor.keyset(cursor);
+    int limit = PageCursor.limit(size);
+    return summaryPage(orderRepository.findSummariesByCustomerUuid(
+        UuidUtils.parse(customerId), after.createdAt(), after.uuid(), Limit.of(limit + 1)), limit);
   }
 
   /**
-   * Finds orders by status.
+   * Finds a page of order summaries by status.
    *
    * @param status the order status
-   * @return list of orders
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @param size the requested page size
+   * @return page of order summaries
    */
-  public List<Order> findByStatus(OrderStatus status) {
-    return orderRepository.findByStatus(status);
+  @Transactional(readOnly = true)
+  public CursorPage<OrderSummary> findByStatus(OrderStatus status, String cursor, Integer size) {
+    PageCursor.Keyset after = PageCursor.keyset(cursor);
+    int limit = PageCursor.limit(size);
+    return summaryPage(orderRepository.findSummariesByStatus(
+        status, after.createdAt(), after.uuid(), Limit.of(limit + 1)), limit);
   }
 
   /**
-   * Finds orders by organization.
+   * Finds a page of order summaries by organization.
    *
    * @param organizationId the organization ID
-   * @return list of orders
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @param size the requested page size
+   * @return page of order summaries
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<OrderSummary> findByOrganization(
+      String organizationId, String cursor, Integer size) {
+    PageCursor.Keyset after = PageCursor.keyset(cursor);
+    int limit = PageCursor.limit(size);
+    return summaryPage(orderRepository.findSummariesByOrganizationUuid(
+        UuidUtils.parse(organizationId), after.createdAt(), after.uuid(), Limit.of(limit + 1)),
+        limit);
+  }
+
+  /**
+   * Finds an order with its lines as a read-only projection.
+   *
+   * @param orderId the order ID
+   * @return the order detail
+   * @throws IllegalArgumentException if order not found
    */
-  public List<Order> findByOrganization(String organizationId) {
-    return orderRepository.findByOrganizationUuid(UuidUtils.parse(organizationId));
+  @Transactional(readOnly = true)
+  public OrderDetail findDetails(String orderId) {
+    UUID uuid = UuidUtils.parse(orderId);
+    OrderDetail detail = orderRepository.findDetailByUuid(uuid)
+        .orElseThrow(() -> new IllegalArgumentException("Order not found with UUID: " + orderId));
+    return detail.withItems(orderRepository.findLinesByOrderUuid(uuid));
   }
 
   /**
@@ -112,4 +347,36 @@ public class OrderBusinessService {
     return productRepository.findById(UuidUtils.parse(productId))
         .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
   }
-} 
\ No newline at end of file
+
+  private static OrderStatusTransitionResult rejection(
+      UUID uuid, OrderStatus current, OrderStatus target) {
+    if (current == null) {
+      return OrderStatusTransitionResult.rejected(uuid, null, "Order not found");
+    }
+    return OrderStatusTransitionResult.rejected(
+        uuid, current, "Cannot change status from " + current + " to " + target);
+  }
+
+  private OrderStatus findStatus(UUID uuid) {
+    return orderRepository.findStatusByUuid(uuid)
+        .orElseThrow(() -> new IllegalArgumentException("Order not found with UUID: " + uuid));
+  }
+
+  private CursorPage<OrderSummary> summaryPage(List<OrderSummary> rows, int limit) {
+    return CursorPage.of(rows, limit, row -> PageCursor.encode(row.createdAt(), row.uuid()));
+  }
+
+  private String validate(OrderRequest request) {
+    if (request == null) {
+      return "Order request must not be null";
+    }
+    Set<ConstraintViolation<OrderRequest>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+}
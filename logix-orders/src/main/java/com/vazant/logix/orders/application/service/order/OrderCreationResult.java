@@ -0,0 +1,41 @@
+package com.vazant.logix.orders.application.service.order;
+
+import com.vazant.logix.orders.domain.order.Order;
+
+/**
+ * Outcome of building a single order within a batch.
+ *
+ * @param order the built order, {@code null} if the request was rejected
+ * @param error the rejection reason, {@code null} on success
+ */
+public record OrderCreationResult(Order order, String error) {
+
+  /**
+   * Creates a successful result.
+   *
+   * @param order the built order
+   * @return the result
+   */
+  public static OrderCreationResult success(Order order) {
+    return new OrderCreationResult(order, null);
+  }
+
+  /**
+   * Creates a failed result.
+   *
+   * @param error the rejection reason
+   * @return the result
+   */
+  public static OrderCreationResult failure(String error) {
+    return new OrderCreationResult(null, error);
+  }
+
+  /**
+   * Returns whether the order was built.
+   *
+   * @return true on success
+   */
+  public boolean isSuccess() {
+    return order != null;
+  }
+}
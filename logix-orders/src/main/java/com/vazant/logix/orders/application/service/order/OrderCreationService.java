@@ -1,5 +1,6 @@
 package com.vazant.logix.orders.application.service.order;
 
+import com.vazant.logix.orders.domain.common.BaseEntity;
 import com.vazant.logix.orders.domain.customer.Customer;
 import com.vazant.logix.orders.domain.order.Item;
 import com.vazant.logix.orders.domain.order.ItemBuilder;
@@ -8,9 +9,18 @@ import com.vazant.logix.orders.domain.order.OrderBuilder;
 import com.vazant.logix.orders.domain.organization.Organization;
 import com.vazant.logix.orders.domain.product.Product;
 import com.vazant.logix.orders.dto.order.OrderRequest;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 import com.vazant.logix.orders.infrastructure.repository.customer.CustomerRepository;
 import com.vazant.logix.orders.infrastructure.repository.product.ProductRepository;
 import com.vazant.logix.orders.infrastructure.utils.UuidUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,6 +40,9 @@ public class OrderCreationService {
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
 
+    /** Maximum number of identifiers bound into a single lookup query. */
+    static final int LOOKUP_CHUNK_SIZE = 500;
+
     /**
      * Creates a new order from request and organization.
      *
@@ -47,12 +60,58 @@ public class OrderCreationService {
         
         Customer customer = getCustomer(request.customerUuid());
         Order order = buildOrder(request, organization, customer);
-        addItems(order, request);
+        addItems(order, request, getProducts(request));
         
         log.info("Successfully created order: {}", order.getUuid());
         return order;
     }
 
+    /**
+     * Builds orders for a batch of requests.
+     * <p>
+     * Customers and products referenced by the whole batch are resolved with chunked bulk queries.
+     * A request that references an unknown or malformed entity is reported in its own result and
+     * does not affect the other requests.
+     *
+     * @param requests the order requests
+     * @param organization the organization
+     * @return one result per request, in request order
+     */
+    public List<OrderCreationResult> createOrders(List<OrderRequest> requests, Organization organization) {
+        Assert.notNull(requests, "Order requests must not be null");
+        Assert.notNull(organization, "Organization must not be null");
+
+        Set<UUID> customerUuids = new LinkedHashSet<>();
+        Set<UUID> productUuids = new LinkedHashSet<>();
+        for (OrderRequest request : requests) {
+            addIfValid(customerUuids, request.customerUuid());
+            request.items().forEach(item -> addIfValid(productUuids, item.productUuid()));
+        }
+        Map<UUID, Customer> customers = findAllInChunks(customerRepository, customerUuids);
+        Map<UUID, Product> products = findAllInChunks(productRepository, productUuids);
+
+        List<OrderCreationResult> results = new ArrayList<>(requests.size());
+        for (OrderRequest request : requests) {
+            try {
+                Customer customer = customers.get(UuidUtils.parse(request.customerUuid()));
+                if (customer == null) {
+                    throw new IllegalArgumentException(
+                            "Customer not found with UUID: " + request.customerUuid());
+                }
+                requireProducts(request, products);
+                Order order = buildOrder(request, organization, customer);
+                addItems(order, request, products);
+                results.add(OrderCreationResult.success(order));
+            } catch (IllegalArgumentException e) {
+                results.add(OrderCreationResult.failure(e.getMessage()));
+            }
+        }
+        log.info("Built {} of {} orders in batch for organization: {}",
+                results.stream().filter(OrderCreationResult::isSuccess).count(),
+                requests.size(), organization.getUuid());
+        return results;
+    }
+
     private Customer getCustomer(String customerUuid) {
         Assert.hasText(customerUuid, "Customer UUID must not be null or empty");
         
@@ -70,9 +129,9 @@ public class OrderCreationService {
                 .build();
     }
 
-    private void addItems(Order order, OrderRequest request) {
+    private void addItems(Order order, OrderRequest request, Map<UUID, Product> products) {
         for (var itemRequest : request.items()) {
-            Product product = getProduct(itemRequest.productUuid());
+            Product product = products.get(UuidUtils.parse(itemRequest.productUuid()));
             Item item = ItemBuilder.item()
                     .order(order)
                     .product(product)
@@ -83,10 +142,53 @@ public class OrderCreationService {
         }
     }
 
-    private Product getProduct(String productUuid) {
-        Assert.hasText(productUuid, "Product UUID must not be null or empty");
-        
-        return productRepository.findById(UuidUtils.parse(productUuid))
-                .orElseThrow(() -> new IllegalArgumentException("Product not found with UUID: " + productUuid));
+    /**
+     * Loads all products referenced by the request with one query per chunk of identifiers.
+     *
+     * @param request the order request
+     * @return products keyed by UUID
+     * @throws IllegalArgumentException if any referenced product does not exist
+     */
+    private Map<UUID, Product> getProducts(OrderRequest request) {
+        Set<UUID> productUuids = new LinkedHashSet<>();
+        for (var itemRequest : request.items()) {
+            Assert.hasText(itemRequest.productUuid(), "Product UUID must not be null or empty");
+            productUuids.add(UuidUtils.parse(itemRequest.productUuid()));
+        }
+
+        Map<UUID, Product> products = findAllInChunks(productRepository, productUuids);
+        requireProducts(request, products);
+        return products;
+    }
+
+    private void requireProducts(OrderRequest request, Map<UUID, Product> products) {
+        List<UUID> missing = request.items().stream()
+                .map(item -> UuidUtils.parse(item.productUuid()))
+                .distinct()
+                .filter(uuid -> !products.containsKey(uuid))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Products not found with UUIDs: " + missing);
+        }
+    }
+
+    private static void addIfValid(Set<UUID> uuids, String uuidString) {
+        UUID uuid = UuidUtils.parseOrNull(uuidString);
+        if (uuid != null) {
+            uuids.add(uuid);
+        }
+    }
+
+    private static <T extends BaseEntity> Map<UUID, T> findAllInChunks(
+            BaseRepository<T> repository, Collection<UUID> uuids) {
+        List<UUID> ids = new ArrayList<>(uuids);
+        Map<UUID, T> entities = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + LOOKUP_CHUNK_SIZE, ids.size());
+            for (T entity : repository.findAllById(ids.subList(from, to))) {
+                entities.put(entity.getUuid(), entity);
+            }
+        }
+        return entities;
     }
-} 
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.vazant.logix.orders.application.service.order;
 
 import com.vazant.logix.orders.application.service.common.AbstractCrudService;
 import com.vazant.logix.orders.domain.order.Order;
+import com.vazant.logix.orders.infrastructure.repository.common.FetchPlan;
 import com.vazant.logix.orders.infrastructure.repository.order.OrderRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,4 +26,12 @@ public class OrderService extends AbstractCrudService<Order> {
   protected String getEntityName() {
     return Constants.ENTITY_ORDER;
   }
+
+  /**
+   * Single-order reads serialize the whole aggregate, so load it in one query.
+   */
+  @Override
+  protected FetchPlan getDefaultFetchPlan() {
+    return OrderRepository.FULL;
+  }
 }
@@ -1,5 +1,6 @@
 package com.vazant.logix.orders.domain.common;
 
+import com.vazant.logix.orders.infrastructure.repository.common.TimeOrderedUuid;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -10,14 +11,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 /**
  * Base class for all JPA entities in the system.
  * <p>
- * Provides UUID as primary key and auditing fields for creation and update timestamps.
+ * Provides a time-ordered UUIDv7 as primary key, auditing fields for creation and update
+ * timestamps, and a version used for optimistic locking.
  */
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @TimeOrderedUuid
   @Column(updatable = false, nullable = false)
   private UUID uuid;
 
@@ -32,6 +34,10 @@ public abstract class BaseEntity {
   @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
   private LocalDateTime updatedAt;
 
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
   /**
    * Returns the unique identifier (UUID) of the entity.
    *
@@ -67,4 +73,23 @@ public abstract class BaseEntity {
   public void setUpdatedAt(LocalDateTime updatedAt) {
     this.updatedAt = updatedAt;
   }
+
+  /**
+   * Returns the optimistic locking version of the entity.
+   *
+   * @return the version, or null if the entity has not been persisted
+   */
+  public Long getVersion() {
+    return version;
+  }
+
+  /**
+   * Sets the version a client last read. Services compare it with the stored version to reject
+   * updates based on stale data; it never overrides the stored version.
+   *
+   * @param version the version the client last read
+   */
+  public void setVersion(Long version) {
+    this.version = version;
+  }
 }
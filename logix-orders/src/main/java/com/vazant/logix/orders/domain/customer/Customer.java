@@ -11,6 +11,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing a customer in the system.
@@ -18,6 +19,7 @@ import jakarta.validation.constraints.Size;
  * Stores personal and contact information for a customer and supports updating from another instance.
  */
 @Entity
+@DynamicUpdate
 @Table(name = Constants.ENTITY_CUSTOMER)
 public class Customer extends BaseEntity implements Updatable<Customer> {
 
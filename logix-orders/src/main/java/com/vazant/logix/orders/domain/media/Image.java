@@ -7,6 +7,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing an image associated with other domain objects.
@@ -14,6 +15,7 @@ import jakarta.validation.constraints.NotBlank;
  * Stores the image URL and alternative text, and supports updating from another instance.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "images")
 public class Image extends BaseEntity implements Updatable<Image> {
   @Column(nullable = false)
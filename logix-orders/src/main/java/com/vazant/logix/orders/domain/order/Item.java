@@ -11,6 +11,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing an item in an order.
@@ -18,6 +19,7 @@ import java.math.BigDecimal;
  * Stores product, quantity, unit price, and supports updating from another instance.
  */
 @Entity
+@DynamicUpdate
 @Table(name = Constants.ENTITY_ITEM)
 public class Item extends BaseEntity implements Updatable<Item> {
 
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing an order in the system.
@@ -28,6 +29,7 @@ import java.util.Objects;
  * Stores customer, organization, items, status, and supports business logic for item management and status transitions.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "orders")
 public class Order extends BaseEntity implements Updatable<Order> {
 
@@ -1,5 +1,11 @@
 package com.vazant.logix.orders.domain.order;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Enumeration of possible order statuses.
  * <p>
@@ -16,6 +22,20 @@ public enum OrderStatus {
   DELIVERED,
   CANCELLED;
 
+  private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+
+  static {
+    for (OrderStatus target : values()) {
+      Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+      for (OrderStatus source : values()) {
+        if (source.canTransitionTo(target)) {
+          sources.add(source);
+        }
+      }
+      SOURCES.put(target, Collections.unmodifiableSet(sources));
+    }
+  }
+
   /**
    * Determines if this status can transition to the target status.
    *
@@ -34,4 +54,13 @@ public enum OrderStatus {
       default -> false;
     };
   }
+
+  /**
+   * Returns the statuses from which an order can transition to this status.
+   *
+   * @return the allowed source statuses, possibly empty
+   */
+  public Set<OrderStatus> allowedSources() {
+    return SOURCES.get(this);
+  }
 }
@@ -0,0 +1,22 @@
+package com.vazant.logix.orders.domain.order;
+
+import java.util.UUID;
+
+/**
+ * Thrown when an order is no longer in a status from which the requested transition is allowed.
+ * <p>
+ * Mapped to HTTP 409 by the presentation layer.
+ */
+public class OrderStatusConflictException extends RuntimeException {
+
+  private final OrderStatus currentStatus;
+
+  public OrderStatusConflictException(UUID orderUuid, OrderStatus currentStatus, OrderStatus target) {
+    super(String.format("Order %s is %s and cannot transition to %s", orderUuid, currentStatus, target));
+    this.currentStatus = currentStatus;
+  }
+
+  public OrderStatus getCurrentStatus() {
+    return currentStatus;
+  }
+}
@@ -10,6 +10,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing an organization in the system.
@@ -17,6 +18,7 @@ import java.util.Set;
  * Stores organization details and associated users, and supports updating from another instance.
  */
 @Entity
+@DynamicUpdate
 @Table(name = Constants.ENTITY_ORGANIZATION)
 public class Organization extends BaseEntity implements Updatable<Organization> {
 
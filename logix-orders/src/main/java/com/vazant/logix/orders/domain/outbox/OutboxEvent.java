@@ -0,0 +1,96 @@
+package com.vazant.logix.orders.domain.outbox;
+
+import com.vazant.logix.orders.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a domain event waiting to be relayed to Kafka.
+ * <p>
+ * Rows are written in the same transaction as the aggregate change that raised the event, claimed by
+ * a relay for a limited time while they are in flight, and marked as sent once the broker has
+ * acknowledged them.
+ */
+@Entity
+@Table(name = "order_outbox")
+public class OutboxEvent extends BaseEntity {
+
+  @Column(name = "aggregate_uuid", nullable = false, updatable = false)
+  private UUID aggregateUuid;
+
+  @Column(name = "event_type", nullable = false, updatable = false)
+  private String eventType;
+
+  @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(name = "sent_at")
+  private LocalDateTime sentAt;
+
+  @Column(name = "claimed_until")
+  private LocalDateTime claimedUntil;
+
+  /**
+   * Default constructor for JPA.
+   */
+  protected OutboxEvent() {}
+
+  /**
+   * Constructs a new unsent OutboxEvent.
+   *
+   * @param aggregateUuid the UUID of the aggregate that raised the event, used as the message key
+   * @param eventType the event type name
+   * @param payload the serialized event
+   */
+  public OutboxEvent(UUID aggregateUuid, String eventType, String payload) {
+    this.aggregateUuid = aggregateUuid;
+    this.eventType = eventType;
+    this.payload = payload;
+  }
+
+  /**
+   * Returns the UUID of the aggregate that raised the event.
+   *
+   * @return the aggregate UUID
+   */
+  public UUID getAggregateUuid() {
+    return aggregateUuid;
+  }
+
+  /**
+   * Returns the event type name.
+   *
+   * @return the event type
+   */
+  public String getEventType() {
+    return eventType;
+  }
+
+  /**
+   * Returns the serialized event.
+   *
+   * @return the payload
+   */
+  public String getPayload() {
+    return payload;
+  }
+
+  /**
+   * Returns when the event was acknowledged by the broker.
+   *
+   * @return the send time, or null if not sent yet
+   */
+  public LocalDateTime getSentAt() {
+    return sentAt;
+  }
+
+  /**
+   * Returns until when a relay has claimed the event for publishing.
+   *
+   * @return the claim expiry, or null if the event is not claimed
+   */
+  public LocalDateTime getClaimedUntil() {
+    return claimedUntil;
+  }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing a product category.
@@ -15,6 +16,7 @@ import jakarta.validation.constraints.Size;
  * Stores the name and description of a category and supports updating from another instance.
  */
 @Entity
+@DynamicUpdate
 @Table(name = Constants.ENTITY_CATEGORY)
 public class Category extends BaseEntity implements Updatable<Category> {
 
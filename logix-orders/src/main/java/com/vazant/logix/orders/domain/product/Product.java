@@ -20,6 +20,7 @@ import jakarta.validation.constraints.Size;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing a product in the system.
@@ -28,6 +29,7 @@ import java.util.UUID;
  * Supports updating from another instance and price management.
  */
 @Entity
+@DynamicUpdate
 @Table(name = Constants.ENTITY_PRODUCT)
 public class Product extends BaseEntity implements Updatable<Product> {
 
@@ -128,10 +130,11 @@ public class Product extends BaseEntity implements Updatable<Product> {
    * @param updatedPrices the new list of prices
    */
   public void updatePrices(List<ProductPrice> updatedPrices) {
+    // Copy first: the updated list may be this product's own list
+    List<ProductPrice> replacement =
+        updatedPrices != null ? new ArrayList<>(updatedPrices) : List.of();
     this.prices.clear();
-    if (updatedPrices != null) {
-      updatedPrices.forEach(this::addPrice);
-    }
+    replacement.forEach(this::addPrice);
   }
 
   /**
@@ -13,6 +13,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing a price for a product.
@@ -20,6 +21,7 @@ import jakarta.validation.constraints.NotNull;
  * Stores the price value and the associated product, and supports updating from another instance.
  */
 @Entity
+@DynamicUpdate
 @Table(name = Constants.ENTITY_PRODUCT_PRICE)
 public class ProductPrice extends BaseEntity implements Updatable<ProductPrice> {
 
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDate;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing a person in the system.
@@ -16,6 +17,7 @@ import java.time.LocalDate;
  * Supports updating from another instance.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "persons")
 public class Person extends BaseEntity implements Updatable<Person> {
 
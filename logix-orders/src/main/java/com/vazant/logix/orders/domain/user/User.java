@@ -12,6 +12,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.jilt.Opt;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -25,6 +26,7 @@ import org.springframework.security.core.userdetails.UserDetails;
  */
 @Setter
 @Entity
+@DynamicUpdate
 @Table(name = "users")
 public class User extends BaseEntity implements UserDetails, Updatable<User> {
 
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing a user group in the system.
@@ -18,6 +19,7 @@ import java.util.Set;
  * Supports updating from another instance.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "user_groups")
 public class UserGroup extends BaseEntity implements Updatable<UserGroup> {
 
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entity representing a user responsibility (role) in the system.
@@ -15,6 +16,7 @@ import jakarta.persistence.Table;
  * Associates a user with a specific system responsibility for access control.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "user_responsibilities")
 public class UserResponsibility extends BaseEntity implements Updatable<UserResponsibility> {
 
@@ -0,0 +1,26 @@
+package com.vazant.logix.orders.dto.order;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch order submission.
+ * <p>
+ * Contains one result per submitted record, ordered by record index.
+ *
+ * @param created the number of orders persisted
+ * @param rejected the number of records rejected
+ * @param results the per-record results
+ */
+public record OrderBatchResponse(int created, int rejected, List<OrderBatchResult> results) {
+
+  /**
+   * Builds a response from per-record results.
+   *
+   * @param results the per-record results ordered by index
+   * @return the response
+   */
+  public static OrderBatchResponse of(List<OrderBatchResult> results) {
+    int created = (int) results.stream().filter(result -> result.error() == null).count();
+    return new OrderBatchResponse(created, results.size() - created, results);
+  }
+}
@@ -0,0 +1,37 @@
+package com.vazant.logix.orders.dto.order;
+
+import java.util.UUID;
+
+/**
+ * Response DTO describing the outcome of a single record in a batch order submission.
+ * <p>
+ * Exactly one of {@code orderUuid} and {@code error} is set.
+ *
+ * @param index the zero-based position of the record in the submitted batch
+ * @param orderUuid the UUID of the created order
+ * @param error the reason the record was rejected
+ */
+public record OrderBatchResult(int index, UUID orderUuid, String error) {
+
+  /**
+   * Creates a result for a persisted order.
+   *
+   * @param index the record index
+   * @param orderUuid the created order UUID
+   * @return the result
+   */
+  public static OrderBatchResult created(int index, UUID orderUuid) {
+    return new OrderBatchResult(index, orderUuid, null);
+  }
+
+  /**
+   * Creates a result for a rejected record.
+   *
+   * @param index the record index
+   * @param error the rejection reason
+   * @return the result
+   */
+  public static OrderBatchResult rejected(int index, String error) {
+    return new OrderBatchResult(index, null, error);
+  }
+}
@@ -0,0 +1,79 @@
+package com.vazant.logix.orders.dto.order;
+
+import com.vazant.logix.orders.domain.order.OrderStatus;
+import com.vazant.logix.orders.domain.shared.Currency;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an order with its lines.
+ * <p>
+ * The header is populated by a JPQL constructor expression and the lines by a second projection
+ * query, so a detail read always costs two statements regardless of the number of lines.
+ *
+ * @param uuid the order UUID
+ * @param status the order status
+ * @param customerUuid the customer UUID
+ * @param customerName the customer's full name
+ * @param customerEmail the customer's email
+ * @param organizationUuid the organization UUID
+ * @param warehouseId the warehouse identifier
+ * @param description the order description
+ * @param totalAmount the order total amount
+ * @param totalCurrency the order total currency
+ * @param orderDate the order date
+ * @param createdAt the creation timestamp
+ * @param updatedAt the last update timestamp
+ * @param items the order lines
+ */
+public record OrderDetail(
+    UUID uuid,
+    OrderStatus status,
+    UUID customerUuid,
+    String customerName,
+    String customerEmail,
+    UUID organizationUuid,
+    String warehouseId,
+    String description,
+    BigDecimal totalAmount,
+    Currency totalCurrency,
+    LocalDateTime orderDate,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    List<OrderLine> items) {
+
+  /**
+   * Creates the order header without lines; used by the JPQL constructor expression.
+   */
+  public OrderDetail(
+      UUID uuid,
+      OrderStatus status,
+      UUID customerUuid,
+      String customerName,
+      String customerEmail,
+      UUID organizationUuid,
+      String warehouseId,
+      String description,
+      BigDecimal totalAmount,
+      Currency totalCurrency,
+      LocalDateTime orderDate,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt) {
+    this(uuid, status, customerUuid, customerName, customerEmail, organizationUuid, warehouseId,
+        description, totalAmount, totalCurrency, orderDate, createdAt, updatedAt, List.of());
+  }
+
+  /**
+   * Returns a copy of this detail with the given lines.
+   *
+   * @param items the order lines
+   * @return the detail with lines
+   */
+  public OrderDetail withItems(List<OrderLine> items) {
+    return new OrderDetail(uuid, status, customerUuid, customerName, customerEmail,
+        organizationUuid, warehouseId, description, totalAmount, totalCurrency, orderDate,
+        createdAt, updatedAt, List.copyOf(items));
+  }
+}
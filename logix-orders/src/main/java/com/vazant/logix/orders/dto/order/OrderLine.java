@@ -0,0 +1,23 @@
+package com.vazant.logix.orders.dto.order;
+
+import com.vazant.logix.orders.domain.shared.Currency;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a single order line.
+ *
+ * @param itemUuid the item UUID
+ * @param productUuid the product UUID
+ * @param productName the product name
+ * @param quantity the ordered quantity
+ * @param unitAmount the unit price amount
+ * @param unitCurrency the unit price currency
+ */
+public record OrderLine(
+    UUID itemUuid,
+    UUID productUuid,
+    String productName,
+    int quantity,
+    BigDecimal unitAmount,
+    Currency unitCurrency) {}
@@ -0,0 +1,32 @@
+package com.vazant.logix.orders.dto.order;
+
+import com.vazant.logix.orders.domain.order.OrderStatus;
+import java.util.List;
+
+/**
+ * Response DTO for a bulk order status transition.
+ * <p>
+ * Contains one result per distinct submitted order, in submission order.
+ *
+ * @param status the target status
+ * @param transitioned the number of orders moved to the target status
+ * @param rejected the number of orders left unchanged
+ * @param results the per-order results
+ */
+public record OrderStatusTransitionResponse(
+    OrderStatus status, int transitioned, int rejected, List<OrderStatusTransitionResult> results) {
+
+  /**
+   * Builds a response from per-order results.
+   *
+   * @param status the target status
+   * @param results the per-order results
+   * @return the response
+   */
+  public static OrderStatusTransitionResponse of(
+      OrderStatus status, List<OrderStatusTransitionResult> results) {
+    int transitioned = (int) results.stream().filter(result -> result.error() == null).count();
+    return new OrderStatusTransitionResponse(
+        status, transitioned, results.size() - transitioned, results);
+  }
+}
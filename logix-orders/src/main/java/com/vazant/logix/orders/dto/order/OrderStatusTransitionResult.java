@@ -0,0 +1,41 @@
+package com.vazant.logix.orders.dto.order;
+
+import com.vazant.logix.orders.domain.order.OrderStatus;
+import java.util.UUID;
+
+/**
+ * Response DTO describing the outcome of a single order in a bulk status transition.
+ * <p>
+ * {@code error} is set only for rejected orders. {@code previousStatus} is the status the order
+ * moved from, or its current status if the transition was rejected, and is null for unknown orders.
+ *
+ * @param orderUuid the order UUID
+ * @param previousStatus the status before the transition
+ * @param error the reason the transition was rejected
+ */
+public record OrderStatusTransitionResult(UUID orderUuid, OrderStatus previousStatus, String error) {
+
+  /**
+   * Creates a result for an order that moved to the target status.
+   *
+   * @param orderUuid the order UUID
+   * @param previousStatus the status the order moved from
+   * @return the result
+   */
+  public static OrderStatusTransitionResult transitioned(UUID orderUuid, OrderStatus previousStatus) {
+    return new OrderStatusTransitionResult(orderUuid, previousStatus, null);
+  }
+
+  /**
+   * Creates a result for an order that could not move to the target status.
+   *
+   * @param orderUuid the order UUID
+   * @param currentStatus the current status, or null if the order does not exist
+   * @param error the rejection reason
+   * @return the result
+   */
+  public static OrderStatusTransitionResult rejected(
+      UUID orderUuid, OrderStatus currentStatus, String error) {
+    return new OrderStatusTransitionResult(orderUuid, currentStatus, error);
+  }
+}
@@ -0,0 +1,12 @@
+package com.vazant.logix.orders.dto.order;
+
+import com.vazant.logix.orders.domain.order.OrderStatus;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an order's current status.
+ *
+ * @param uuid the order UUID
+ * @param status the current status
+ */
+public record OrderStatusView(UUID uuid, OrderStatus status) {}
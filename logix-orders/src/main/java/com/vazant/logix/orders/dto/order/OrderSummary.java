@@ -0,0 +1,38 @@
+package com.vazant.logix.orders.dto.order;
+
+import com.vazant.logix.orders.domain.order.OrderStatus;
+import com.vazant.logix.orders.domain.shared.Currency;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an order for list views.
+ * <p>
+ * Populated directly by a JPQL constructor expression, so no entity is hydrated or tracked by the
+ * persistence context and no lazy association is touched during serialization.
+ *
+ * @param uuid the order UUID
+ * @param status the order status
+ * @param customerUuid the customer UUID
+ * @param customerName the customer's full name
+ * @param organizationUuid the organization UUID
+ * @param warehouseId the warehouse identifier
+ * @param totalAmount the order total amount
+ * @param totalCurrency the order total currency
+ * @param itemCount the number of order lines
+ * @param orderDate the order date
+ * @param createdAt the creation timestamp, part of the pagination key
+ */
+public record OrderSummary(
+    UUID uuid,
+    OrderStatus status,
+    UUID customerUuid,
+    String customerName,
+    UUID organizationUuid,
+    String warehouseId,
+    BigDecimal totalAmount,
+    Currency totalCurrency,
+    int itemCount,
+    LocalDateTime orderDate,
+    LocalDateTime createdAt) {}
@@ -1,17 +1,24 @@
 package com.vazant.logix.orders.infrastructure.config;
 
+import com.vazant.logix.shared.kafka.config.KafkaTopics;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse;
 import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
 import com.vazant.logix.shared.kafka.dto.CurrencyConversionResponse;
+import com.vazant.logix.shared.kafka.dto.CurrencyRateSetMessage;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
@@ -54,6 +61,34 @@ public class KafkaConfig {
             ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class));
   }
 
+  /**
+   * Producer for the order event outbox relay. Records are linger-batched and compressed, and the
+   * idempotent producer keeps per-order ordering across retries.
+   */
+  @Bean
+  public ProducerFactory<String, String> outboxProducerFactory() {
+    Map<String, Object> props = new HashMap<>(kafkaProducerConfigs());
+    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    props.put(ProducerConfig.ACKS_CONFIG, "all");
+    props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+    props.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+    props.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+    return new DefaultKafkaProducerFactory<>(props);
+  }
+
+  @Bean
+  public KafkaTemplate<String, String> outboxKafkaTemplate(
+      ProducerFactory<String, String> outboxProducerFactory) {
+    return new KafkaTemplate<>(outboxProducerFactory);
+  }
+
+  @Bean
+  public NewTopic ordersEventsTopic() {
+    return TopicBuilder.name(KafkaTopics.ORDERS_EVENTS).partitions(6).replicas(1).build();
+  }
+
   @Bean
   public ConsumerFactory<String, CurrencyConversionResponse> consumerFactory() {
     JsonDeserializer<CurrencyConversionResponse> deserializer =
@@ -90,4 +125,66 @@ public class KafkaConfig {
           ConcurrentMessageListenerContainer<String, CurrencyConversionResponse> repliesContainer) {
     return new ReplyingKafkaTemplate<>(pf, repliesContainer);
   }
+
+  @Bean
+  public ProducerFactory<String, CurrencyConversionBatchRequest> batchProducerFactory() {
+    Map<String, Object> props = new HashMap<>(kafkaProducerConfigs());
+    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+    props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+    return new DefaultKafkaProducerFactory<>(props);
+  }
+
+  @Bean
+  public ConsumerFactory<String, CurrencyConversionBatchResponse> batchConsumerFactory() {
+    JsonDeserializer<CurrencyConversionBatchResponse> deserializer =
+        new JsonDeserializer<>(CurrencyConversionBatchResponse.class);
+    deserializer.addTrustedPackages("*");
+
+    Map<String, Object> props = new HashMap<>(kafkaConsumerConfigs());
+    props.put(ConsumerConfig.GROUP_ID_CONFIG, "order-service");
+    return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
+  }
+
+  @Bean
+  public ConcurrentMessageListenerContainer<String, CurrencyConversionBatchResponse>
+      batchRepliesContainer(
+          ConsumerFactory<String, CurrencyConversionBatchResponse> batchConsumerFactory) {
+    ConcurrentKafkaListenerContainerFactory<String, CurrencyConversionBatchResponse> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(batchConsumerFactory);
+    return factory.createContainer(KafkaTopics.CURRENCY_BATCH_REPLIES);
+  }
+
+  @Bean
+  public ReplyingKafkaTemplate<String, CurrencyConversionBatchRequest, CurrencyConversionBatchResponse>
+      batchReplyingKafkaTemplate(
+          ProducerFactory<String, CurrencyConversionBatchRequest> batchProducerFactory,
+          ConcurrentMessageListenerContainer<String, CurrencyConversionBatchResponse>
+              batchRepliesContainer) {
+    return new ReplyingKafkaTemplate<>(batchProducerFactory, batchRepliesContainer);
+  }
+
+  /**
+   * Container factory for the currency rate replica. Each instance reads the compacted rates
+   * topic from the beginning and never commits offsets.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, CurrencyRateSetMessage>
+      currencyRatesContainerFactory() {
+    JsonDeserializer<CurrencyRateSetMessage> deserializer =
+        new JsonDeserializer<>(CurrencyRateSetMessage.class, false);
+    deserializer.addTrustedPackages("*");
+
+    Map<String, Object> props = new HashMap<>(kafkaConsumerConfigs());
+    props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+    ConcurrentKafkaListenerContainerFactory<String, CurrencyRateSetMessage> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(
+        new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer));
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+    return factory;
+  }
 }
@@ -14,6 +14,8 @@ public class OrdersProperties {
     private Retry retry = new Retry();
     private Cache cache = new Cache();
     private Rest rest = new Rest();
+    private Outbox outbox = new Outbox();
+    private CurrencyClient currencyClient = new CurrencyClient();
     private String activationBaseUrl = "http://localhost:8080";
 
     @Getter
@@ -45,6 +47,25 @@ public class OrdersProperties {
         private int readTimeout = 5;
     }
 
+    @Getter
+    @Setter
+    public static class Outbox {
+        private boolean enabled = true;
+        private int batchSize = 200;
+        private long pollIntervalMs = 500;
+        private long sendTimeoutMs = 10000;
+        private long claimTimeoutMs = 30000;
+        private int retentionHours = 24;
+        private long cleanupIntervalMs = 3600000;
+    }
+
+    @Getter
+    @Setter
+    public static class CurrencyClient {
+        private int maxInFlight = 256;
+        private long timeoutMs = 10000;
+    }
+
     public String getActivationBaseUrl() {
         return activationBaseUrl;
     }
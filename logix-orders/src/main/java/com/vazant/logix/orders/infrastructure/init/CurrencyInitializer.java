@@ -3,6 +3,7 @@ package com.vazant.logix.orders.infrastructure.init;
 import com.vazant.logix.orders.infrastructure.kafka.CurrencyConversionClient;
 import com.vazant.logix.shared.Constants;
 import java.math.BigDecimal;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
  * Initializes currency data on application startup.
  * Performs test requests to CurrencyConversionClient after the application is ready.
  */
+@Slf4j
 @Service
 public class CurrencyInitializer {
   private final CurrencyConversionClient currencyClient;
@@ -24,10 +26,20 @@ public class CurrencyInitializer {
     this.currencyClient = currencyClient;
   }
 
+  /**
+   * Sends the probe conversions without blocking the thread publishing the ready event; the
+   * results are logged when both replies have arrived.
+   */
   @EventListener(ApplicationReadyEvent.class)
   public void init() {
-    System.out.println("Initializing Currency Client");
-    System.out.println(currencyClient.convert(Constants.CURRENCY_PLN, Constants.CURRENCY_USD, BigDecimal.valueOf(1000)));
-    System.out.println(currencyClient.convert(Constants.CURRENCY_USD, Constants.CURRENCY_PLN, BigDecimal.valueOf(265.0095)));
+    log.info("Initializing Currency Client");
+    var toUsd = currencyClient.convertAsync(Constants.CURRENCY_PLN, Constants.CURRENCY_USD, BigDecimal.valueOf(1000));
+    var toPln = currencyClient.convertAsync(Constants.CURRENCY_USD, Constants.CURRENCY_PLN, BigDecimal.valueOf(265.0095));
+    toUsd.thenAcceptBoth(toPln, (usd, pln) ->
+            log.info("Currency Client ready: 1000 PLN = {} USD, 265.0095 USD = {} PLN", usd, pln))
+        .exceptionally(ex -> {
+          log.warn("Currency Client probe conversion failed", ex);
+          return null;
+        });
   }
 }
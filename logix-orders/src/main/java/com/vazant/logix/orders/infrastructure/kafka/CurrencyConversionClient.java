@@ -1,54 +1,279 @@
 package com.vazant.logix.orders.infrastructure.kafka;
 
+import com.vazant.logix.orders.infrastructure.config.OrdersProperties;
 import com.vazant.logix.shared.kafka.config.KafkaTopics;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse;
 import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
 import com.vazant.logix.shared.kafka.dto.CurrencyConversionResponse;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.kafka.requestreply.KafkaReplyTimeoutException;
 import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
 
 /**
  * Kafka client for sending currency conversion requests and receiving responses using ReplyingKafkaTemplate.
  * Used for integration with the currency microservice via Kafka.
+ * <p>
+ * Conversions are answered from the local {@link CurrencyRatesReplica} whenever it knows both
+ * currencies; request-reply is only the fallback. The async methods never block on the reply.
+ * At most {@code orders.currency-client.max-in-flight} requests await a reply at once; further
+ * calls fail fast instead of parking the caller's thread until a slot frees up. Round trips are
+ * counted in {@link #metrics()}, served at {@code GET /api/currency-client/stats}.
  */
 @Component
 public class CurrencyConversionClient {
 
+  /** Maximum number of conversions sent in one batch record. */
+  static final int MAX_BATCH_SIZE = 500;
+
   private final ReplyingKafkaTemplate<String, CurrencyConversionRequest, CurrencyConversionResponse>
       replyingKafkaTemplate;
+  private final ReplyingKafkaTemplate<
+          String, CurrencyConversionBatchRequest, CurrencyConversionBatchResponse>
+      batchReplyingKafkaTemplate;
+  private final CurrencyRatesReplica ratesReplica;
+  private final Semaphore inFlight;
+  private final int maxInFlight;
+  private final Duration defaultTimeout;
+  private final CurrencyConversionMetrics metrics = new CurrencyConversionMetrics();
 
   /**
    * Constructs a new CurrencyConversionClient.
    *
    * @param replyingKafkaTemplate the Kafka template for sending and receiving messages
+   * @param batchReplyingKafkaTemplate the Kafka template for batched conversions
+   * @param ratesReplica the local rate replica tried before any Kafka round trip
+   * @param properties the orders properties holding the in-flight limit and default timeout
    */
-  public CurrencyConversionClient(ReplyingKafkaTemplate<String, CurrencyConversionRequest, CurrencyConversionResponse> replyingKafkaTemplate) {
+  public CurrencyConversionClient(
+      ReplyingKafkaTemplate<String, CurrencyConversionRequest, CurrencyConversionResponse> replyingKafkaTemplate,
+      ReplyingKafkaTemplate<String, CurrencyConversionBatchRequest, CurrencyConversionBatchResponse>
+          batchReplyingKafkaTemplate,
+      CurrencyRatesReplica ratesReplica,
+      OrdersProperties properties) {
     this.replyingKafkaTemplate = replyingKafkaTemplate;
+    this.batchReplyingKafkaTemplate = batchReplyingKafkaTemplate;
+    this.ratesReplica = ratesReplica;
+    this.maxInFlight = properties.getCurrencyClient().getMaxInFlight();
+    this.inFlight = new Semaphore(maxInFlight);
+    this.defaultTimeout = Duration.ofMillis(properties.getCurrencyClient().getTimeoutMs());
   }
 
   public BigDecimal convert(String from, String to, BigDecimal amount) {
-    String correlationId = UUID.randomUUID().toString();
+    try {
+      return convertAsync(from, to, amount).join();
+    } catch (CompletionException e) {
+      throw new RuntimeException("❌ Failed to convert currency via Kafka", e.getCause());
+    }
+  }
 
-    CurrencyConversionRequest request = new CurrencyConversionRequest(from, to, amount);
+  /**
+   * Converts an amount without blocking on the reply, using the configured default timeout.
+   *
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param amount the amount to convert
+   * @return a future completed with the converted amount
+   */
+  public CompletableFuture<BigDecimal> convertAsync(String from, String to, BigDecimal amount) {
+    return convertAsync(from, to, amount, defaultTimeout);
+  }
 
+  /**
+   * Converts an amount without blocking on the reply.
+   * <p>
+   * The future fails with {@link TimeoutException} if no reply arrives within the timeout,
+   * immediately with {@link RejectedExecutionException} if all in-flight slots are taken, and with
+   * {@link IllegalStateException} if the currency service answers with an error.
+   *
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param amount the amount to convert
+   * @param timeout the deadline for the reply
+   * @return a future completed with the converted amount
+   */
+  public CompletableFuture<BigDecimal> convertAsync(
+      String from, String to, BigDecimal amount, Duration timeout) {
+    Optional<BigDecimal> local = ratesReplica.convert(from, to, amount);
+    if (local.isPresent()) {
+      metrics.recordLocalHit();
+      return CompletableFuture.completedFuture(local.get());
+    }
+    CurrencyConversionRequest request = new CurrencyConversionRequest(from, to, amount);
     ProducerRecord<String, CurrencyConversionRequest> record =
-        new ProducerRecord<>(KafkaTopics.CURRENCY_REQUESTS, null, request);
-    record
-        .headers()
-        .add(new RecordHeader(KafkaHeaders.REPLY_TOPIC, KafkaTopics.CURRENCY_REPLIES.getBytes()));
-    record.headers().add(new RecordHeader(KafkaHeaders.CORRELATION_ID, correlationId.getBytes()));
+        newRecord(KafkaTopics.CURRENCY_REQUESTS, KafkaTopics.CURRENCY_REPLIES, request);
+    return send(record, timeout, replyingKafkaTemplate, response -> unpack(from, to, response));
+  }
+
+  /**
+   * Converts many amounts with one Kafka round trip per {@value #MAX_BATCH_SIZE} conversions.
+   *
+   * @param conversions the conversions to perform
+   * @return the converted amounts, in the order of the given conversions
+   * @throws IllegalStateException if any conversion was rejected by the currency service
+   */
+  public List<BigDecimal> convertAll(List<CurrencyConversionRequest> conversions) {
+    try {
+      return convertAllAsync(conversions).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IllegalStateException rejected) {
+        throw rejected;
+      }
+      throw new RuntimeException("❌ Failed to convert currency batch via Kafka", e.getCause());
+    }
+  }
+
+  /**
+   * Converts many amounts without blocking on the replies. Amounts the local replica cannot
+   * convert are sent in batches, concurrently, each with the configured default timeout.
+   *
+   * @param conversions the conversions to perform
+   * @return a future completed with the converted amounts, in the order of the given conversions
+   */
+  public CompletableFuture<List<BigDecimal>> convertAllAsync(
+      List<CurrencyConversionRequest> conversions) {
+    Assert.notNull(conversions, "Conversions must not be null");
+    BigDecimal[] results = new BigDecimal[conversions.size()];
+    List<Integer> remote = new ArrayList<>();
+    for (int i = 0; i < conversions.size(); i++) {
+      CurrencyConversionRequest conversion = conversions.get(i);
+      Optional<BigDecimal> local = conversion == null
+          ? Optional.empty()
+          : ratesReplica.convert(conversion.from(), conversion.to(), conversion.amount());
+      if (local.isPresent()) {
+        metrics.recordLocalHit();
+        results[i] = local.get();
+      } else {
+        remote.add(i);
+      }
+    }
+
+    List<CompletableFuture<Void>> chunks = new ArrayList<>();
+    for (int start = 0; start < remote.size(); start += MAX_BATCH_SIZE) {
+      List<Integer> indices = remote.subList(start, Math.min(start + MAX_BATCH_SIZE, remote.size()));
+      List<CurrencyConversionRequest> chunk = indices.stream().map(conversions::get).toList();
+      ProducerRecord<String, CurrencyConversionBatchRequest> record = newRecord(
+          KafkaTopics.CURRENCY_BATCH_REQUESTS,
+          KafkaTopics.CURRENCY_BATCH_REPLIES,
+          new CurrencyConversionBatchRequest(chunk));
+      chunks.add(send(record, defaultTimeout, batchReplyingKafkaTemplate,
+          response -> unpackBatch(indices, chunk, response, results)));
+    }
+    return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+        .thenApply(ignored -> List.of(results));
+  }
+
+  /**
+   * Returns the round-trip counters of this client.
+   *
+   * @return a point-in-time snapshot of the metrics
+   */
+  public CurrencyConversionMetrics.Snapshot metrics() {
+    return metrics.snapshot(maxInFlight - inFlight.availablePermits());
+  }
+
+  private <Q, R, T> CompletableFuture<T> send(
+      ProducerRecord<String, Q> record,
+      Duration timeout,
+      ReplyingKafkaTemplate<String, Q, R> template,
+      Function<R, T> extractor) {
+    if (!inFlight.tryAcquire()) {
+      metrics.recordRejection();
+      return CompletableFuture.failedFuture(new RejectedExecutionException(
+          "All " + maxInFlight + " currency conversion slots are in use"));
+    }
+    metrics.recordRequest();
 
+    long started = System.nanoTime();
+    CompletableFuture<T> result = new CompletableFuture<>();
     try {
-      var future = replyingKafkaTemplate.sendAndReceive(record);
-      var response = future.get(10, TimeUnit.SECONDS).value();
-      return response.result();
-    } catch (Exception e) {
-      throw new RuntimeException("❌ Failed to convert currency via Kafka", e);
+      template.sendAndReceive(record, timeout)
+          .whenComplete((reply, error) -> {
+            inFlight.release();
+            long latency = System.nanoTime() - started;
+            if (error == null) {
+              metrics.recordSuccess(latency);
+              try {
+                result.complete(extractor.apply(reply.value()));
+              } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+              }
+            } else if (unwrap(error) instanceof KafkaReplyTimeoutException) {
+              metrics.recordTimeout(latency);
+              result.completeExceptionally(new TimeoutException(
+                  "No currency conversion reply within " + timeout.toMillis() + " ms"));
+            } else {
+              metrics.recordFailure(latency);
+              result.completeExceptionally(unwrap(error));
+            }
+          });
+    } catch (RuntimeException e) {
+      inFlight.release();
+      metrics.recordFailure(System.nanoTime() - started);
+      result.completeExceptionally(e);
     }
+    return result;
+  }
+
+  private static BigDecimal unpack(String from, String to, CurrencyConversionResponse response) {
+    if (response == null || !response.succeeded()) {
+      throw new IllegalStateException(String.format("Currency conversion %s -> %s failed: %s",
+          from, to, response != null ? response.error() : "empty reply"));
+    }
+    return response.result();
+  }
+
+  private static Void unpackBatch(
+      List<Integer> indices,
+      List<CurrencyConversionRequest> chunk,
+      CurrencyConversionBatchResponse response,
+      BigDecimal[] results) {
+    if (response == null || response.results() == null
+        || response.results().size() != chunk.size()) {
+      throw new IllegalStateException(
+          "Currency batch reply does not match the request size " + chunk.size());
+    }
+    for (int i = 0; i < chunk.size(); i++) {
+      CurrencyConversionBatchResponse.Result result = response.results().get(i);
+      if (!result.succeeded()) {
+        CurrencyConversionRequest failed = chunk.get(i);
+        throw new IllegalStateException(String.format(
+            "Currency conversion #%d %s -> %s failed: %s",
+            indices.get(i), failed.from(), failed.to(), result.error()));
+      }
+      results[indices.get(i)] = result.result();
+    }
+    return null;
+  }
+
+  private static <V> ProducerRecord<String, V> newRecord(
+      String topic, String replyTopic, V value) {
+    String correlationId = UUID.randomUUID().toString();
+    ProducerRecord<String, V> record = new ProducerRecord<>(topic, null, value);
+    record.headers().add(new RecordHeader(KafkaHeaders.REPLY_TOPIC, replyTopic.getBytes()));
+    record.headers().add(new RecordHeader(KafkaHeaders.CORRELATION_ID, correlationId.getBytes()));
+    return record;
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
   }
 }
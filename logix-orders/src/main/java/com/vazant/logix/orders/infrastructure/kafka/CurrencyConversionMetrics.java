@@ -0,0 +1,98 @@
+package com.vazant.logix.orders.infrastructure.kafka;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Round-trip counters for {@link CurrencyConversionClient}.
+ * Updated lock-free from the reply threads; read through {@link #snapshot(int)}.
+ */
+public class CurrencyConversionMetrics {
+
+  private final LongAdder localHits = new LongAdder();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder successes = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+  void recordLocalHit() {
+    localHits.increment();
+  }
+
+  void recordRequest() {
+    requests.increment();
+  }
+
+  void recordSuccess(long latencyNanos) {
+    successes.increment();
+    recordLatency(latencyNanos);
+  }
+
+  void recordFailure(long latencyNanos) {
+    failures.increment();
+    recordLatency(latencyNanos);
+  }
+
+  void recordTimeout(long latencyNanos) {
+    timeouts.increment();
+    recordLatency(latencyNanos);
+  }
+
+  void recordRejection() {
+    rejections.increment();
+  }
+
+  private void recordLatency(long latencyNanos) {
+    totalLatencyNanos.add(latencyNanos);
+    maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+  }
+
+  /**
+   * Returns a point-in-time copy of the counters.
+   *
+   * @param inFlight the number of requests currently awaiting a reply
+   * @return the snapshot
+   */
+  public Snapshot snapshot(int inFlight) {
+    long completed = successes.sum() + failures.sum() + timeouts.sum();
+    long total = totalLatencyNanos.sum();
+    return new Snapshot(
+        localHits.sum(),
+        requests.sum(),
+        successes.sum(),
+        failures.sum(),
+        timeouts.sum(),
+        rejections.sum(),
+        inFlight,
+        Duration.ofNanos(completed == 0 ? 0 : total / completed),
+        Duration.ofNanos(maxLatencyNanos.get()));
+  }
+
+  /**
+   * Point-in-time view of the client counters.
+   *
+   * @param localHits conversions answered by the local rate replica
+   * @param requests requests admitted past the in-flight limit
+   * @param successes replies received in time
+   * @param failures requests that failed for reasons other than a timeout
+   * @param timeouts requests that hit their deadline
+   * @param rejections requests failed fast because the in-flight limit was reached
+   * @param inFlight requests currently awaiting a reply
+   * @param averageLatency mean round-trip time of completed requests
+   * @param maxLatency longest observed round-trip time
+   */
+  public record Snapshot(
+      long localHits,
+      long requests,
+      long successes,
+      long failures,
+      long timeouts,
+      long rejections,
+      int inFlight,
+      Duration averageLatency,
+      Duration maxLatency) {}
+}
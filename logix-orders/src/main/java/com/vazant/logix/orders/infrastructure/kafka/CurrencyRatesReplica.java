@@ -0,0 +1,103 @@
+package com.vazant.logix.orders.infrastructure.kafka;
+
+import com.vazant.logix.shared.currency.CurrencyConversions;
+import com.vazant.logix.shared.kafka.config.KafkaTopics;
+import com.vazant.logix.shared.kafka.dto.CurrencyRateSetMessage;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory replica of the currency rate table published by the currency service.
+ * <p>
+ * Every instance reads the compacted rates topic from the beginning under its own consumer group,
+ * so the replica is rebuilt on startup and then follows each refresh. Conversions go through
+ * {@link CurrencyConversions#convert} with the scale and rounding of the rate set, exactly like the
+ * currency service; currencies the replica does not know are left to the request-reply fallback.
+ */
+@Slf4j
+@Component
+public class CurrencyRatesReplica implements ConsumerSeekAware {
+
+  private final AtomicReference<RateTable> table = new AtomicReference<>();
+
+  /**
+   * Replaces the replica with a newer rate set from the rates topic.
+   *
+   * @param message the rate set, null for a tombstone
+   */
+  @KafkaListener(
+      topics = KafkaTopics.CURRENCY_RATES,
+      groupId = "orders-rates-#{T(java.util.UUID).randomUUID()}",
+      containerFactory = "currencyRatesContainerFactory")
+  public void onRateSet(CurrencyRateSetMessage message) {
+    if (message == null || message.rates() == null || message.rates().isEmpty()) {
+      return;
+    }
+    RateTable next = new RateTable(
+        Map.copyOf(message.rates()),
+        message.version(),
+        message.scale(),
+        RoundingMode.valueOf(message.roundingMode()));
+    RateTable previous = table.getAndAccumulate(
+        next, (current, candidate) ->
+            current != null && current.version() > candidate.version() ? current : candidate);
+    if (previous == null || previous.version() <= next.version()) {
+      log.info("Currency rate replica updated to version {} ({} currencies)",
+          next.version(), next.rates().size());
+    }
+  }
+
+  @Override
+  public void onPartitionsAssigned(
+      @NonNull Map<TopicPartition, Long> assignments, @NonNull ConsumerSeekCallback callback) {
+    callback.seekToBeginning(assignments.keySet());
+  }
+
+  /**
+   * Converts an amount locally.
+   *
+   * @param from the source currency code
+   * @param to the target currency code
+   * @param amount the amount to convert
+   * @return the converted amount, or empty if the replica cannot convert this pair
+   */
+  public Optional<BigDecimal> convert(String from, String to, BigDecimal amount) {
+    RateTable current = table.get();
+    if (current == null || from == null || to == null || amount == null) {
+      return Optional.empty();
+    }
+    if (from.equalsIgnoreCase(to)) {
+      return Optional.of(amount);
+    }
+    BigDecimal fromRate = current.rates().get(from);
+    BigDecimal toRate = current.rates().get(to);
+    if (fromRate == null || toRate == null) {
+      return Optional.empty();
+    }
+    return Optional.of(CurrencyConversions.convert(
+        amount, fromRate, toRate, current.scale(), current.roundingMode()));
+  }
+
+  /**
+   * Returns the version of the replicated rate set.
+   *
+   * @return the version, or empty until the first rate set has been read
+   */
+  public OptionalLong version() {
+    RateTable current = table.get();
+    return current != null ? OptionalLong.of(current.version()) : OptionalLong.empty();
+  }
+
+  private record RateTable(
+      Map<String, BigDecimal> rates, long version, int scale, RoundingMode roundingMode) {}
+}
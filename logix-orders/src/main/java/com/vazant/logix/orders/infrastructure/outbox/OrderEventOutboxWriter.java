@@ -0,0 +1,55 @@
+package com.vazant.logix.orders.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vazant.logix.orders.domain.event.OrderStatusChangedEvent;
+import com.vazant.logix.orders.domain.outbox.OutboxEvent;
+import com.vazant.logix.orders.infrastructure.repository.outbox.OutboxEventRepository;
+import com.vazant.logix.orders.infrastructure.utils.UuidUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes order domain events to the outbox table.
+ * <p>
+ * Runs just before the surrounding transaction commits, so the outbox row is stored atomically with
+ * the order change and is never written for a transaction that rolls back.
+ */
+@Component
+public class OrderEventOutboxWriter {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructs a new OrderEventOutboxWriter.
+   *
+   * @param outboxEventRepository the outbox repository
+   * @param objectMapper the mapper used to serialize event payloads
+   */
+  public OrderEventOutboxWriter(
+      OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Stores an order status change in the outbox.
+   *
+   * @param event the status change event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onStatusChanged(OrderStatusChangedEvent event) {
+    outboxEventRepository.save(new OutboxEvent(
+        UuidUtils.parse(event.orderUuid()), event.getClass().getSimpleName(), serialize(event)));
+  }
+
+  private String serialize(Object event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize " + event.getClass().getSimpleName(), e);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.vazant.logix.orders.infrastructure.outbox;
+
+import com.vazant.logix.orders.domain.outbox.OutboxEvent;
+import com.vazant.logix.orders.infrastructure.config.OrdersProperties;
+import com.vazant.logix.orders.infrastructure.repository.outbox.OutboxEventRepository;
+import com.vazant.logix.shared.kafka.config.KafkaTopics;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Relays unsent outbox events to the {@link KafkaTopics#ORDERS_EVENTS} topic.
+ * <p>
+ * Each batch goes through three steps so no database transaction or row lock is held while waiting
+ * for the broker: the batch is claimed for {@code claimTimeoutMs} in a short transaction, handed to
+ * the producer in one go so it can be compressed and sent together, and then marked as sent in a
+ * second short transaction for the records the broker acknowledged. Unacknowledged records are
+ * released for the next poll; a relay that dies mid-batch leaves claims that simply expire.
+ * Delivery is at-least-once: consumers must tolerate duplicates after a relay failure.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "orders.outbox", name = "enabled", matchIfMissing = true)
+public class OutboxRelay {
+
+  /** Record header carrying the event type name. */
+  public static final String EVENT_TYPE_HEADER = "event-type";
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final OrdersProperties.Outbox properties;
+
+  /**
+   * Constructs a new OutboxRelay.
+   *
+   * @param outboxEventRepository the outbox repository
+   * @param kafkaTemplate the template used to publish events
+   * @param transactionTemplate the template wrapping the claim and completion of each batch
+   * @param ordersProperties the orders service properties
+   */
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      KafkaTemplate<String, String> kafkaTemplate,
+      TransactionTemplate transactionTemplate,
+      OrdersProperties ordersProperties) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.kafkaTemplate = kafkaTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.properties = ordersProperties.getOutbox();
+    Assert.isTrue(properties.getClaimTimeoutMs() > properties.getSendTimeoutMs(),
+        "orders.outbox.claim-timeout-ms must exceed orders.outbox.send-timeout-ms");
+  }
+
+  /**
+   * Relays batches until the outbox is drained or a batch is only partly acknowledged.
+   */
+  public void relayPending() {
+    int sent;
+    do {
+      sent = relayBatch();
+    } while (sent == properties.getBatchSize());
+  }
+
+  /**
+   * Removes sent events older than the configured retention.
+   */
+  public void purgeSent() {
+    LocalDateTime cutoff = LocalDateTime.now().minusHours(properties.getRetentionHours());
+    Integer deleted = transactionTemplate.execute(
+        status -> outboxEventRepository.deleteSentBefore(cutoff));
+    if (deleted != null && deleted > 0) {
+      log.debug("Purged {} sent outbox events", deleted);
+    }
+  }
+
+  int relayBatch() {
+    List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+    if (batch == null || batch.isEmpty()) {
+      return 0;
+    }
+
+    List<CompletableFuture<SendResult<String, String>>> pending = new ArrayList<>(batch.size());
+    for (OutboxEvent event : batch) {
+      pending.add(kafkaTemplate.send(toRecord(event)));
+    }
+    kafkaTemplate.flush();
+
+    List<UUID> acknowledged = awaitAcknowledged(batch, pending);
+    transactionTemplate.executeWithoutResult(status -> completeBatch(batch, acknowledged));
+    log.debug("Relayed {} of {} outbox events", acknowledged.size(), batch.size());
+    return acknowledged.size();
+  }
+
+  private List<OutboxEvent> claimBatch() {
+    LocalDateTime now = LocalDateTime.now();
+    List<OutboxEvent> batch =
+        outboxEventRepository.lockClaimable(now, Limit.of(properties.getBatchSize()));
+    if (!batch.isEmpty()) {
+      outboxEventRepository.claim(
+          batch.stream().map(OutboxEvent::getUuid).toList(),
+          now.plus(properties.getClaimTimeoutMs(), ChronoUnit.MILLIS));
+    }
+    return batch;
+  }
+
+  private void completeBatch(List<OutboxEvent> batch, List<UUID> acknowledged) {
+    if (!acknowledged.isEmpty()) {
+      outboxEventRepository.markSent(acknowledged, LocalDateTime.now());
+    }
+    if (acknowledged.size() < batch.size()) {
+      outboxEventRepository.release(batch.subList(acknowledged.size(), batch.size()).stream()
+          .map(OutboxEvent::getUuid)
+          .toList());
+    }
+  }
+
+  private List<UUID> awaitAcknowledged(
+      List<OutboxEvent> batch, List<CompletableFuture<SendResult<String, String>>> pending) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMs());
+    List<UUID> acknowledged = new ArrayList<>(batch.size());
+    // Stop at the first failure so later events of the same order are not marked ahead of it
+    for (int i = 0; i < batch.size(); i++) {
+      try {
+        pending.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        acknowledged.add(batch.get(i).getUuid());
+      } catch (ExecutionException | TimeoutException e) {
+        log.warn("Failed to relay outbox event {}, retrying on next poll",
+            batch.get(i).getUuid(), e);
+        break;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return acknowledged;
+  }
+
+  private ProducerRecord<String, String> toRecord(OutboxEvent event) {
+    ProducerRecord<String, String> record = new ProducerRecord<>(
+        KafkaTopics.ORDERS_EVENTS, event.getAggregateUuid().toString(), event.getPayload());
+    record.headers().add(EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+    return record;
+  }
+}
@@ -0,0 +1,49 @@
+package com.vazant.logix.orders.infrastructure.outbox;
+
+import com.vazant.logix.orders.infrastructure.config.OrdersProperties;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Scheduler configuration for the order event outbox.
+ * <p>
+ * Polls the outbox with a fixed delay between runs, so a slow batch never overlaps the next one,
+ * and periodically purges events that have already been sent.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "orders.outbox", name = "enabled", matchIfMissing = true)
+public class OutboxRelayConfig implements SchedulingConfigurer {
+
+  private final OutboxRelay relay;
+  private final OrdersProperties.Outbox properties;
+
+  /**
+   * Constructs a new OutboxRelayConfig.
+   *
+   * @param relay the outbox relay
+   * @param ordersProperties the orders service properties
+   */
+  public OutboxRelayConfig(OutboxRelay relay, OrdersProperties ordersProperties) {
+    this.relay = relay;
+    this.properties = ordersProperties.getOutbox();
+  }
+
+  /**
+   * Registers the relay and purge tasks.
+   *
+   * @param taskRegistrar the task registrar to configure
+   */
+  @Override
+  public void configureTasks(@NonNull ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.addFixedDelayTask(
+        relay::relayPending, Duration.ofMillis(properties.getPollIntervalMs()));
+    taskRegistrar.addFixedDelayTask(
+        relay::purgeSent, Duration.ofMillis(properties.getCleanupIntervalMs()));
+  }
+}
@@ -0,0 +1,71 @@
+package com.vazant.logix.orders.infrastructure.repository.common;
+
+import com.vazant.logix.orders.domain.common.BaseEntity;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Base repository for entities extending BaseEntity.
+ * <p>
+ * Adds keyset (cursor) scrolling with a stable {@code (createdAt, uuid)} ordering and lookups by
+ * {@link FetchPlan} on top of the standard JPA repository operations.
+ *
+ * @param <T> the entity type
+ */
+@NoRepositoryBean
+public interface BaseRepository<T extends BaseEntity>
+    extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
+
+  /**
+   * Stable ordering used for keyset pagination. The UUID breaks ties between rows created in the
+   * same instant.
+   */
+  Sort KEYSET_SORT = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("uuid"));
+
+  /**
+   * Returns the window of entities after the given position.
+   *
+   * @param position the keyset position to continue from
+   * @param limit the maximum number of entities to return
+   * @return the window of entities
+   */
+  default Window<T> scroll(ScrollPosition position, int limit) {
+    return scroll((root, query, cb) -> cb.conjunction(), position, limit);
+  }
+
+  /**
+   * Returns the window of entities matching the specification after the given position.
+   *
+   * @param spec the filter specification
+   * @param position the keyset position to continue from
+   * @param limit the maximum number of entities to return
+   * @return the window of entities
+   */
+  default Window<T> scroll(Specification<T> spec, ScrollPosition position, int limit) {
+    return findBy(spec, query -> query.sortBy(KEYSET_SORT).limit(limit).scroll(position));
+  }
+
+  /**
+   * Finds an entity by UUID, loading the associations of the given fetch plan in the same query.
+   *
+   * @param uuid the entity UUID
+   * @param plan the fetch plan to apply
+   * @return the entity, or empty if not found
+   */
+  default Optional<T> findByUuid(UUID uuid, FetchPlan plan) {
+    if (plan.isEmpty()) {
+      return findById(uuid);
+    }
+    Specification<T> byUuid = (root, query, cb) -> cb.equal(root.get("uuid"), uuid);
+    return findBy(byUuid, query -> query.project(plan.attributePaths()).all())
+        .stream()
+        .findFirst();
+  }
+}
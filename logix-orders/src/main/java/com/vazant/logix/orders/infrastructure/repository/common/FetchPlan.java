@@ -0,0 +1,47 @@
+package com.vazant.logix.orders.infrastructure.repository.common;
+
+import java.util.List;
+import org.springframework.util.Assert;
+
+/**
+ * Named set of associations to load together with an entity.
+ * <p>
+ * Attribute paths use dot notation for nested associations (e.g. {@code items.product}) and are
+ * applied as a JPA fetch graph, so every listed association is joined into the same SELECT and
+ * everything else keeps its mapped fetch type.
+ *
+ * @param name the plan name, used for logging
+ * @param attributePaths the association paths to fetch
+ */
+public record FetchPlan(String name, List<String> attributePaths) {
+
+  /**
+   * Plan that loads only the entity itself, leaving associations to their mapped fetch type.
+   */
+  public static final FetchPlan NONE = new FetchPlan("none", List.of());
+
+  public FetchPlan {
+    Assert.hasText(name, "Fetch plan name must not be null or empty");
+    attributePaths = List.copyOf(attributePaths);
+  }
+
+  /**
+   * Creates a fetch plan.
+   *
+   * @param name the plan name
+   * @param attributePaths the association paths to fetch
+   * @return the fetch plan
+   */
+  public static FetchPlan of(String name, String... attributePaths) {
+    return new FetchPlan(name, List.of(attributePaths));
+  }
+
+  /**
+   * Returns whether the plan fetches any association.
+   *
+   * @return true if no association paths are listed
+   */
+  public boolean isEmpty() {
+    return attributePaths.isEmpty();
+  }
+}
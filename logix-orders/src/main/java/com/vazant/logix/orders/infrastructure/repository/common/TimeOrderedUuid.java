@@ -0,0 +1,18 @@
+package com.vazant.logix.orders.infrastructure.repository.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marks an identifier attribute whose value is generated as a time-ordered UUIDv7.
+ * <p>
+ * Sequential keys keep inserts at the right edge of the primary key index instead of scattering
+ * them across the whole B-tree as random v4 keys do.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {}
@@ -0,0 +1,30 @@
+package com.vazant.logix.orders.infrastructure.repository.common;
+
+import com.vazant.logix.orders.infrastructure.utils.UuidUtils;
+import java.util.EnumSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Hibernate identifier generator producing UUIDv7 values via {@link UuidUtils#generateTimeOrdered()}.
+ * <p>
+ * Identifiers are assigned in memory before the insert, so JDBC batching stays effective.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+  @Override
+  public Object generate(
+      SharedSessionContractImplementor session,
+      Object owner,
+      Object currentValue,
+      EventType eventType) {
+    return UuidUtils.generateTimeOrdered();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -1,14 +1,13 @@
 package com.vazant.logix.orders.infrastructure.repository.customer;
 
 import com.vazant.logix.orders.domain.customer.Customer;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface CustomerRepository extends JpaRepository<Customer, UUID> {
+public interface CustomerRepository extends BaseRepository<Customer> {
     
     /**
      * Find customer by email.
@@ -1,7 +1,6 @@
 package com.vazant.logix.orders.infrastructure.repository.media;
 
 import com.vazant.logix.orders.domain.media.Image;
-import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 
-public interface ImageRepository extends JpaRepository<Image, UUID> {}
+public interface ImageRepository extends BaseRepository<Image> {}
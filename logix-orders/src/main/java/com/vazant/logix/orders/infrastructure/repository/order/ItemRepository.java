@@ -1,7 +1,6 @@
 package com.vazant.logix.orders.infrastructure.repository.order;
 
 import com.vazant.logix.orders.domain.order.Item;
-import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 
-public interface ItemRepository extends JpaRepository<Item, UUID> {}
+public interface ItemRepository extends BaseRepository<Item> {}
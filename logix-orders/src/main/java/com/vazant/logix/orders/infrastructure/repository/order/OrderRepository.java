@@ -2,20 +2,106 @@ package com.vazant.logix.orders.infrastructure.repository.order;
 
 import com.vazant.logix.orders.domain.order.Order;
 import com.vazant.logix.orders.domain.order.OrderStatus;
+import com.vazant.logix.orders.dto.order.OrderDetail;
+import com.vazant.logix.orders.dto.order.OrderLine;
+import com.vazant.logix.orders.dto.order.OrderStatusView;
+import com.vazant.logix.orders.dto.order.OrderSummary;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
+import com.vazant.logix.orders.infrastructure.repository.common.FetchPlan;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, UUID> {
-  
-  @Query("SELECT o FROM Order o WHERE o.customer.uuid = :customerUuid")
-  List<Order> findByCustomerUuid(@Param("customerUuid") UUID customerUuid);
-  
-  @Query("SELECT o FROM Order o WHERE o.status = :status")
-  List<Order> findByStatus(@Param("status") OrderStatus status);
-  
-  @Query("SELECT o FROM Order o WHERE o.organization.uuid = :organizationUuid")
-  List<Order> findByOrganizationUuid(@Param("organizationUuid") UUID organizationUuid);
+public interface OrderRepository extends BaseRepository<Order> {
+
+  /** Order header with its customer and organization. */
+  FetchPlan SUMMARY = FetchPlan.of("summary", "customer", "organization");
+
+  /** Order header with its customer and item rows, without products. */
+  FetchPlan WITH_ITEMS = FetchPlan.of("with-items", "customer", "items");
+
+  /** Whole aggregate: customer, organization, items and each item's product. */
+  FetchPlan FULL = FetchPlan.of("full", "customer", "organization", "items.product");
+
+  String SUMMARY_SELECT = "SELECT new com.vazant.logix.orders.dto.order.OrderSummary("
+      + "o.uuid, o.status, c.uuid, concat(c.firstName, ' ', c.lastName), o.organization.uuid, "
+      + "o.warehouseId, o.total.amount, o.total.currency, size(o.items), o.orderDate, o.createdAt) "
+      + "FROM Order o JOIN o.customer c ";
+
+  String KEYSET_PAGE = " AND (o.createdAt > :afterCreatedAt "
+      + "OR (o.createdAt = :afterCreatedAt AND o.uuid > :afterUuid)) "
+      + "ORDER BY o.createdAt, o.uuid";
+
+  @Query(SUMMARY_SELECT + "WHERE o.customer.uuid = :customerUuid" + KEYSET_PAGE)
+  List<OrderSummary> findSummariesByCustomerUuid(
+      @Param("customerUuid") UUID customerUuid,
+      @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+      @Param("afterUuid") UUID afterUuid,
+      Limit limit);
+
+  @Query(SUMMARY_SELECT + "WHERE o.status = :status" + KEYSET_PAGE)
+  List<OrderSummary> findSummariesByStatus(
+      @Param("status") OrderStatus status,
+      @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+      @Param("afterUuid") UUID afterUuid,
+      Limit limit);
+
+  @Query(SUMMARY_SELECT + "WHERE o.organization.uuid = :organizationUuid" + KEYSET_PAGE)
+  List<OrderSummary> findSummariesByOrganizationUuid(
+      @Param("organizationUuid") UUID organizationUuid,
+      @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+      @Param("afterUuid") UUID afterUuid,
+      Limit limit);
+
+  @Query("SELECT new com.vazant.logix.orders.dto.order.OrderDetail("
+      + "o.uuid, o.status, c.uuid, concat(c.firstName, ' ', c.lastName), c.email, "
+      + "o.organization.uuid, o.warehouseId, o.description, o.total.amount, o.total.currency, "
+      + "o.orderDate, o.createdAt, o.updatedAt) "
+      + "FROM Order o JOIN o.customer c WHERE o.uuid = :uuid")
+  Optional<OrderDetail> findDetailByUuid(@Param("uuid") UUID uuid);
+
+  @Query("SELECT new com.vazant.logix.orders.dto.order.OrderLine("
+      + "i.uuid, p.uuid, p.name, i.quantity, i.unitPrice.amount, i.unitPrice.currency) "
+      + "FROM Item i JOIN i.product p WHERE i.order.uuid = :orderUuid ORDER BY i.createdAt, i.uuid")
+  List<OrderLine> findLinesByOrderUuid(@Param("orderUuid") UUID orderUuid);
+
+  @Query("SELECT o.status FROM Order o WHERE o.uuid = :uuid")
+  Optional<OrderStatus> findStatusByUuid(@Param("uuid") UUID uuid);
+
+  @Query("SELECT new com.vazant.logix.orders.dto.order.OrderStatusView(o.uuid, o.status) "
+      + "FROM Order o WHERE o.uuid IN :uuids")
+  List<OrderStatusView> findStatuses(@Param("uuids") Collection<UUID> uuids);
+
+  /**
+   * Reads back the orders that a {@link #compareAndSetStatus} call stamped with {@code updatedAt}
+   * did not move to {@code status}.
+   */
+  @Query("SELECT new com.vazant.logix.orders.dto.order.OrderStatusView(o.uuid, o.status) "
+      + "FROM Order o WHERE o.uuid IN :uuids "
+      + "AND (o.status <> :status OR o.updatedAt <> :updatedAt)")
+  List<OrderStatusView> findStatusesNotSetAt(
+      @Param("uuids") Collection<UUID> uuids,
+      @Param("status") OrderStatus status,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  /**
+   * Moves the given orders to a new status, but only those still in one of the expected statuses.
+   *
+   * @return the number of orders updated
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt, "
+      + "o.version = o.version + 1 "
+      + "WHERE o.uuid IN :uuids AND o.status IN :allowedFrom")
+  int compareAndSetStatus(
+      @Param("uuids") Collection<UUID> uuids,
+      @Param("allowedFrom") Collection<OrderStatus> allowedFrom,
+      @Param("status") OrderStatus status,
+      @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,11 +1,10 @@
 package com.vazant.logix.orders.infrastructure.repository.organization;
 
 import com.vazant.logix.orders.domain.organization.Organization;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 import java.util.Optional;
-import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface OrganizationRepository extends JpaRepository<Organization, UUID> {
+public interface OrganizationRepository extends BaseRepository<Organization> {
 
   Optional<Organization> findByName(String name);
 
@@ -0,0 +1,46 @@
+package com.vazant.logix.orders.infrastructure.repository.outbox;
+
+import com.vazant.logix.orders.domain.outbox.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+  /**
+   * Locks the oldest unsent events that are not claimed by a relay or whose claim has expired.
+   * Rows already locked by another relay instance are skipped.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT e FROM OutboxEvent e WHERE e.sentAt IS NULL "
+      + "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.createdAt, e.uuid")
+  List<OutboxEvent> lockClaimable(@Param("now") LocalDateTime now, Limit limit);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.claimedUntil = :claimedUntil WHERE e.uuid IN :uuids")
+  int claim(
+      @Param("uuids") Collection<UUID> uuids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.claimedUntil = NULL WHERE e.uuid IN :uuids")
+  int release(@Param("uuids") Collection<UUID> uuids);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.sentAt = :sentAt WHERE e.uuid IN :uuids")
+  int markSent(@Param("uuids") Collection<UUID> uuids, @Param("sentAt") LocalDateTime sentAt);
+
+  @Modifying
+  @Query("DELETE FROM OutboxEvent e WHERE e.sentAt < :cutoff")
+  int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,7 +1,6 @@
 package com.vazant.logix.orders.infrastructure.repository.product;
 
 import com.vazant.logix.orders.domain.product.Category;
-import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 
-public interface CategoryRepository extends JpaRepository<Category, UUID> {}
+public interface CategoryRepository extends BaseRepository<Category> {}
@@ -1,7 +1,6 @@
 package com.vazant.logix.orders.infrastructure.repository.product;
 
 import com.vazant.logix.orders.domain.product.ProductPrice;
-import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 
-public interface ProductPriceRepository extends JpaRepository<ProductPrice, UUID> {}
+public interface ProductPriceRepository extends BaseRepository<ProductPrice> {}
@@ -1,13 +1,13 @@
 package com.vazant.logix.orders.infrastructure.repository.product;
 
 import com.vazant.logix.orders.domain.product.Product;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 import java.util.List;
 import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends BaseRepository<Product> {
   
   @Query("SELECT p FROM Product p WHERE p.categoryId = :categoryUuid")
   List<Product> findByCategoryUuid(@Param("categoryUuid") UUID categoryUuid);
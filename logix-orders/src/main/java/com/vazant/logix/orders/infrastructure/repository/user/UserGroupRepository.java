@@ -2,11 +2,10 @@ package com.vazant.logix.orders.infrastructure.repository.user;
 
 import com.vazant.logix.orders.domain.user.UserGroup;
 import com.vazant.logix.orders.domain.user.UserGroupName;
+import com.vazant.logix.orders.infrastructure.repository.common.BaseRepository;
 import java.util.Optional;
-import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserGroupRepository extends JpaRepository<UserGroup, UUID> {
+public interface UserGroupRepository extends BaseRepository<UserGroup> {
 
   Optional<UserGroup> findByGroupName(UserGroupName groupName);
 
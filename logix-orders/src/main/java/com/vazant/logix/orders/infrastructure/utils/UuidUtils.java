@@ -3,9 +3,10 @@ package com.vazant.logix.orders.infrastructure.utils;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Утилита для работы с UUID.
@@ -13,14 +14,38 @@ import java.util.regex.Pattern;
  */
 public final class UuidUtils {
 
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-        "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
-    );
-    
-    private static final Pattern COMPACT_UUID_PATTERN = Pattern.compile("^[0-9a-fA-F]{32}$");
-    
-    private static final ConcurrentHashMap<String, UUID> CACHE = new ConcurrentHashMap<>();
-    private static final int MAX_CACHE_SIZE = 1000;
+    private static final int CANONICAL_LENGTH = 36;
+    private static final int COMPACT_LENGTH = 32;
+    private static final long INVALID = -1L;
+
+    /**
+     * Таблица значений шестнадцатеричных цифр для ASCII; -1 для остальных символов.
+     */
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private static final int V7_COUNTER_BITS = 12;
+    private static final long V7_COUNTER_MASK = (1L << V7_COUNTER_BITS) - 1;
+    private static final long V7_VERSION_BITS = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+
+    /**
+     * Последнее выданное состояние UUIDv7: 48 бит миллисекунд и 12 бит счётчика.
+     */
+    private static final AtomicLong LAST_V7_STATE = new AtomicLong();
 
     private UuidUtils() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
@@ -28,40 +53,29 @@ public final class UuidUtils {
 
     /**
      * Парсит строку в UUID.
+     * <p>
+     * Строка разбирается за один проход без регулярных выражений и промежуточных подстрок;
+     * пробелы по краям игнорируются.
      *
      * @param uuidString строка для парсинга
      * @return UUID
      * @throws IllegalArgumentException если строка не является валидным UUID
      */
     public static UUID parse(String uuidString) {
-        if (uuidString == null || uuidString.trim().isEmpty()) {
+        if (uuidString == null) {
             throw new IllegalArgumentException("UUID string cannot be null or empty");
         }
-
-        // Проверяем кэш
-        UUID cached = CACHE.get(uuidString);
-        if (cached != null) {
-            return cached;
+        int start = trimStart(uuidString);
+        int end = trimEnd(uuidString, start);
+        if (start == end) {
+            throw new IllegalArgumentException("UUID string cannot be null or empty");
         }
 
-        String normalized = uuidString.trim();
-        
-        if (!isValidUuid(normalized)) {
+        UUID uuid = end - start == CANONICAL_LENGTH ? decodeCanonical(uuidString, start) : null;
+        if (uuid == null) {
             throw new IllegalArgumentException("Invalid UUID format: " + uuidString);
         }
-
-        try {
-            UUID uuid = UUID.fromString(normalized);
-            
-            // Кэшируем результат
-            if (CACHE.size() < MAX_CACHE_SIZE) {
-                CACHE.put(uuidString, uuid);
-            }
-            
-            return uuid;
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid UUID format: " + uuidString, e);
-        }
+        return uuid;
     }
 
     /**
@@ -79,18 +93,18 @@ public final class UuidUtils {
     }
 
     /**
-     * Проверяет, является ли строка валидным UUID.
+     * Проверяет, является ли строка валидным UUID в каноническом формате.
      *
      * @param uuidString строка для проверки
      * @return true, если строка является валидным UUID
      */
     public static boolean isValidUuid(String uuidString) {
-        if (uuidString == null || uuidString.trim().isEmpty()) {
+        if (uuidString == null) {
             return false;
         }
-        
-        String normalized = uuidString.trim();
-        return UUID_PATTERN.matcher(normalized).matches();
+        int start = trimStart(uuidString);
+        int end = trimEnd(uuidString, start);
+        return end - start == CANONICAL_LENGTH && decodeCanonical(uuidString, start) != null;
     }
 
     /**
@@ -115,6 +129,49 @@ public final class UuidUtils {
         return UUID.randomUUID();
     }
 
+    /**
+     * Генерирует упорядоченный по времени UUID версии 7 (RFC 9562).
+     * <p>
+     * Старшие 48 бит содержат Unix-время в миллисекундах, следующие 12 бит — счётчик,
+     * который начинается со случайного значения в каждой новой миллисекунде. Значения
+     * строго возрастают в пределах процесса: при переполнении счётчика время сдвигается
+     * на следующую миллисекунду. Генерация не использует блокировок (CAS по {@link AtomicLong}).
+     *
+     * @return новый UUIDv7
+     */
+    public static UUID generateTimeOrdered() {
+        return generateTimeOrdered(System.currentTimeMillis());
+    }
+
+    static UUID generateTimeOrdered(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long candidate = (epochMillis << V7_COUNTER_BITS) | random.nextInt(1 << (V7_COUNTER_BITS - 1));
+        long state;
+        long previous;
+        do {
+            previous = LAST_V7_STATE.get();
+            state = candidate > previous ? candidate : previous + 1;
+        } while (!LAST_V7_STATE.compareAndSet(previous, state));
+
+        long msb = ((state >>> V7_COUNTER_BITS) << 16) | V7_VERSION_BITS | (state & V7_COUNTER_MASK);
+        long lsb = (random.nextLong() & VARIANT_MASK) | VARIANT_BITS;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Возвращает время создания UUIDv7 в миллисекундах Unix-эпохи.
+     *
+     * @param uuid UUID версии 7
+     * @return время создания в миллисекундах
+     * @throws IllegalArgumentException если UUID не версии 7
+     */
+    public static long getTimestampMillis(UUID uuid) {
+        if (uuid == null || uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID must be version 7");
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
     /**
      * Генерирует UUID на основе имени (использует SHA-256 хеш).
      *
@@ -166,7 +223,10 @@ public final class UuidUtils {
         if (uuid == null) {
             throw new IllegalArgumentException("UUID cannot be null");
         }
-        return uuid.toString().replace("-", "");
+        char[] chars = new char[COMPACT_LENGTH];
+        writeHex(chars, 0, uuid.getMostSignificantBits());
+        writeHex(chars, 16, uuid.getLeastSignificantBits());
+        return new String(chars);
     }
 
     /**
@@ -177,37 +237,100 @@ public final class UuidUtils {
      * @throws IllegalArgumentException если строка не является валидным компактным UUID
      */
     public static UUID parseCompact(String compactString) {
-        if (compactString == null || compactString.length() != 32) {
+        if (compactString == null || compactString.length() != COMPACT_LENGTH) {
             throw new IllegalArgumentException("Compact UUID must be exactly 32 characters");
         }
-        
-        if (!COMPACT_UUID_PATTERN.matcher(compactString).matches()) {
+
+        long high = hex(compactString, 0, 8);
+        long midHigh = hex(compactString, 8, 8);
+        long midLow = hex(compactString, 16, 8);
+        long low = hex(compactString, 24, 8);
+        if ((high | midHigh | midLow | low) < 0) {
             throw new IllegalArgumentException("Invalid compact UUID format: " + compactString);
         }
-        
-        // Вставляем дефисы в правильные позиции
-        String formatted = compactString.substring(0, 8) + "-" +
-                          compactString.substring(8, 12) + "-" +
-                          compactString.substring(12, 16) + "-" +
-                          compactString.substring(16, 20) + "-" +
-                          compactString.substring(20, 32);
-        
-        return UUID.fromString(formatted);
+        return new UUID(high << 32 | midHigh, midLow << 32 | low);
     }
 
     /**
      * Очищает кэш UUID.
+     *
+     * @deprecated кэш удалён: однопроходный разбор дешевле поиска в кэше
      */
+    @Deprecated
     public static void clearCache() {
-        CACHE.clear();
+        // кэш больше не используется
     }
 
     /**
      * Получает размер кэша UUID.
      *
-     * @return размер кэша
+     * @return всегда 0
+     * @deprecated кэш удалён: однопроходный разбор дешевле поиска в кэше
      */
+    @Deprecated
     public static int getCacheSize() {
-        return CACHE.size();
+        return 0;
+    }
+
+    /**
+     * Декодирует канонический UUID (8-4-4-4-12), начиная с указанной позиции.
+     *
+     * @return UUID или null, если формат неверный
+     */
+    private static UUID decodeCanonical(String s, int offset) {
+        if (s.charAt(offset + 8) != '-' || s.charAt(offset + 13) != '-'
+                || s.charAt(offset + 18) != '-' || s.charAt(offset + 23) != '-') {
+            return null;
+        }
+        long timeLow = hex(s, offset, 8);
+        long timeMid = hex(s, offset + 9, 4);
+        long timeHigh = hex(s, offset + 14, 4);
+        long clockSeq = hex(s, offset + 19, 4);
+        long node = hex(s, offset + 24, 12);
+        if ((timeLow | timeMid | timeHigh | clockSeq | node) < 0) {
+            return null;
+        }
+        return new UUID(timeLow << 32 | timeMid << 16 | timeHigh, clockSeq << 48 | node);
+    }
+
+    /**
+     * Читает {@code count} (не более 15) шестнадцатеричных цифр.
+     *
+     * @return значение или {@link #INVALID}, если встретился недопустимый символ
+     */
+    private static long hex(String s, int offset, int count) {
+        long value = 0;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            char ch = s.charAt(i);
+            int digit = ch < HEX_VALUES.length ? HEX_VALUES[ch] : -1;
+            if (digit < 0) {
+                return INVALID;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static void writeHex(char[] target, int offset, long value) {
+        for (int i = offset + 15; i >= offset; i--) {
+            target[i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static int trimStart(String s) {
+        int start = 0;
+        while (start < s.length() && s.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String s, int start) {
+        int end = s.length();
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
     }
 }
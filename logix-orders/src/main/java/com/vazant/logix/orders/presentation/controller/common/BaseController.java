@@ -1,14 +1,33 @@
 package com.vazant.logix.orders.presentation.controller.common;
 
 import com.vazant.logix.orders.application.service.common.CrudService;
+import com.vazant.logix.orders.application.service.common.CursorPage;
 import com.vazant.logix.orders.domain.common.BaseEntity;
 import com.vazant.logix.orders.domain.common.Updatable;
 import com.vazant.logix.orders.presentation.validation.ValidUuid;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -20,17 +39,27 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public abstract class BaseController<T extends BaseEntity & Updatable<T>> {
 
+  private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
   protected final CrudService<T> crudService;
 
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private Validator validator;
+
   /**
-   * Get all entities.
+   * Get a page of entities ordered by creation time.
    *
-   * @return list of all entities
+   * @param cursor the cursor returned with the previous page, omit for the first page
+   * @param size the requested page size, capped on the server
+   * @return the page of entities with the cursor for the next one
    */
   @GetMapping
-  public ResponseEntity<List<T>> getAll() {
-    List<T> entities = crudService.findAll();
-    return ResponseEntity.ok(entities);
+  public ResponseEntity<CursorPage<T>> getAll(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    CursorPage<T> page = crudService.findPage(cursor, size);
+    return ResponseEntity.ok(page);
   }
 
   /**
@@ -74,6 +103,32 @@ public abstract class BaseController<T extends BaseEntity & Updatable<T>> {
     return ResponseEntity.ok(updated);
   }
 
+  /**
+   * Partially update an existing entity using JSON merge patch semantics: only the fields present
+   * in the body are changed. An optional {@code version} field is checked against the stored one.
+   * <p>
+   * The fields are bound onto a copy of the stored entity, which is validated like a PUT body and
+   * applied through {@link Updatable#updateFrom}. Associations and the fields returned by
+   * {@link #getNonPatchableFields()} are rejected with 400.
+   *
+   * @param uuid the entity UUID
+   * @param changes the fields to change
+   * @return the updated entity
+   */
+  @PatchMapping(
+      value = "/{uuid}",
+      consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<T> patch(
+      @PathVariable @ValidUuid String uuid, @RequestBody ObjectNode changes) {
+    Assert.hasText(uuid, "UUID must not be null or empty");
+    Assert.notNull(changes, "Changes must not be null");
+    JsonNode version = changes.remove("version");
+    Long expectedVersion = version == null || version.isNull() ? null : version.asLong();
+    changes.remove(List.of("uuid", "createdAt", "updatedAt"));
+    T patched = crudService.patch(uuid, expectedVersion, entity -> merge(entity, changes));
+    return ResponseEntity.ok(patched);
+  }
+
   /**
    * Delete entity.
    *
@@ -110,4 +165,51 @@ public abstract class BaseController<T extends BaseEntity & Updatable<T>> {
     long count = crudService.count();
     return ResponseEntity.ok(count);
   }
-} 
\ No newline at end of file
+
+  /**
+   * Returns the fields a PATCH request may not change, mapped to the reason reported to the
+   * client. Associations are always rejected; subclasses add fields that have their own endpoint.
+   *
+   * @return the non-patchable fields with the reason for each
+   */
+  protected Map<String, String> getNonPatchableFields() {
+    return Map.of();
+  }
+
+  private T merge(T entity, ObjectNode changes) {
+    changes.fieldNames().forEachRemaining(name -> checkPatchable(entity.getClass(), name));
+    @SuppressWarnings("unchecked")
+    T updated = (T) BeanUtils.instantiateClass(entity.getClass());
+    ReflectionUtils.shallowCopyFieldState(entity, updated);
+    try {
+      objectMapper.readerForUpdating(updated).readValue(changes);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Invalid patch: " + e.getMessage(), e);
+    }
+    Set<ConstraintViolation<T>> violations = validator.validate(updated);
+    if (!violations.isEmpty()) {
+      throw new ConstraintViolationException(violations);
+    }
+    return updated;
+  }
+
+  private void checkPatchable(Class<?> entityClass, String name) {
+    String reason = getNonPatchableFields().get(name);
+    if (reason != null) {
+      throw new IllegalArgumentException(
+          String.format("Field '%s' cannot be patched: %s", name, reason));
+    }
+    Field field = ReflectionUtils.findField(entityClass, name);
+    if (field != null && isAssociation(field)) {
+      throw new IllegalArgumentException(
+          String.format("Field '%s' is an association and cannot be patched", name));
+    }
+  }
+
+  private static boolean isAssociation(Field field) {
+    return field.isAnnotationPresent(ManyToOne.class)
+        || field.isAnnotationPresent(OneToMany.class)
+        || field.isAnnotationPresent(ManyToMany.class)
+        || field.isAnnotationPresent(OneToOne.class);
+  }
+}
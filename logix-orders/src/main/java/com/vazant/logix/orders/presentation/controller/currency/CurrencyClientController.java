@@ -0,0 +1,31 @@
+package com.vazant.logix.orders.presentation.controller.currency;
+
+import com.vazant.logix.orders.infrastructure.kafka.CurrencyConversionClient;
+import com.vazant.logix.orders.infrastructure.kafka.CurrencyConversionMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing the counters of the currency conversion client.
+ */
+@RestController
+@RequestMapping("/api/currency-client")
+@RequiredArgsConstructor
+public class CurrencyClientController {
+
+  private final CurrencyConversionClient currencyConversionClient;
+
+  /**
+   * Returns the local replica hits, round-trip outcomes, rejections, in-flight requests and
+   * latencies of the currency conversion client.
+   *
+   * @return a point-in-time snapshot of the client metrics
+   */
+  @GetMapping("/stats")
+  public ResponseEntity<CurrencyConversionMetrics.Snapshot> getStats() {
+    return ResponseEntity.ok(currencyConversionClient.metrics());
+  }
+}
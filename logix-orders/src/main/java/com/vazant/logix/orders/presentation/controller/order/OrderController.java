@@ -1,17 +1,31 @@
 package com.vazant.logix.orders.presentation.controller.order;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vazant.logix.orders.application.service.common.CursorPage;
 import com.vazant.logix.orders.application.service.order.OrderBusinessService;
 import com.vazant.logix.orders.application.service.order.OrderService;
 import com.vazant.logix.orders.domain.order.Order;
 import com.vazant.logix.orders.domain.order.OrderStatus;
 import com.vazant.logix.orders.domain.organization.Organization;
+import com.vazant.logix.orders.dto.order.OrderBatchResponse;
+import com.vazant.logix.orders.dto.order.OrderDetail;
 import com.vazant.logix.orders.dto.order.OrderRequest;
+import com.vazant.logix.orders.dto.order.OrderStatusTransitionResponse;
+import com.vazant.logix.orders.dto.order.OrderSummary;
 import com.vazant.logix.orders.infrastructure.repository.organization.OrganizationRepository;
 import com.vazant.logix.orders.presentation.controller.common.BaseController;
 import com.vazant.logix.orders.presentation.validation.ValidUuid;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,12 +42,14 @@ public class OrderController extends BaseController<Order> {
 
   private final OrderBusinessService orderBusinessService;
   private final OrganizationRepository organizationRepository;
+  private final ObjectMapper objectMapper;
 
   public OrderController(OrderService orderService, OrderBusinessService orderBusinessService, 
-                        OrganizationRepository organizationRepository) {
+                        OrganizationRepository organizationRepository, ObjectMapper objectMapper) {
     super(orderService);
     this.orderBusinessService = orderBusinessService;
     this.organizationRepository = organizationRepository;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -44,14 +60,43 @@ public class OrderController extends BaseController<Order> {
    */
   @PostMapping
   public ResponseEntity<Order> createOrder(@Valid @RequestBody OrderRequest request) {
-    // TODO: Get organization from security context instead of hardcoding
-    Organization organization = organizationRepository.findAll().stream().findFirst()
-        .orElseThrow(() -> new IllegalArgumentException("No organization available"));
-    
-    Order order = orderBusinessService.createOrder(request, organization);
+    Order order = orderBusinessService.createOrder(request, currentOrganization());
     return ResponseEntity.ok(order);
   }
 
+  /**
+   * Creates orders from a JSON array of order requests.
+   *
+   * @param requests the order creation requests
+   * @return the per-record results
+   */
+  @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<OrderBatchResponse> createOrders(@RequestBody List<OrderRequest> requests) {
+    return ResponseEntity.ok(orderBusinessService.createOrders(requests, currentOrganization()));
+  }
+
+  /**
+   * Creates orders from a newline-delimited JSON stream of order requests.
+   *
+   * @param body the NDJSON request body
+   * @return the per-record results
+   * @throws IOException if the request body cannot be read
+   */
+  @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<OrderBatchResponse> createOrdersFromStream(InputStream body)
+      throws IOException {
+    List<OrderRequest> requests = new ArrayList<>();
+    try (MappingIterator<OrderRequest> records =
+        objectMapper.readerFor(OrderRequest.class).readValues(body)) {
+      while (records.hasNextValue()) {
+        requests.add(records.nextValue());
+      }
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Malformed NDJSON record: " + e.getOriginalMessage(), e);
+    }
+    return ResponseEntity.ok(orderBusinessService.createOrders(requests, currentOrganization()));
+  }
+
   /**
    * Updates order status.
    *
@@ -66,15 +111,56 @@ public class OrderController extends BaseController<Order> {
     return ResponseEntity.ok(order);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The status only changes through {@code PUT /api/orders/{uuid}/status}, which checks the
+   * transition and records the status change event.
+   */
+  @Override
+  protected Map<String, String> getNonPatchableFields() {
+    return Map.of("status", "use PUT /api/orders/{uuid}/status to change the order status");
+  }
+
+  /**
+   * Moves many orders to a new status. Orders that cannot make the transition are reported in the
+   * response without failing the others.
+   *
+   * @param status the new status
+   * @param orderIds the order UUIDs
+   * @return the per-order results
+   */
+  @PutMapping("/status")
+  public ResponseEntity<OrderStatusTransitionResponse> updateStatuses(
+      @RequestParam OrderStatus status, @RequestBody List<UUID> orderIds) {
+    return ResponseEntity.ok(orderBusinessService.updateStatuses(orderIds, status));
+  }
+
+  /**
+   * Gets an order with its lines as a read-only projection.
+   *
+   * @param uuid the order UUID
+   * @return the order detail
+   */
+  @GetMapping("/{uuid}/details")
+  public ResponseEntity<OrderDetail> getDetails(@PathVariable @ValidUuid String uuid) {
+    return ResponseEntity.ok(orderBusinessService.findDetails(uuid));
+  }
+
   /**
    * Finds orders by customer.
    *
    * @param customerId the customer UUID
-   * @return list of orders for the customer
+   * @param cursor the cursor returned with the previous page
+   * @param size the requested page size
+   * @return page of order summaries for the customer
    */
   @GetMapping("/customer/{customerId}")
-  public ResponseEntity<List<Order>> findByCustomer(@PathVariable @ValidUuid String customerId) {
-    List<Order> orders = orderBusinessService.findByCustomer(customerId);
+  public ResponseEntity<CursorPage<OrderSummary>> findByCustomer(
+      @PathVariable @ValidUuid String customerId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    CursorPage<OrderSummary> orders = orderBusinessService.findByCustomer(customerId, cursor, size);
     return ResponseEntity.ok(orders);
   }
 
@@ -82,11 +168,16 @@ public class OrderController extends BaseController<Order> {
    * Finds orders by status.
    *
    * @param status the order status
-   * @return list of orders with the specified status
+   * @param cursor the cursor returned with the previous page
+   * @param size the requested page size
+   * @return page of order summaries with the specified status
    */
   @GetMapping("/status/{status}")
-  public ResponseEntity<List<Order>> findByStatus(@PathVariable OrderStatus status) {
-    List<Order> orders = orderBusinessService.findByStatus(status);
+  public ResponseEntity<CursorPage<OrderSummary>> findByStatus(
+      @PathVariable OrderStatus status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    CursorPage<OrderSummary> orders = orderBusinessService.findByStatus(status, cursor, size);
     return ResponseEntity.ok(orders);
   }
 
@@ -94,11 +185,23 @@ public class OrderController extends BaseController<Order> {
    * Finds orders by organization.
    *
    * @param organizationId the organization UUID
-   * @return list of orders for the organization
+   * @param cursor the cursor returned with the previous page
+   * @param size the requested page size
+   * @return page of order summaries for the organization
    */
   @GetMapping("/organization/{organizationId}")
-  public ResponseEntity<List<Order>> findByOrganization(@PathVariable @ValidUuid String organizationId) {
-    List<Order> orders = orderBusinessService.findByOrganization(organizationId);
+  public ResponseEntity<CursorPage<OrderSummary>> findByOrganization(
+      @PathVariable @ValidUuid String organizationId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    CursorPage<OrderSummary> orders =
+        orderBusinessService.findByOrganization(organizationId, cursor, size);
     return ResponseEntity.ok(orders);
   }
+
+  private Organization currentOrganization() {
+    // TODO: Get organization from security context instead of hardcoding
+    return organizationRepository.findAll().stream().findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("No organization available"));
+  }
 }
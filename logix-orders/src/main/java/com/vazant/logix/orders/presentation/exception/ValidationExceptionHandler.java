@@ -1,5 +1,6 @@
 package com.vazant.logix.orders.presentation.exception;
 
+import com.vazant.logix.orders.domain.order.OrderStatusConflictException;
 import com.vazant.logix.orders.infrastructure.utils.MessageUtils;
 import com.vazant.logix.orders.presentation.dto.ErrorResponse;
 import com.vazant.logix.orders.presentation.dto.ValidationErrorResponse;
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -103,6 +105,46 @@ public class ValidationExceptionHandler {
     return ResponseEntity.badRequest().body(response);
   }
 
+  /**
+   * Handles order status transitions that lost a race with another change.
+   */
+  @ExceptionHandler(OrderStatusConflictException.class)
+  public ResponseEntity<ErrorResponse> handleOrderStatusConflict(
+      OrderStatusConflictException ex, HttpServletRequest request) {
+
+    log.warn("Order status conflict: {}", ex.getMessage());
+
+    ErrorResponse response = ErrorResponse.builder()
+        .timestamp(LocalDateTime.now())
+        .status(HttpStatus.CONFLICT.value())
+        .error(HttpStatus.CONFLICT.getReasonPhrase())
+        .message(ex.getMessage())
+        .path(request.getRequestURI())
+        .build();
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+  }
+
+  /**
+   * Handles updates made against a stale entity version.
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+      OptimisticLockingFailureException ex, HttpServletRequest request) {
+
+    log.warn("Optimistic locking failure: {}", ex.getMessage());
+
+    ErrorResponse response = ErrorResponse.builder()
+        .timestamp(LocalDateTime.now())
+        .status(HttpStatus.CONFLICT.value())
+        .error(HttpStatus.CONFLICT.getReasonPhrase())
+        .message("The resource was modified concurrently, reload it and retry")
+        .path(request.getRequestURI())
+        .build();
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+  }
+
   /**
    * Handles email delivery exceptions.
    */
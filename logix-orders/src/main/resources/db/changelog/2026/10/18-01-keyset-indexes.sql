@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+-- changeset Vazant:1792310400000-1
+CREATE INDEX idx_orders_created_at_uuid ON orders (created_at, uuid);
+CREATE INDEX idx_customers_created_at_uuid ON customers (created_at, uuid);
+CREATE INDEX idx_products_created_at_uuid ON products (created_at, uuid);
+
+-- changeset Vazant:1792310400000-2
+CREATE INDEX idx_orders_customer_created_at_uuid ON orders (customer_uuid, created_at, uuid);
+CREATE INDEX idx_orders_status_created_at_uuid ON orders (status, created_at, uuid);
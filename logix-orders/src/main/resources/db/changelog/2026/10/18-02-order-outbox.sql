@@ -0,0 +1,18 @@
+--liquibase formatted sql
+
+-- changeset Vazant:1792310400000-3
+CREATE TABLE order_outbox
+(
+    uuid           UUID         NOT NULL,
+    created_at     TIMESTAMP WITHOUT TIME ZONE DEFAULT NOW() NOT NULL,
+    updated_at     TIMESTAMP WITHOUT TIME ZONE DEFAULT NOW() NOT NULL,
+    aggregate_uuid UUID         NOT NULL,
+    event_type     VARCHAR(255) NOT NULL,
+    payload        TEXT         NOT NULL,
+    sent_at        TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_order_outbox PRIMARY KEY (uuid)
+);
+
+-- changeset Vazant:1792310400000-4
+CREATE INDEX idx_order_outbox_unsent ON order_outbox (created_at, uuid) WHERE sent_at IS NULL;
+CREATE INDEX idx_order_outbox_sent_at ON order_outbox (sent_at) WHERE sent_at IS NOT NULL;
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+-- changeset Vazant:1792310400000-5
+ALTER TABLE categories ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE customers ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE images ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE order_items ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE orders ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE organizations ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE persons ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE product_prices ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE products ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE user_groups ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE user_responsibilities ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE activation_tokens ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE order_outbox ADD version BIGINT DEFAULT 0 NOT NULL;
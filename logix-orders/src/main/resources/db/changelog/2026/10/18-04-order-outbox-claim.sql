@@ -0,0 +1,4 @@
+--liquibase formatted sql
+
+-- changeset Vazant:1792310400000-6
+ALTER TABLE order_outbox ADD claimed_until TIMESTAMP WITHOUT TIME ZONE;
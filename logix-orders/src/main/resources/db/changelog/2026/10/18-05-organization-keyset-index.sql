@@ -0,0 +1,4 @@
+--liquibase formatted sql
+
+-- changeset Vazant:1792310400000-7
+CREATE INDEX idx_orders_organization_created_at_uuid ON orders (organization_uuid, created_at, uuid);
@@ -1,19 +1,29 @@
 package com.vazant.logix.orders.application.service.common;
 
 import com.vazant.logix.orders.domain.customer.Customer;
+import com.vazant.logix.orders.infrastructure.repository.common.FetchPlan;
 import com.vazant.logix.orders.infrastructure.repository.customer.CustomerRepository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +66,37 @@ class AbstractCrudServiceTest {
         .hasMessageContaining("Customer not found with UUID");
   }
 
+  @Test
+  void shouldFindByUuidWithFetchPlan() {
+    // Given
+    UUID uuid = UUID.randomUUID();
+    FetchPlan plan = FetchPlan.of("test", "association");
+    Customer customer = createTestCustomer("John", "Doe", "john@example.com");
+    when(customerRepository.findByUuid(uuid, plan)).thenReturn(Optional.of(customer));
+
+    // When
+    Customer result = customerService.findByUuid(uuid.toString(), plan);
+
+    // Then
+    assertThat(result).isEqualTo(customer);
+    verify(customerRepository, never()).findById(any());
+  }
+
+  @Test
+  void shouldFindByUuidWithEmptyFetchPlanThroughPersistenceContext() {
+    // Given
+    UUID uuid = UUID.randomUUID();
+    Customer customer = createTestCustomer("John", "Doe", "john@example.com");
+    when(customerRepository.findById(uuid)).thenReturn(Optional.of(customer));
+
+    // When
+    Customer result = customerService.findByUuid(uuid.toString(), FetchPlan.NONE);
+
+    // Then
+    assertThat(result).isEqualTo(customer);
+    verify(customerRepository, never()).findByUuid(any(), any());
+  }
+
   @Test
   void shouldValidateUuidInput() {
     // When & Then
@@ -89,6 +130,53 @@ class AbstractCrudServiceTest {
     assertThat(result).isEqualTo(customers);
   }
 
+  @Test
+  void shouldFindFirstPageWithDefaultSize() {
+    // Given
+    Customer customer = createTestCustomer("John", "Doe", "john@example.com");
+    LocalDateTime createdAt = LocalDateTime.of(2025, 4, 1, 12, 30, 15, 123_000_000);
+    UUID uuid = UUID.randomUUID();
+    ScrollPosition last = ScrollPosition.forward(Map.of("createdAt", createdAt, "uuid", uuid));
+    when(customerRepository.scroll(ScrollPosition.keyset(), PageCursor.DEFAULT_SIZE))
+        .thenReturn(Window.from(List.of(customer), index -> last, true));
+
+    // When
+    CursorPage<Customer> result = customerService.findPage(null, null);
+
+    // Then
+    assertThat(result.items()).containsExactly(customer);
+    assertThat(result.hasNext()).isTrue();
+    assertThat(PageCursor.decode(result.nextCursor())).isEqualTo(last);
+  }
+
+  @Test
+  void shouldContinueFromCursorAndClampPageSize() {
+    // Given
+    ScrollPosition position = ScrollPosition.forward(
+        Map.of("createdAt", LocalDateTime.of(2025, 4, 1, 12, 0), "uuid", UUID.randomUUID()));
+    String cursor = PageCursor.encode(position);
+    when(customerRepository.scroll(any(ScrollPosition.class), anyInt()))
+        .thenReturn(Window.from(List.of(), index -> position, false));
+
+    // When
+    CursorPage<Customer> result = customerService.findPage(cursor, 10_000);
+
+    // Then
+    ArgumentCaptor<ScrollPosition> captor = ArgumentCaptor.forClass(ScrollPosition.class);
+    verify(customerRepository).scroll(captor.capture(), eq(PageCursor.MAX_SIZE));
+    assertThat(captor.getValue()).isEqualTo(position);
+    assertThat(result.hasNext()).isFalse();
+    assertThat(result.nextCursor()).isNull();
+  }
+
+  @Test
+  void shouldRejectMalformedCursor() {
+    // When & Then
+    assertThatThrownBy(() -> customerService.findPage("not-a-cursor", 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid page cursor");
+  }
+
   @Test
   void shouldCreate() {
     // Given
@@ -130,6 +218,59 @@ class AbstractCrudServiceTest {
     verify(customerRepository).save(existingCustomer);
   }
 
+  @Test
+  void shouldRejectUpdateWithStaleVersion() {
+    // Given
+    UUID uuid = UUID.randomUUID();
+    Customer existingCustomer = createTestCustomer("John", "Doe", "john@example.com");
+    existingCustomer.setVersion(2L);
+    Customer updatedCustomer = createTestCustomer("John", "Updated", "john@example.com");
+    updatedCustomer.setVersion(1L);
+    when(customerRepository.findById(uuid)).thenReturn(Optional.of(existingCustomer));
+
+    // When & Then
+    assertThatThrownBy(() -> customerService.update(uuid.toString(), updatedCustomer))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    verify(customerRepository, never()).save(any(Customer.class));
+    assertThat(existingCustomer.getLastName()).isEqualTo("Doe");
+  }
+
+  @Test
+  void shouldPatchMatchingVersion() {
+    // Given
+    UUID uuid = UUID.randomUUID();
+    Customer existingCustomer = createTestCustomer("John", "Doe", "john@example.com");
+    existingCustomer.setVersion(2L);
+    when(customerRepository.findById(uuid)).thenReturn(Optional.of(existingCustomer));
+
+    // When
+    Customer result = customerService.patch(uuid.toString(), 2L,
+        c -> createTestCustomer(c.getFirstName(), "Patched", c.getEmail()));
+
+    // Then
+    assertThat(result).isSameAs(existingCustomer);
+    assertThat(result.getFirstName()).isEqualTo("John");
+    assertThat(result.getLastName()).isEqualTo("Patched");
+    assertThat(result.getUpdatedAt()).isNotNull();
+    verify(customerRepository).flush();
+  }
+
+  @Test
+  void shouldRejectPatchWithStaleVersion() {
+    // Given
+    UUID uuid = UUID.randomUUID();
+    Customer existingCustomer = createTestCustomer("John", "Doe", "john@example.com");
+    existingCustomer.setVersion(2L);
+    when(customerRepository.findById(uuid)).thenReturn(Optional.of(existingCustomer));
+
+    // When & Then
+    assertThatThrownBy(() -> customerService.patch(uuid.toString(), 1L,
+        c -> createTestCustomer(c.getFirstName(), "Patched", c.getEmail())))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThat(existingCustomer.getLastName()).isEqualTo("Doe");
+    verify(customerRepository, never()).flush();
+  }
+
   @Test
   void shouldValidateUpdateInput() {
     // When & Then
@@ -0,0 +1,242 @@
+package com.vazant.logix.orders.application.service.order;
+
+import com.vazant.logix.orders.application.service.common.CrudService;
+import com.vazant.logix.orders.domain.event.DomainEventPublisher;
+import com.vazant.logix.orders.domain.event.OrderStatusChangedEvent;
+import com.vazant.logix.orders.domain.order.Order;
+import com.vazant.logix.orders.domain.order.OrderStatus;
+import com.vazant.logix.orders.domain.order.OrderStatusConflictException;
+import com.vazant.logix.orders.dto.order.OrderStatusTransitionResponse;
+import com.vazant.logix.orders.dto.order.OrderStatusTransitionResult;
+import com.vazant.logix.orders.dto.order.OrderStatusView;
+import com.vazant.logix.orders.infrastructure.repository.customer.CustomerRepository;
+import com.vazant.logix.orders.infrastructure.repository.order.OrderRepository;
+import com.vazant.logix.orders.infrastructure.repository.product.ProductRepository;
+import jakarta.validation.Validator;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBusinessServiceTest {
+
+  @Mock
+  private CrudService<Order> orderCrudService;
+
+  @Mock
+  private OrderRepository orderRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private OrderBusinessService orderBusinessService;
+
+  @BeforeEach
+  void setUp() {
+    new DomainEventPublisher(eventPublisher);
+    orderBusinessService = new OrderBusinessService(orderCrudService,
+        mock(CustomerRepository.class), mock(ProductRepository.class), orderRepository,
+        mock(OrderCreationService.class), mock(Validator.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    new DomainEventPublisher(null);
+  }
+
+  @Test
+  void updateStatus_WithSingleSourceStatus_ShouldIssueOneConditionalUpdate() {
+    UUID uuid = UUID.randomUUID();
+    Order order = mock(Order.class);
+    when(orderRepository.compareAndSetStatus(
+        eq(List.of(uuid)), eq(Set.of(OrderStatus.CREATED)), eq(OrderStatus.PAID), any()))
+        .thenReturn(1);
+    when(orderCrudService.findByUuid(uuid.toString(), OrderRepository.FULL)).thenReturn(order);
+
+    Order result = orderBusinessService.updateStatus(uuid.toString(), OrderStatus.PAID);
+
+    assertThat(result).isSameAs(order);
+    verify(orderRepository, never()).findStatusByUuid(any());
+    assertThat(publishedEvents()).containsExactly(
+        new OrderStatusChangedEvent(uuid.toString(), OrderStatus.CREATED, OrderStatus.PAID, null));
+  }
+
+  @Test
+  void updateStatus_WhenRowMovedOn_ShouldReportConflictWithoutEvent() {
+    UUID uuid = UUID.randomUUID();
+    when(orderRepository.compareAndSetStatus(anyCollection(), anyCollection(), any(), any()))
+        .thenReturn(0);
+    when(orderRepository.findStatusByUuid(uuid)).thenReturn(Optional.of(OrderStatus.CANCELLED));
+
+    assertThatThrownBy(() -> orderBusinessService.updateStatus(uuid.toString(), OrderStatus.PAID))
+        .isInstanceOf(OrderStatusConflictException.class)
+        .hasMessageContaining("is CANCELLED and cannot transition to PAID");
+
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  void updateStatus_WhenOrderMissing_ShouldThrowNotFound() {
+    UUID uuid = UUID.randomUUID();
+    when(orderRepository.compareAndSetStatus(anyCollection(), anyCollection(), any(), any()))
+        .thenReturn(0);
+    when(orderRepository.findStatusByUuid(uuid)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> orderBusinessService.updateStatus(uuid.toString(), OrderStatus.PAID))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Order not found");
+  }
+
+  @Test
+  void updateStatus_WithSeveralSourceStatuses_ShouldPinObservedStatus() {
+    UUID uuid = UUID.randomUUID();
+    when(orderRepository.findStatusByUuid(uuid)).thenReturn(Optional.of(OrderStatus.PAID));
+    when(orderRepository.compareAndSetStatus(
+        eq(List.of(uuid)), eq(Set.of(OrderStatus.PAID)), eq(OrderStatus.CANCELLED), any()))
+        .thenReturn(1);
+
+    orderBusinessService.updateStatus(uuid.toString(), OrderStatus.CANCELLED);
+
+    assertThat(publishedEvents()).extracting(OrderStatusChangedEvent::previousStatus)
+        .containsExactly(OrderStatus.PAID);
+  }
+
+  @Test
+  void updateStatus_WithDisallowedObservedStatus_ShouldNotUpdate() {
+    UUID uuid = UUID.randomUUID();
+    when(orderRepository.findStatusByUuid(uuid)).thenReturn(Optional.of(OrderStatus.DELIVERED));
+
+    assertThatThrownBy(() ->
+        orderBusinessService.updateStatus(uuid.toString(), OrderStatus.CANCELLED))
+        .isInstanceOf(OrderStatusConflictException.class);
+
+    verify(orderRepository, never())
+        .compareAndSetStatus(anyCollection(), anyCollection(), any(), any());
+  }
+
+  @Test
+  void updateStatuses_WithSingleSourceStatus_ShouldIssueOneUpdateWithoutReading() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(orderRepository.compareAndSetStatus(
+        eq(List.of(first, second)), eq(Set.of(OrderStatus.CREATED)), eq(OrderStatus.PAID), any()))
+        .thenReturn(2);
+
+    OrderStatusTransitionResponse response =
+        orderBusinessService.updateStatuses(List.of(first, second, first), OrderStatus.PAID);
+
+    assertThat(response.transitioned()).isEqualTo(2);
+    assertThat(response.results()).extracting(OrderStatusTransitionResult::previousStatus)
+        .containsOnly(OrderStatus.CREATED);
+    verify(orderRepository, never()).findStatuses(anyCollection());
+    verify(orderRepository, never()).findStatusesNotSetAt(anyCollection(), any(), any());
+    assertThat(publishedEvents()).extracting(OrderStatusChangedEvent::orderUuid)
+        .containsExactly(first.toString(), second.toString());
+  }
+
+  @Test
+  void updateStatuses_WhenSomeOrdersDidNotMove_ShouldReadBackOnlyThose() {
+    UUID moved = UUID.randomUUID();
+    UUID cancelled = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    List<UUID> ids = List.of(moved, cancelled, missing);
+    when(orderRepository.compareAndSetStatus(
+        eq(ids), eq(Set.of(OrderStatus.CREATED)), eq(OrderStatus.PAID), any()))
+        .thenReturn(1);
+    when(orderRepository.findStatusesNotSetAt(eq(ids), eq(OrderStatus.PAID), any()))
+        .thenReturn(List.of(new OrderStatusView(cancelled, OrderStatus.CANCELLED)));
+    when(orderRepository.findStatuses(List.of(moved, missing)))
+        .thenReturn(List.of(new OrderStatusView(moved, OrderStatus.PAID)));
+
+    OrderStatusTransitionResponse response =
+        orderBusinessService.updateStatuses(ids, OrderStatus.PAID);
+
+    assertThat(response.transitioned()).isEqualTo(1);
+    assertThat(response.results()).containsExactly(
+        OrderStatusTransitionResult.transitioned(moved, OrderStatus.CREATED),
+        OrderStatusTransitionResult.rejected(
+            cancelled, OrderStatus.CANCELLED, "Cannot change status from CANCELLED to PAID"),
+        OrderStatusTransitionResult.rejected(missing, null, "Order not found"));
+    assertThat(publishedEvents()).extracting(OrderStatusChangedEvent::orderUuid)
+        .containsExactly(moved.toString());
+  }
+
+  @Test
+  void updateStatuses_WithSeveralSourceStatuses_ShouldPinObservedStatuses() {
+    UUID created1 = UUID.randomUUID();
+    UUID created2 = UUID.randomUUID();
+    UUID paid = UUID.randomUUID();
+    UUID delivered = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    List<UUID> ids = List.of(created1, paid, delivered, missing, created2, created1);
+    when(orderRepository.findStatuses(anyCollection())).thenReturn(List.of(
+        new OrderStatusView(created1, OrderStatus.CREATED),
+        new OrderStatusView(created2, OrderStatus.CREATED),
+        new OrderStatusView(paid, OrderStatus.PAID),
+        new OrderStatusView(delivered, OrderStatus.DELIVERED)));
+    when(orderRepository.compareAndSetStatus(
+        eq(List.of(created1, created2)), eq(Set.of(OrderStatus.CREATED)),
+        eq(OrderStatus.CANCELLED), any()))
+        .thenReturn(2);
+    when(orderRepository.compareAndSetStatus(
+        eq(List.of(paid)), eq(Set.of(OrderStatus.PAID)), eq(OrderStatus.CANCELLED), any()))
+        .thenReturn(1);
+
+    OrderStatusTransitionResponse response =
+        orderBusinessService.updateStatuses(ids, OrderStatus.CANCELLED);
+
+    assertThat(response.transitioned()).isEqualTo(3);
+    assertThat(response.rejected()).isEqualTo(2);
+    assertThat(response.results()).extracting(result -> result.orderUuid())
+        .containsExactly(created1, paid, delivered, missing, created2);
+    assertThat(response.results().get(1).previousStatus()).isEqualTo(OrderStatus.PAID);
+    assertThat(response.results().get(2).previousStatus()).isEqualTo(OrderStatus.DELIVERED);
+    assertThat(response.results().get(3).error()).isEqualTo("Order not found");
+    verify(orderRepository, times(1)).findStatuses(anyCollection());
+    verify(orderRepository, never()).findStatusesNotSetAt(anyCollection(), any(), any());
+    assertThat(publishedEvents()).extracting(OrderStatusChangedEvent::orderUuid)
+        .containsExactlyInAnyOrder(created1.toString(), created2.toString(), paid.toString());
+  }
+
+  @Test
+  void updateStatuses_WithTooManyOrders_ShouldThrow() {
+    List<UUID> ids = Collections.nCopies(
+        OrderBusinessService.MAX_BATCH_SIZE + 1, UUID.randomUUID());
+
+    assertThatThrownBy(() -> orderBusinessService.updateStatuses(ids, OrderStatus.PAID))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("exceeds the maximum");
+  }
+
+  private List<OrderStatusChangedEvent> publishedEvents() {
+    ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+    verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+    return events.getAllValues().stream()
+        .map(OrderStatusChangedEvent.class::cast)
+        .map(event -> new OrderStatusChangedEvent(
+            event.orderUuid(), event.previousStatus(), event.newStatus(), null))
+        .toList();
+  }
+}
@@ -0,0 +1,166 @@
+package com.vazant.logix.orders.application.service.order;
+
+import com.vazant.logix.orders.domain.customer.Customer;
+import com.vazant.logix.orders.domain.order.Item;
+import com.vazant.logix.orders.domain.order.Order;
+import com.vazant.logix.orders.domain.organization.Organization;
+import com.vazant.logix.orders.domain.product.Product;
+import com.vazant.logix.orders.dto.order.OrderItemRequest;
+import com.vazant.logix.orders.dto.order.OrderRequest;
+import com.vazant.logix.orders.dto.shared.MoneyRequest;
+import com.vazant.logix.orders.infrastructure.repository.customer.CustomerRepository;
+import com.vazant.logix.orders.infrastructure.repository.product.ProductRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCreationServiceTest {
+
+  private static final MoneyRequest PRICE = new MoneyRequest(BigDecimal.TEN, "USD");
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private ProductRepository productRepository;
+
+  private OrderCreationService orderCreationService;
+  private Organization organization;
+  private UUID customerUuid;
+  private Customer customer;
+
+  @BeforeEach
+  void setUp() {
+    orderCreationService = new OrderCreationService(customerRepository, productRepository);
+    organization = new Organization("Acme", "acme@example.com", "Main st. 1", "+100000000");
+    customerUuid = UUID.randomUUID();
+    customer = new Customer("John", "Doe", "john@example.com", "", "", "", "", "", "");
+  }
+
+  @Test
+  void shouldLoadAllProductsWithSingleQuery() {
+    // Given
+    when(customerRepository.findById(customerUuid)).thenReturn(Optional.of(customer));
+    Product first = product(UUID.randomUUID());
+    Product second = product(UUID.randomUUID());
+    when(productRepository.findAllById(anyIterable())).thenReturn(List.of(first, second));
+    OrderRequest request = request(List.of(
+        new OrderItemRequest(first.getUuid().toString(), 1, PRICE),
+        new OrderItemRequest(second.getUuid().toString(), 2, PRICE),
+        new OrderItemRequest(first.getUuid().toString(), 3, PRICE)));
+
+    // When
+    Order order = orderCreationService.createOrder(request, organization);
+
+    // Then
+    assertThat(order.getItems()).extracting(Item::getProduct).containsExactly(first, second, first);
+    verify(productRepository).findAllById(List.of(first.getUuid(), second.getUuid()));
+    verify(productRepository, never()).findById(any());
+  }
+
+  @Test
+  void shouldChunkLargeProductLookups() {
+    // Given
+    when(customerRepository.findById(customerUuid)).thenReturn(Optional.of(customer));
+    int count = OrderCreationService.LOOKUP_CHUNK_SIZE + 1;
+    List<Product> products = new ArrayList<>();
+    List<OrderItemRequest> items = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Product product = product(UUID.randomUUID());
+      products.add(product);
+      items.add(new OrderItemRequest(product.getUuid().toString(), 1, PRICE));
+    }
+    when(productRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+      Collection<?> ids = invocation.getArgument(0);
+      return products.stream().filter(p -> ids.contains(p.getUuid())).toList();
+    });
+
+    // When
+    Order order = orderCreationService.createOrder(request(items), organization);
+
+    // Then
+    assertThat(order.getItems()).hasSize(count);
+    verify(productRepository, times(2)).findAllById(anyIterable());
+  }
+
+  @Test
+  void shouldReportAllMissingProductsAtOnce() {
+    // Given
+    when(customerRepository.findById(customerUuid)).thenReturn(Optional.of(customer));
+    Product existing = product(UUID.randomUUID());
+    UUID missingFirst = UUID.randomUUID();
+    UUID missingSecond = UUID.randomUUID();
+    when(productRepository.findAllById(anyIterable())).thenReturn(List.of(existing));
+    OrderRequest request = request(List.of(
+        new OrderItemRequest(missingFirst.toString(), 1, PRICE),
+        new OrderItemRequest(existing.getUuid().toString(), 1, PRICE),
+        new OrderItemRequest(missingSecond.toString(), 1, PRICE)));
+
+    // When & Then
+    assertThatThrownBy(() -> orderCreationService.createOrder(request, organization))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Products not found with UUIDs: [" + missingFirst + ", " + missingSecond + "]");
+  }
+
+  @Test
+  void shouldBuildBatchWithBulkLookupsAndIsolateFailures() {
+    // Given
+    Product product = product(UUID.randomUUID());
+    UUID unknownCustomer = UUID.randomUUID();
+    UUID unknownProduct = UUID.randomUUID();
+    Customer knownCustomer = mock(Customer.class);
+    when(knownCustomer.getUuid()).thenReturn(customerUuid);
+    when(customerRepository.findAllById(anyIterable())).thenReturn(List.of(knownCustomer));
+    when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+    List<OrderItemRequest> validItems =
+        List.of(new OrderItemRequest(product.getUuid().toString(), 1, PRICE));
+    List<OrderRequest> requests = List.of(
+        request(validItems),
+        new OrderRequest(unknownCustomer.toString(), "warehouse-1", PRICE, null, validItems),
+        request(List.of(new OrderItemRequest(unknownProduct.toString(), 1, PRICE))),
+        new OrderRequest("not-a-uuid", "warehouse-1", PRICE, null, validItems));
+
+    // When
+    List<OrderCreationResult> results = orderCreationService.createOrders(requests, organization);
+
+    // Then
+    assertThat(results).hasSize(4);
+    assertThat(results.get(0).isSuccess()).isTrue();
+    assertThat(results.get(0).order().getItems()).extracting(Item::getProduct).containsExactly(product);
+    assertThat(results.get(1).error()).isEqualTo("Customer not found with UUID: " + unknownCustomer);
+    assertThat(results.get(2).error()).isEqualTo("Products not found with UUIDs: [" + unknownProduct + "]");
+    assertThat(results.get(3).error()).contains("Invalid UUID format");
+    verify(customerRepository, times(1)).findAllById(anyIterable());
+    verify(productRepository, times(1)).findAllById(anyIterable());
+    verify(customerRepository, never()).findById(any());
+  }
+
+  private OrderRequest request(List<OrderItemRequest> items) {
+    return new OrderRequest(customerUuid.toString(), "warehouse-1", PRICE, "Test order", items);
+  }
+
+  private Product product(UUID uuid) {
+    Product product = mock(Product.class);
+    when(product.getUuid()).thenReturn(uuid);
+    return product;
+  }
+}
@@ -0,0 +1,255 @@
+package com.vazant.logix.orders.infrastructure.kafka;
+
+import com.vazant.logix.orders.infrastructure.config.OrdersProperties;
+import com.vazant.logix.shared.kafka.config.KafkaTopics;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionBatchResponse;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionRequest;
+import com.vazant.logix.shared.kafka.dto.CurrencyConversionResponse;
+import com.vazant.logix.shared.kafka.dto.CurrencyRateSetMessage;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.requestreply.KafkaReplyTimeoutException;
+import org.springframework.kafka.requestreply.ReplyingKafkaTemplate;
+import org.springframework.kafka.requestreply.RequestReplyFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyConversionClientTest {
+
+  @Mock
+  private ReplyingKafkaTemplate<String, CurrencyConversionRequest, CurrencyConversionResponse>
+      replyingKafkaTemplate;
+
+  @Mock
+  private ReplyingKafkaTemplate<String, CurrencyConversionBatchRequest, CurrencyConversionBatchResponse>
+      batchReplyingKafkaTemplate;
+
+  private OrdersProperties properties;
+  private CurrencyRatesReplica ratesReplica;
+  private CurrencyConversionClient client;
+
+  @BeforeEach
+  void setUp() {
+    properties = new OrdersProperties();
+    properties.getCurrencyClient().setTimeoutMs(200);
+    ratesReplica = new CurrencyRatesReplica();
+    client = new CurrencyConversionClient(
+        replyingKafkaTemplate, batchReplyingKafkaTemplate, ratesReplica, properties);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldConvertAllInOneRoundTripAndKeepRequestOrder() {
+    List<CurrencyConversionRequest> conversions = List.of(
+        new CurrencyConversionRequest("USD", "PLN", BigDecimal.ONE),
+        new CurrencyConversionRequest("PLN", "USD", BigDecimal.TEN));
+    when(batchReplyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), any(Duration.class)))
+        .thenReturn(reply(new BigDecimal("3.9"), new BigDecimal("2.5")));
+
+    List<BigDecimal> results = client.convertAll(conversions);
+
+    assertThat(results).containsExactly(new BigDecimal("3.9"), new BigDecimal("2.5"));
+    ArgumentCaptor<ProducerRecord<String, CurrencyConversionBatchRequest>> records =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(batchReplyingKafkaTemplate).sendAndReceive(records.capture(), any(Duration.class));
+    assertThat(records.getValue().topic()).isEqualTo(KafkaTopics.CURRENCY_BATCH_REQUESTS);
+    assertThat(records.getValue().value().conversions()).isEqualTo(conversions);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSplitLargeInputsIntoBoundedBatches() {
+    int size = CurrencyConversionClient.MAX_BATCH_SIZE + 1;
+    List<CurrencyConversionRequest> conversions = IntStream.range(0, size)
+        .mapToObj(i -> new CurrencyConversionRequest("USD", "PLN", BigDecimal.valueOf(i)))
+        .toList();
+    when(batchReplyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), any(Duration.class)))
+        .thenReturn(reply(amounts(CurrencyConversionClient.MAX_BATCH_SIZE)), reply(BigDecimal.ONE));
+
+    List<BigDecimal> results = client.convertAll(conversions);
+
+    assertThat(results).hasSize(size);
+    verify(batchReplyingKafkaTemplate, times(2)).sendAndReceive(any(ProducerRecord.class), any(Duration.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReportTheFailedConversion() {
+    List<CurrencyConversionRequest> conversions = List.of(
+        new CurrencyConversionRequest("USD", "PLN", BigDecimal.ONE),
+        new CurrencyConversionRequest("USD", "XXX", BigDecimal.ONE));
+    RequestReplyFuture<String, CurrencyConversionBatchRequest, CurrencyConversionBatchResponse>
+        future = new RequestReplyFuture<>();
+    future.complete(new ConsumerRecord<>(KafkaTopics.CURRENCY_BATCH_REPLIES, 0, 0L, null,
+        new CurrencyConversionBatchResponse(List.of(
+            new CurrencyConversionBatchResponse.Result(BigDecimal.ONE, null),
+            new CurrencyConversionBatchResponse.Result(null, "Currency rate not found: XXX")),
+            1L)));
+    when(batchReplyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), any(Duration.class))).thenReturn(future);
+
+    assertThatThrownBy(() -> client.convertAll(conversions))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("#1 USD -> XXX")
+        .hasMessageContaining("Currency rate not found: XXX");
+  }
+
+  @Test
+  void shouldNotCallKafkaForEmptyInput() {
+    assertThat(client.convertAll(List.of())).isEmpty();
+    verify(batchReplyingKafkaTemplate, never()).sendAndReceive(any(ProducerRecord.class), any(Duration.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldCompleteAsyncConversionWithoutBlocking() {
+    RequestReplyFuture<String, CurrencyConversionRequest, CurrencyConversionResponse> pending =
+        new RequestReplyFuture<>();
+    when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), any(Duration.class)))
+        .thenReturn(pending);
+
+    CompletableFuture<BigDecimal> result = client.convertAsync("USD", "PLN", BigDecimal.TEN);
+
+    assertThat(result).isNotDone();
+    assertThat(client.metrics().inFlight()).isEqualTo(1);
+    pending.complete(new ConsumerRecord<>(KafkaTopics.CURRENCY_REPLIES, 0, 0L, null,
+        new CurrencyConversionResponse(new BigDecimal("39.0"), 1L)));
+    assertThat(result).isCompletedWithValue(new BigDecimal("39.0"));
+    CurrencyConversionMetrics.Snapshot metrics = client.metrics();
+    assertThat(metrics.inFlight()).isZero();
+    assertThat(metrics.successes()).isEqualTo(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldFailFastOnErrorReply() {
+    RequestReplyFuture<String, CurrencyConversionRequest, CurrencyConversionResponse> pending =
+        new RequestReplyFuture<>();
+    when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), any(Duration.class)))
+        .thenReturn(pending);
+
+    CompletableFuture<BigDecimal> result = client.convertAsync("USD", "XXX", BigDecimal.TEN);
+    pending.complete(new ConsumerRecord<>(KafkaTopics.CURRENCY_REPLIES, 0, 0L, null,
+        new CurrencyConversionResponse(null, null, "Currency rate not found: XXX")));
+
+    assertThat(result).failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(IllegalStateException.class)
+        .withMessageContaining("Currency rate not found: XXX");
+    assertThat(client.metrics().inFlight()).isZero();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReportReplyTimeoutAsTimeoutException() {
+    RequestReplyFuture<String, CurrencyConversionRequest, CurrencyConversionResponse> pending =
+        new RequestReplyFuture<>();
+    pending.completeExceptionally(new KafkaReplyTimeoutException("Reply timed out"));
+    when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), any(Duration.class)))
+        .thenReturn(pending);
+
+    CompletableFuture<BigDecimal> result = client.convertAsync("USD", "PLN", BigDecimal.TEN);
+
+    assertThat(result).failsWithin(Duration.ofSeconds(1))
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(TimeoutException.class);
+    assertThat(client.metrics().timeouts()).isEqualTo(1);
+    assertThat(client.metrics().inFlight()).isZero();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldRejectImmediatelyWhenInFlightLimitIsReached() {
+    properties.getCurrencyClient().setMaxInFlight(1);
+    client = new CurrencyConversionClient(
+        replyingKafkaTemplate, batchReplyingKafkaTemplate, ratesReplica, properties);
+    when(replyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), any(Duration.class)))
+        .thenReturn(new RequestReplyFuture<>());
+
+    CompletableFuture<BigDecimal> first = client.convertAsync("USD", "PLN", BigDecimal.ONE);
+    long started = System.nanoTime();
+    CompletableFuture<BigDecimal> second =
+        client.convertAsync("USD", "PLN", BigDecimal.ONE, Duration.ofSeconds(30));
+
+    assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+
+    assertThat(first).isNotDone();
+    assertThat(second).isCompletedExceptionally();
+    assertThatThrownBy(second::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    assertThat(client.metrics().rejections()).isEqualTo(1);
+    verify(replyingKafkaTemplate, times(1))
+        .sendAndReceive(any(ProducerRecord.class), any(Duration.class));
+  }
+
+  @Test
+  void shouldConvertFromLocalReplicaWithoutKafka() {
+    ratesReplica.onRateSet(new CurrencyRateSetMessage("USD",
+        Map.of("USD", BigDecimal.ONE, "PLN", new BigDecimal("4.0")), 1L, 4, "HALF_EVEN"));
+
+    CompletableFuture<BigDecimal> result = client.convertAsync("USD", "PLN", BigDecimal.TEN);
+
+    assertThat(result).isCompletedWithValue(new BigDecimal("40.0000"));
+    assertThat(client.metrics().localHits()).isEqualTo(1);
+    verifyNoInteractions(replyingKafkaTemplate);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSendOnlyConversionsUnknownToTheReplica() {
+    ratesReplica.onRateSet(new CurrencyRateSetMessage("USD",
+        Map.of("USD", BigDecimal.ONE, "PLN", new BigDecimal("4.0")), 1L, 4, "HALF_EVEN"));
+    List<CurrencyConversionRequest> conversions = List.of(
+        new CurrencyConversionRequest("USD", "PLN", BigDecimal.ONE),
+        new CurrencyConversionRequest("USD", "EUR", BigDecimal.ONE));
+    when(batchReplyingKafkaTemplate.sendAndReceive(any(ProducerRecord.class), any(Duration.class)))
+        .thenReturn(reply(new BigDecimal("0.9")));
+
+    List<BigDecimal> results = client.convertAll(conversions);
+
+    assertThat(results).containsExactly(new BigDecimal("4.0000"), new BigDecimal("0.9"));
+    ArgumentCaptor<ProducerRecord<String, CurrencyConversionBatchRequest>> records =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(batchReplyingKafkaTemplate).sendAndReceive(records.capture(), any(Duration.class));
+    assertThat(records.getValue().value().conversions()).containsExactly(conversions.get(1));
+  }
+
+  private static BigDecimal[] amounts(int count) {
+    return IntStream.range(0, count).mapToObj(BigDecimal::valueOf).toArray(BigDecimal[]::new);
+  }
+
+  private static RequestReplyFuture<String, CurrencyConversionBatchRequest, CurrencyConversionBatchResponse>
+      reply(BigDecimal... amounts) {
+    RequestReplyFuture<String, CurrencyConversionBatchRequest, CurrencyConversionBatchResponse>
+        future = new RequestReplyFuture<>();
+    List<CurrencyConversionBatchResponse.Result> results = Arrays.stream(amounts)
+        .map(amount -> new CurrencyConversionBatchResponse.Result(amount, null))
+        .toList();
+    future.complete(new ConsumerRecord<>(KafkaTopics.CURRENCY_BATCH_REPLIES, 0, 0L, null,
+        new CurrencyConversionBatchResponse(results, 1L)));
+    return future;
+  }
+}
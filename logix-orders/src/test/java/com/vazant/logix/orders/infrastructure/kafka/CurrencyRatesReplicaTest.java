@@ -0,0 +1,90 @@
+package com.vazant.logix.orders.infrastructure.kafka;
+
+import com.vazant.logix.shared.kafka.dto.CurrencyRateSetMessage;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrencyRatesReplicaTest {
+
+  private CurrencyRatesReplica replica;
+
+  @BeforeEach
+  void setUp() {
+    replica = new CurrencyRatesReplica();
+  }
+
+  @Test
+  void shouldNotConvertBeforeFirstRateSet() {
+    assertThat(replica.convert("USD", "PLN", BigDecimal.TEN)).isEmpty();
+    assertThat(replica.version()).isEmpty();
+  }
+
+  @Test
+  void shouldConvertWithPublishedScaleAndRounding() {
+    replica.onRateSet(rateSet(5L, "3.9457", "0.9211"));
+
+    assertThat(replica.convert("PLN", "EUR", new BigDecimal("100")))
+        .contains(new BigDecimal("23.34"));
+    assertThat(replica.convert("USD", "PLN", new BigDecimal("1")))
+        .contains(new BigDecimal("3.95"));
+    assertThat(replica.convert("usd", "USD", BigDecimal.TEN)).contains(BigDecimal.TEN);
+    assertThat(replica.version()).hasValue(5L);
+  }
+
+  @Test
+  void shouldLeaveUnknownCurrenciesToTheFallback() {
+    replica.onRateSet(rateSet(5L, "3.9457", "0.9211"));
+
+    assertThat(replica.convert("USD", "JPY", BigDecimal.TEN)).isEmpty();
+  }
+
+  @Test
+  void shouldIgnoreOlderRateSets() {
+    replica.onRateSet(rateSet(5L, "4.0", "0.9"));
+    replica.onRateSet(rateSet(3L, "3.0", "0.8"));
+    replica.onRateSet(null);
+
+    assertThat(replica.version()).hasValue(5L);
+    assertThat(replica.convert("USD", "PLN", BigDecimal.ONE)).contains(new BigDecimal("4.00"));
+  }
+
+  @Test
+  void shouldRoundOnlyOnceLikeTheCurrencyService() {
+    // 1.5 * 1 / 3 is exactly 0.5; rounding a 1/3 factor first would land just below it
+    replica.onRateSet(new CurrencyRateSetMessage("USD",
+        Map.of("USD", BigDecimal.ONE, "XTS", new BigDecimal("3")), 1L, 0, "HALF_UP"));
+
+    assertThat(replica.convert("XTS", "USD", new BigDecimal("1.5"))).contains(BigDecimal.ONE);
+  }
+
+  @Test
+  void shouldMatchMultiplyThenDivideForRandomRates() {
+    Random random = new Random(42);
+    RoundingMode[] modes = {RoundingMode.HALF_EVEN, RoundingMode.HALF_UP, RoundingMode.DOWN};
+    for (int i = 0; i < 2_000; i++) {
+      BigDecimal from = BigDecimal.valueOf(random.nextLong(1, 100_000_000L), random.nextInt(9));
+      BigDecimal to = BigDecimal.valueOf(random.nextLong(1, 100_000_000L), random.nextInt(9));
+      BigDecimal amount = BigDecimal.valueOf(random.nextLong(1_000_000_000L), random.nextInt(7));
+      int scale = random.nextInt(7);
+      RoundingMode mode = modes[random.nextInt(modes.length)];
+      replica.onRateSet(new CurrencyRateSetMessage("USD",
+          Map.of("USD", BigDecimal.ONE, "AAA", from, "BBB", to), i, scale, mode.name()));
+
+      assertThat(replica.convert("AAA", "BBB", amount))
+          .as("%s AAA at %s -> BBB at %s, scale %d %s", amount, from, to, scale, mode)
+          .contains(amount.multiply(to).divide(from, scale, mode));
+    }
+  }
+
+  private static CurrencyRateSetMessage rateSet(long version, String pln, String eur) {
+    return new CurrencyRateSetMessage("USD",
+        Map.of("USD", BigDecimal.ONE, "PLN", new BigDecimal(pln), "EUR", new BigDecimal(eur)),
+        version, 2, "HALF_EVEN");
+  }
+}
@@ -0,0 +1,43 @@
+package com.vazant.logix.orders.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vazant.logix.orders.domain.event.OrderStatusChangedEvent;
+import com.vazant.logix.orders.domain.order.OrderStatus;
+import com.vazant.logix.orders.domain.outbox.OutboxEvent;
+import com.vazant.logix.orders.infrastructure.repository.outbox.OutboxEventRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventOutboxWriterTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Test
+  void shouldStoreStatusChangeKeyedByOrder() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    OrderEventOutboxWriter writer = new OrderEventOutboxWriter(outboxEventRepository, objectMapper);
+    UUID orderUuid = UUID.randomUUID();
+    OrderStatusChangedEvent event =
+        new OrderStatusChangedEvent(orderUuid.toString(), OrderStatus.CREATED, OrderStatus.PAID);
+
+    writer.onStatusChanged(event);
+
+    ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(saved.capture());
+    assertThat(saved.getValue().getAggregateUuid()).isEqualTo(orderUuid);
+    assertThat(saved.getValue().getEventType()).isEqualTo("OrderStatusChangedEvent");
+    assertThat(saved.getValue().getSentAt()).isNull();
+    assertThat(objectMapper.readValue(saved.getValue().getPayload(), OrderStatusChangedEvent.class))
+        .isEqualTo(event);
+  }
+}
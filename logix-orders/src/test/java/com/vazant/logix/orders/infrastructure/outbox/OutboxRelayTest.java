@@ -0,0 +1,170 @@
+package com.vazant.logix.orders.infrastructure.outbox;
+
+import com.vazant.logix.orders.domain.outbox.OutboxEvent;
+import com.vazant.logix.orders.infrastructure.config.OrdersProperties;
+import com.vazant.logix.orders.infrastructure.repository.outbox.OutboxEventRepository;
+import com.vazant.logix.shared.kafka.config.KafkaTopics;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private KafkaTemplate<String, String> kafkaTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private OrdersProperties properties;
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    properties = new OrdersProperties();
+    properties.getOutbox().setBatchSize(3);
+    properties.getOutbox().setSendTimeoutMs(1000);
+    relay = new OutboxRelay(outboxEventRepository, kafkaTemplate,
+        new TransactionTemplate(transactionManager), properties);
+  }
+
+  @Test
+  void shouldPublishBatchKeyedByAggregateAndMarkItSent() {
+    List<OutboxEvent> batch = events(2);
+    when(outboxEventRepository.lockClaimable(any(), eq(Limit.of(3)))).thenReturn(batch);
+    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+
+    int sent = relay.relayBatch();
+
+    assertThat(sent).isEqualTo(2);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<ProducerRecord<String, String>> records =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate, times(2)).send(records.capture());
+    verify(kafkaTemplate).flush();
+    ProducerRecord<String, String> first = records.getAllValues().get(0);
+    assertThat(first.topic()).isEqualTo(KafkaTopics.ORDERS_EVENTS);
+    assertThat(first.key()).isEqualTo(batch.get(0).getAggregateUuid().toString());
+    assertThat(first.value()).isEqualTo(batch.get(0).getPayload());
+    assertThat(new String(first.headers().lastHeader(OutboxRelay.EVENT_TYPE_HEADER).value(),
+        StandardCharsets.UTF_8)).isEqualTo("OrderStatusChangedEvent");
+    verify(outboxEventRepository).claim(eq(uuids(batch)), any());
+    verify(outboxEventRepository).markSent(eq(uuids(batch)), any());
+    verify(outboxEventRepository, never()).release(any());
+  }
+
+  @Test
+  void shouldMarkOnlyEventsBeforeFirstFailure() {
+    List<OutboxEvent> batch = events(3);
+    when(outboxEventRepository.lockClaimable(any(), eq(Limit.of(3)))).thenReturn(batch);
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(acknowledged())
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+        .thenReturn(acknowledged());
+
+    int sent = relay.relayBatch();
+
+    assertThat(sent).isEqualTo(1);
+    verify(outboxEventRepository).markSent(eq(uuids(batch.subList(0, 1))), any());
+    verify(outboxEventRepository).release(uuids(batch.subList(1, 3)));
+  }
+
+  @Test
+  void shouldCommitClaimBeforePublishingAndCompleteInSeparateTransaction() {
+    List<OutboxEvent> batch = events(1);
+    when(outboxEventRepository.lockClaimable(any(), eq(Limit.of(3)))).thenReturn(batch);
+    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+
+    relay.relayBatch();
+
+    InOrder inOrder = inOrder(outboxEventRepository, transactionManager, kafkaTemplate);
+    inOrder.verify(outboxEventRepository).claim(eq(uuids(batch)), any());
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(kafkaTemplate).send(any(ProducerRecord.class));
+    inOrder.verify(outboxEventRepository).markSent(eq(uuids(batch)), any());
+    inOrder.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void shouldRejectClaimTimeoutNotExceedingSendTimeout() {
+    properties.getOutbox().setClaimTimeoutMs(1000);
+
+    assertThatThrownBy(() -> new OutboxRelay(outboxEventRepository, kafkaTemplate,
+        new TransactionTemplate(transactionManager), properties))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldNotPublishWhenOutboxIsEmpty() {
+    when(outboxEventRepository.lockClaimable(any(), eq(Limit.of(3)))).thenReturn(List.of());
+
+    relay.relayPending();
+
+    verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    verify(outboxEventRepository, never()).markSent(any(), any());
+  }
+
+  @Test
+  void shouldDrainFullBatchesUntilOutboxIsEmpty() {
+    when(outboxEventRepository.lockClaimable(any(), eq(Limit.of(3))))
+        .thenReturn(events(3))
+        .thenReturn(events(1));
+    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+
+    relay.relayPending();
+
+    verify(outboxEventRepository, times(2)).lockClaimable(any(), eq(Limit.of(3)));
+    verify(kafkaTemplate, times(4)).send(any(ProducerRecord.class));
+  }
+
+  private static List<OutboxEvent> events(int count) {
+    List<OutboxEvent> events = new ArrayList<>(count);
+    IntStream.range(0, count).forEach(i -> {
+      OutboxEvent event = new OutboxEvent(
+          UUID.randomUUID(), "OrderStatusChangedEvent", "{\"seq\":" + i + "}");
+      ReflectionTestUtils.setField(event, "uuid", UUID.randomUUID());
+      events.add(event);
+    });
+    return events;
+  }
+
+  private static Collection<UUID> uuids(List<OutboxEvent> events) {
+    return events.stream().map(OutboxEvent::getUuid).toList();
+  }
+
+  private static CompletableFuture<SendResult<String, String>> acknowledged() {
+    return CompletableFuture.completedFuture(new SendResult<>(null, null));
+  }
+}
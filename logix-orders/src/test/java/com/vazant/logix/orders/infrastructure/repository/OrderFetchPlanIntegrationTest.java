@@ -0,0 +1,127 @@
+package com.vazant.logix.orders.infrastructure.repository;
+
+import com.vazant.logix.orders.domain.customer.Customer;
+import com.vazant.logix.orders.domain.order.Item;
+import com.vazant.logix.orders.domain.order.Order;
+import com.vazant.logix.orders.domain.organization.Organization;
+import com.vazant.logix.orders.domain.product.Product;
+import com.vazant.logix.orders.domain.product.ProductBuilder;
+import com.vazant.logix.orders.domain.shared.Currency;
+import com.vazant.logix.orders.domain.shared.Money;
+import com.vazant.logix.orders.infrastructure.config.JpaConfig;
+import com.vazant.logix.orders.infrastructure.repository.common.FetchPlan;
+import com.vazant.logix.orders.infrastructure.repository.order.OrderRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class OrderFetchPlanIntegrationTest {
+
+  private static final int ITEM_COUNT = 3;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private Statistics statistics;
+  private UUID orderUuid;
+
+  @BeforeEach
+  void setUp() {
+    Customer customer = new Customer("John", "Doe", "john@example.com",
+        "+1234567890", "123 Main St", "New York", "NY", "10001", "USA");
+    Organization organization =
+        new Organization("Test Org", "org@example.com", "Address", "+1234567890");
+    entityManager.persist(customer);
+    entityManager.persist(organization);
+
+    Order order = new Order(customer, organization, "warehouse-1",
+        new Money(BigDecimal.valueOf(30), Currency.USD), "Fetch plan order");
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      Product product = ProductBuilder.product()
+          .name("Product " + i)
+          .prices(null)
+          .description("Description " + i)
+          .skuCode("SKU-" + i)
+          .dimensions(null)
+          .stockQuantity(10)
+          .categoryId(UUID.randomUUID())
+          .imageId(null)
+          .organization(organization)
+          .build();
+      entityManager.persist(product);
+      order.addItem(product, 1, new Money(BigDecimal.TEN, Currency.USD));
+    }
+    entityManager.persist(order);
+    entityManager.flush();
+    entityManager.clear();
+
+    orderUuid = order.getUuid();
+    statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void summaryPlan_ShouldLoadCustomerAndOrganizationInOneStatement() {
+    Order order = load(OrderRepository.SUMMARY);
+
+    assertThat(order.getCustomer().getEmail()).isEqualTo("john@example.com");
+    assertThat(order.getOrganization().getName()).isEqualTo("Test Org");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void withItemsPlan_ShouldLoadItemsInOneStatement() {
+    Order order = load(OrderRepository.WITH_ITEMS);
+
+    assertThat(order.getItems()).hasSize(ITEM_COUNT);
+    assertThat(order.getItems()).allSatisfy(item -> assertThat(item.getQuantity()).isEqualTo(1));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void fullPlan_ShouldLoadWholeAggregateInOneStatement() {
+    Order order = load(OrderRepository.FULL);
+
+    assertThat(order.getCustomer().getEmail()).isEqualTo("john@example.com");
+    assertThat(order.getOrganization().getName()).isEqualTo("Test Org");
+    assertThat(order.getItems())
+        .extracting(item -> item.getProduct().getName())
+        .containsExactlyInAnyOrder("Product 0", "Product 1", "Product 2");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void noPlan_ShouldLoadAssociationsLazily() {
+    Order order = load(FetchPlan.NONE);
+
+    order.getCustomer().getEmail();
+    for (Item item : order.getItems()) {
+      item.getProduct().getName();
+    }
+
+    // order + customer + items + one product per item
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3 + ITEM_COUNT);
+  }
+
+  private Order load(FetchPlan plan) {
+    return orderRepository.findByUuid(orderUuid, plan).orElseThrow();
+  }
+}
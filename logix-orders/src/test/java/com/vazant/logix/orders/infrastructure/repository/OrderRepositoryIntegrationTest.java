@@ -6,6 +6,7 @@ import com.vazant.logix.orders.domain.order.OrderStatus;
 import com.vazant.logix.orders.domain.organization.Organization;
 import com.vazant.logix.orders.domain.shared.Currency;
 import com.vazant.logix.orders.domain.shared.Money;
+import com.vazant.logix.orders.dto.order.OrderSummary;
 import com.vazant.logix.orders.infrastructure.repository.customer.CustomerRepository;
 import com.vazant.logix.orders.infrastructure.repository.order.OrderRepository;
 import com.vazant.logix.orders.infrastructure.repository.organization.OrganizationRepository;
@@ -14,12 +15,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+import static com.vazant.logix.orders.application.service.common.PageCursor.START;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -80,18 +83,21 @@ class OrderRepositoryIntegrationTest {
   @Test
   void shouldFindByCustomerUuid() {
     // When
-    List<Order> found = orderRepository.findByCustomerUuid(customer1.getUuid());
+    List<OrderSummary> found = orderRepository.findSummariesByCustomerUuid(
+        customer1.getUuid(), START.createdAt(), START.uuid(), Limit.of(10));
 
     // Then
     assertThat(found).hasSize(2);
-    assertThat(found).allMatch(o -> o.getCustomer().getUuid().equals(customer1.getUuid()));
-    assertThat(found).extracting("description").containsExactlyInAnyOrder("Test order 1", "Test order 2");
+    assertThat(found).allMatch(o -> o.customerUuid().equals(customer1.getUuid()));
+    assertThat(found).extracting(OrderSummary::warehouseId)
+        .containsExactlyInAnyOrder("warehouse-1", "warehouse-2");
   }
 
   @Test
   void shouldReturnEmptyListWhenCustomerNotFound() {
     // When
-    List<Order> found = orderRepository.findByCustomerUuid(UUID.randomUUID());
+    List<OrderSummary> found = orderRepository.findSummariesByCustomerUuid(
+        UUID.randomUUID(), START.createdAt(), START.uuid(), Limit.of(10));
 
     // Then
     assertThat(found).isEmpty();
@@ -104,29 +110,33 @@ class OrderRepositoryIntegrationTest {
     orderRepository.save(order1);
 
     // When
-    List<Order> found = orderRepository.findByStatus(OrderStatus.PROCESSING);
+    List<OrderSummary> found = orderRepository.findSummariesByStatus(
+        OrderStatus.PROCESSING, START.createdAt(), START.uuid(), Limit.of(10));
 
     // Then
     assertThat(found).hasSize(1);
-    assertThat(found.get(0).getStatus()).isEqualTo(OrderStatus.PROCESSING);
-    assertThat(found.get(0).getDescription()).isEqualTo("Test order 1");
+    assertThat(found.get(0).status()).isEqualTo(OrderStatus.PROCESSING);
+    assertThat(found.get(0).uuid()).isEqualTo(order1.getUuid());
   }
 
   @Test
   void shouldFindByOrganizationUuid() {
     // When
-    List<Order> found = orderRepository.findByOrganizationUuid(organization1.getUuid());
+    List<OrderSummary> found = orderRepository.findSummariesByOrganizationUuid(
+        organization1.getUuid(), START.createdAt(), START.uuid(), Limit.of(10));
 
     // Then
     assertThat(found).hasSize(2);
-    assertThat(found).allMatch(o -> o.getOrganization().getUuid().equals(organization1.getUuid()));
-    assertThat(found).extracting("description").containsExactlyInAnyOrder("Test order 1", "Test order 2");
+    assertThat(found).allMatch(o -> o.organizationUuid().equals(organization1.getUuid()));
+    assertThat(found).extracting(OrderSummary::warehouseId)
+        .containsExactlyInAnyOrder("warehouse-1", "warehouse-2");
   }
 
   @Test
   void shouldReturnEmptyListWhenOrganizationNotFound() {
     // When
-    List<Order> found = orderRepository.findByOrganizationUuid(UUID.randomUUID());
+    List<OrderSummary> found = orderRepository.findSummariesByOrganizationUuid(
+        UUID.randomUUID(), START.createdAt(), START.uuid(), Limit.of(10));
 
     // Then
     assertThat(found).isEmpty();
@@ -256,9 +266,12 @@ class OrderRepositoryIntegrationTest {
     orderRepository.saveAll(List.of(order1, order2, order3));
 
     // When
-    List<Order> processingOrders = orderRepository.findByStatus(OrderStatus.PROCESSING);
-    List<Order> shippedOrders = orderRepository.findByStatus(OrderStatus.SHIPPED);
-    List<Order> deliveredOrders = orderRepository.findByStatus(OrderStatus.DELIVERED);
+    List<OrderSummary> processingOrders = orderRepository.findSummariesByStatus(
+        OrderStatus.PROCESSING, START.createdAt(), START.uuid(), Limit.of(10));
+    List<OrderSummary> shippedOrders = orderRepository.findSummariesByStatus(
+        OrderStatus.SHIPPED, START.createdAt(), START.uuid(), Limit.of(10));
+    List<OrderSummary> deliveredOrders = orderRepository.findSummariesByStatus(
+        OrderStatus.DELIVERED, START.createdAt(), START.uuid(), Limit.of(10));
 
     // Then
     assertThat(processingOrders).hasSize(1);
@@ -1,21 +1,21 @@
 package com.vazant.logix.orders.infrastructure.utils;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class UuidUtilsTest {
 
-  @BeforeEach
-  void setUp() {
-    // Clear cache before each test
-    UuidUtils.clearCache();
-  }
-
   @Test
   void shouldParseValidUuid() {
     // Given
@@ -69,7 +69,8 @@ class UuidUtilsTest {
   }
 
   @Test
-  void shouldUseCacheForRepeatedParsing() {
+  @SuppressWarnings("deprecation")
+  void shouldParseRepeatedlyWithoutCaching() {
     // Given
     String uuidString = "550e8400-e29b-41d4-a716-446655440000";
 
@@ -79,7 +80,25 @@ class UuidUtilsTest {
 
     // Then
     assertThat(first).isEqualTo(second);
-    assertThat(UuidUtils.getCacheSize()).isEqualTo(1);
+    assertThat(UuidUtils.getCacheSize()).isZero();
+  }
+
+  @Test
+  void shouldParseSameValuesAsJdk() {
+    for (int i = 0; i < 1000; i++) {
+      UUID expected = UUID.randomUUID();
+      assertThat(UuidUtils.parse(expected.toString())).isEqualTo(expected);
+      assertThat(UuidUtils.parse(expected.toString().toUpperCase())).isEqualTo(expected);
+      assertThat(UuidUtils.parseCompact(UuidUtils.toCompactString(expected))).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void shouldRejectMisplacedDashesAndNonAsciiDigits() {
+    assertThat(UuidUtils.isValidUuid("550e8400e-29b-41d4-a716-446655440000")).isFalse();
+    assertThat(UuidUtils.isValidUuid("550e8400-e29b-41d4-a716-44665544000٣")).isFalse();
+    assertThat(UuidUtils.isValidUuid("+50e8400-e29b-41d4-a716-446655440000")).isFalse();
+    assertThat(UuidUtils.isValidUuid(" 550e8400-e29b-41d4-a716-446655440000 ")).isTrue();
   }
 
   @Test
@@ -223,6 +242,86 @@ class UuidUtilsTest {
     assertThat(UuidUtils.isValidUuid(result.toString())).isTrue();
   }
 
+  @Test
+  void shouldGenerateTimeOrderedUuidV7() {
+    // Given
+    long before = System.currentTimeMillis();
+
+    // When
+    UUID result = UuidUtils.generateTimeOrdered();
+
+    // Then
+    assertThat(result.version()).isEqualTo(7);
+    assertThat(result.variant()).isEqualTo(2);
+    assertThat(UuidUtils.getTimestampMillis(result))
+        .isBetween(before, System.currentTimeMillis() + 100);
+  }
+
+  @Test
+  void shouldGenerateMonotonicUuidsWithinSameMillisecond() {
+    // Given
+    long millis = System.currentTimeMillis();
+    UUID previous = UuidUtils.generateTimeOrdered(millis);
+
+    // When & Then - more values than the 12-bit counter holds
+    for (int i = 0; i < 5000; i++) {
+      UUID next = UuidUtils.generateTimeOrdered(millis);
+      assertThat(next.toString()).isGreaterThan(previous.toString());
+      assertThat(next.version()).isEqualTo(7);
+      previous = next;
+    }
+  }
+
+  @Test
+  void shouldNotGoBackwardsWhenClockMovesBack() {
+    // Given
+    long millis = System.currentTimeMillis();
+    UUID first = UuidUtils.generateTimeOrdered(millis);
+
+    // When
+    UUID second = UuidUtils.generateTimeOrdered(millis - 10);
+
+    // Then
+    assertThat(second.toString()).isGreaterThan(first.toString());
+  }
+
+  @Test
+  void shouldGenerateUniqueUuidsConcurrently() throws Exception {
+    // Given
+    int threads = 8;
+    int perThread = 10_000;
+    Set<UUID> generated = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    // When
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < perThread; i++) {
+            generated.add(UuidUtils.generateTimeOrdered());
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // Then
+    assertThat(generated).hasSize(threads * perThread);
+  }
+
+  @Test
+  void shouldRejectTimestampExtractionForNonV7Uuid() {
+    // When & Then
+    assertThatThrownBy(() -> UuidUtils.getTimestampMillis(UUID.randomUUID()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("UUID must be version 7");
+  }
+
   @Test
   void shouldGenerateDeterministicUuidFromName() {
     // Given
@@ -314,44 +413,24 @@ class UuidUtilsTest {
   }
 
   @Test
-  void shouldClearCache() {
-    // Given
-    String uuidString = "550e8400-e29b-41d4-a716-446655440000";
-    UuidUtils.parse(uuidString);
-
-    // When
-    UuidUtils.clearCache();
-
-    // Then
-    assertThat(UuidUtils.getCacheSize()).isEqualTo(0);
-  }
-
-  @Test
-  void shouldGetCacheSize() {
-    // Given
-    String uuid1 = "550e8400-e29b-41d4-a716-446655440000";
-    String uuid2 = "550e8400-e29b-41d4-a716-446655440001";
-
-    // When
-    UuidUtils.parse(uuid1);
-    UuidUtils.parse(uuid2);
-
-    // Then
-    assertThat(UuidUtils.getCacheSize()).isEqualTo(2);
+  void shouldRejectCompactStringWithInvalidCharacters() {
+    // When & Then
+    assertThatThrownBy(() -> UuidUtils.parseCompact("550e8400e29b41d4a71644665544000z"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid compact UUID format: 550e8400e29b41d4a71644665544000z");
   }
 
   @Test
-  void shouldHandleCacheLimit() {
-    // Given - generate more UUIDs than cache limit
-    int cacheLimit = 1000;
-    
+  @SuppressWarnings("deprecation")
+  void shouldNotRetainParsedUuids() {
     // When - parse many different UUIDs
-    for (int i = 0; i < cacheLimit + 10; i++) {
+    for (int i = 0; i < 1010; i++) {
       String uuidString = "550e8400-e29b-41d4-a716-" + String.format("%012d", i);
       UuidUtils.parse(uuidString);
     }
+    UuidUtils.clearCache();
 
-    // Then - cache should not exceed limit
-    assertThat(UuidUtils.getCacheSize()).isLessThanOrEqualTo(cacheLimit);
+    // Then - parsing is allocation-free apart from the result and keeps no cache
+    assertThat(UuidUtils.getCacheSize()).isZero();
   }
-} 
\ No newline at end of file
+}
@@ -2,11 +2,13 @@ package com.vazant.logix.orders.presentation.controller.common;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vazant.logix.orders.application.service.common.CrudService;
+import com.vazant.logix.orders.application.service.common.CursorPage;
 import com.vazant.logix.orders.domain.common.BaseEntity;
 import com.vazant.logix.orders.domain.common.Updatable;
 import com.vazant.logix.orders.presentation.exception.GlobalExceptionHandler;
 import com.vazant.logix.orders.presentation.exception.ValidationExceptionHandler;
 import com.vazant.logix.orders.presentation.validation.ValidUuid;
+import jakarta.persistence.ManyToOne;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
@@ -17,14 +19,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -55,6 +62,7 @@ class BaseControllerTest {
         validUuid = UUID.randomUUID().toString();
         testEntity = new TestEntity();
         testEntity.setName("Test Entity");
+        testEntity.setCode("T-1");
         testEntity.setUpdatedAt(LocalDateTime.now());
     }
 
@@ -62,16 +70,16 @@ class BaseControllerTest {
     void getAll_ShouldReturnAllEntities() throws Exception {
         // Given
         List<TestEntity> entities = List.of(testEntity);
-        when(crudService.findAll()).thenReturn(entities);
+        when(crudService.findPage(null, null)).thenReturn(new CursorPage<>(entities, null, false));
 
         // When & Then
         mockMvc.perform(get("/test"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].uuid").value(validUuid))
-                .andExpect(jsonPath("$[0].name").value("Test Entity"));
+                .andExpect(jsonPath("$.items[0].uuid").value(validUuid))
+                .andExpect(jsonPath("$.items[0].name").value("Test Entity"));
 
-        verify(crudService).findAll();
+        verify(crudService).findPage(null, null);
     }
 
     @Test
@@ -158,6 +166,80 @@ class BaseControllerTest {
         verify(crudService, never()).update(anyString(), any(TestEntity.class));
     }
 
+    @Test
+    void patch_WithMergePatch_ShouldApplyOnlyPresentFields() throws Exception {
+        // Given
+        stubPatch(3L);
+
+        // When & Then
+        mockMvc.perform(patch("/test/{uuid}", validUuid)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\":\"Patched\",\"version\":3}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Patched"))
+                .andExpect(jsonPath("$.code").value("T-1"));
+
+        verify(crudService).patch(eq(validUuid), eq(3L), any(UnaryOperator.class));
+    }
+
+    @Test
+    void patch_WithInvalidResult_ShouldReturnBadRequestAndKeepEntity() throws Exception {
+        // Given
+        stubPatch(null);
+
+        // When & Then
+        mockMvc.perform(patch("/test/{uuid}", validUuid)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(testEntity.getName()).isEqualTo("Test Entity");
+    }
+
+    @Test
+    void patch_WithAssociationField_ShouldReturnBadRequest() throws Exception {
+        // Given
+        stubPatch(null);
+
+        // When & Then
+        mockMvc.perform(patch("/test/{uuid}", validUuid)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parent\":{\"name\":\"Other\"}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("association")));
+
+        assertThat(testEntity.getParent()).isNull();
+    }
+
+    @Test
+    void patch_WithNonPatchableField_ShouldReturnBadRequestWithReason() throws Exception {
+        // Given
+        stubPatch(null);
+
+        // When & Then
+        mockMvc.perform(patch("/test/{uuid}", validUuid)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"T-2\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("use the code endpoint")));
+
+        assertThat(testEntity.getCode()).isEqualTo("T-1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void patch_WithStaleVersion_ShouldReturnConflict() throws Exception {
+        // Given
+        when(crudService.patch(eq(validUuid), eq(1L), any(UnaryOperator.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(TestEntity.class, validUuid));
+
+        // When & Then
+        mockMvc.perform(patch("/test/{uuid}", validUuid)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Patched\",\"version\":1}"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void delete_WithValidUuid_ShouldReturnNoContent() throws Exception {
         // Given
@@ -214,6 +296,16 @@ class BaseControllerTest {
         verify(crudService).count();
     }
 
+    @SuppressWarnings("unchecked")
+    private void stubPatch(Long expectedVersion) {
+        when(crudService.patch(eq(validUuid), eq(expectedVersion), any(UnaryOperator.class)))
+                .thenAnswer(invocation -> {
+                    UnaryOperator<TestEntity> changes = invocation.getArgument(2);
+                    testEntity.updateFrom(changes.apply(testEntity));
+                    return testEntity;
+                });
+    }
+
     // Test controller implementation
     @RestController
     @RequestMapping("/test")
@@ -223,6 +315,11 @@ class BaseControllerTest {
         public TestBaseController(CrudService<TestEntity> crudService) {
             super(crudService);
         }
+
+        @Override
+        protected Map<String, String> getNonPatchableFields() {
+            return Map.of("code", "use the code endpoint");
+        }
     }
 
     // Test entity implementation
@@ -233,9 +330,16 @@ class BaseControllerTest {
         @NotBlank(message = "Name is required")
         private String name;
 
+        private String code;
+
+        @ManyToOne
+        private TestEntity parent;
+
         @Override
         public void doUpdate(TestEntity source) {
             this.name = source.getName();
+            this.code = source.getCode();
+            this.parent = source.getParent();
         }
     }
 } 
\ No newline at end of file
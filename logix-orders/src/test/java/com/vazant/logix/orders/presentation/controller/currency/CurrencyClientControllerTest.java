@@ -0,0 +1,47 @@
+package com.vazant.logix.orders.presentation.controller.currency;
+
+import com.vazant.logix.orders.infrastructure.kafka.CurrencyConversionClient;
+import com.vazant.logix.orders.infrastructure.kafka.CurrencyConversionMetrics;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyClientControllerTest {
+
+  @Mock
+  private CurrencyConversionClient currencyConversionClient;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .standaloneSetup(new CurrencyClientController(currencyConversionClient))
+        .build();
+  }
+
+  @Test
+  void shouldServeClientMetrics() throws Exception {
+    when(currencyConversionClient.metrics()).thenReturn(new CurrencyConversionMetrics.Snapshot(
+        40, 12, 9, 1, 2, 3, 4, Duration.ofMillis(15), Duration.ofMillis(80)));
+
+    mockMvc.perform(get("/api/currency-client/stats"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.localHits").value(40))
+        .andExpect(jsonPath("$.requests").value(12))
+        .andExpect(jsonPath("$.timeouts").value(2))
+        .andExpect(jsonPath("$.rejections").value(3))
+        .andExpect(jsonPath("$.inFlight").value(4));
+  }
+}
@@ -2,6 +2,7 @@ package com.vazant.logix.orders.presentation.controller.customer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vazant.logix.orders.application.service.common.CrudService;
+import com.vazant.logix.orders.application.service.common.CursorPage;
 import com.vazant.logix.orders.application.service.customer.CustomerService;
 import com.vazant.logix.orders.domain.customer.Customer;
 import com.vazant.logix.orders.domain.customer.CustomerBuilder;
@@ -63,18 +64,18 @@ class CustomerControllerTest {
     void getAll_ShouldReturnAllCustomers() throws Exception {
         // Given
         List<Customer> customers = List.of(testCustomer);
-        when(customerService.findAll()).thenReturn(customers);
+        when(customerService.findPage(null, null)).thenReturn(new CursorPage<>(customers, null, false));
 
         // When & Then
         mockMvc.perform(get("/customers"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].uuid").value(validUuid))
-                .andExpect(jsonPath("$[0].firstName").value("John"))
-                .andExpect(jsonPath("$[0].lastName").value("Doe"))
-                .andExpect(jsonPath("$[0].email").value("john.doe@example.com"));
+                .andExpect(jsonPath("$.items[0].uuid").value(validUuid))
+                .andExpect(jsonPath("$.items[0].firstName").value("John"))
+                .andExpect(jsonPath("$.items[0].lastName").value("Doe"))
+                .andExpect(jsonPath("$.items[0].email").value("john.doe@example.com"));
 
-        verify(customerService).findAll();
+        verify(customerService).findPage(null, null);
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.vazant.logix.orders.presentation.controller.media;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vazant.logix.orders.application.service.common.CrudService;
+import com.vazant.logix.orders.application.service.common.CursorPage;
 import com.vazant.logix.orders.application.service.media.ImageService;
 import com.vazant.logix.orders.domain.media.Image;
 import com.vazant.logix.orders.domain.media.ImageBuilder;
@@ -57,17 +58,17 @@ class ImageControllerTest {
     void getAll_ShouldReturnAllImages() throws Exception {
         // Given
         List<Image> images = List.of(testImage);
-        when(imageService.findAll()).thenReturn(images);
+        when(imageService.findPage(null, null)).thenReturn(new CursorPage<>(images, null, false));
 
         // When & Then
         mockMvc.perform(get("/api/images"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].uuid").value(validUuid))
-                .andExpect(jsonPath("$[0].url").value("https://example.com/image.jpg"))
-                .andExpect(jsonPath("$[0].altText").value("Test image alt text"));
+                .andExpect(jsonPath("$.items[0].uuid").value(validUuid))
+                .andExpect(jsonPath("$.items[0].url").value("https://example.com/image.jpg"))
+                .andExpect(jsonPath("$.items[0].altText").value("Test image alt text"));
 
-        verify(imageService).findAll();
+        verify(imageService).findPage(null, null);
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.vazant.logix.orders.presentation.controller.order;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vazant.logix.orders.application.service.common.CrudService;
+import com.vazant.logix.orders.application.service.common.CursorPage;
 import com.vazant.logix.orders.application.service.order.OrderBusinessService;
 import com.vazant.logix.orders.application.service.order.OrderService;
 import com.vazant.logix.orders.domain.customer.Customer;
@@ -9,13 +10,20 @@ import com.vazant.logix.orders.domain.customer.CustomerBuilder;
 import com.vazant.logix.orders.domain.order.Order;
 import com.vazant.logix.orders.domain.order.OrderBuilder;
 import com.vazant.logix.orders.domain.order.OrderStatus;
+import com.vazant.logix.orders.domain.order.OrderStatusConflictException;
 import com.vazant.logix.orders.domain.organization.Organization;
 import com.vazant.logix.orders.domain.organization.OrganizationBuilder;
 import com.vazant.logix.orders.domain.shared.Currency;
 import com.vazant.logix.orders.domain.shared.Money;
 import com.vazant.logix.orders.domain.shared.MoneyBuilder;
+import com.vazant.logix.orders.dto.order.OrderBatchResponse;
+import com.vazant.logix.orders.dto.order.OrderBatchResult;
+import com.vazant.logix.orders.dto.order.OrderDetail;
 import com.vazant.logix.orders.dto.order.OrderItemRequest;
 import com.vazant.logix.orders.dto.order.OrderRequest;
+import com.vazant.logix.orders.dto.order.OrderStatusTransitionResponse;
+import com.vazant.logix.orders.dto.order.OrderStatusTransitionResult;
+import com.vazant.logix.orders.dto.order.OrderSummary;
 import com.vazant.logix.orders.dto.shared.MoneyRequest;
 import com.vazant.logix.orders.infrastructure.repository.organization.OrganizationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,7 +40,9 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -64,6 +74,7 @@ class OrderControllerTest {
     private OrderRequest testOrderRequest;
     private String validUuid;
     private Customer testCustomer;
+    private OrderSummary testSummary;
 
     @BeforeEach
     void setUp() {
@@ -96,6 +107,9 @@ class OrderControllerTest {
                 .description("Test order")
                 .build();
         // uuid, createdAt, updatedAt можно мокать через сервис, если нужно
+        testSummary = new OrderSummary(UUID.fromString(validUuid), OrderStatus.PENDING, UUID.randomUUID(),
+                "John Doe", UUID.randomUUID(), "warehouse-123", new java.math.BigDecimal("100.00"),
+                Currency.USD, 1, LocalDateTime.now(), LocalDateTime.now());
 
         testOrderRequest = new OrderRequest(
                 "customer-uuid",
@@ -114,16 +128,16 @@ class OrderControllerTest {
     void getAll_ShouldReturnAllOrders() throws Exception {
         // Given
         List<Order> orders = List.of(testOrder);
-        when(orderService.findAll()).thenReturn(orders);
+        when(orderService.findPage(null, null)).thenReturn(new CursorPage<>(orders, null, false));
 
         // When & Then
         mockMvc.perform(get("/api/orders"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].uuid").value(validUuid))
-                .andExpect(jsonPath("$[0].status").value("PENDING"));
+                .andExpect(jsonPath("$.items[0].uuid").value(validUuid))
+                .andExpect(jsonPath("$.items[0].status").value("PENDING"));
 
-        verify(orderService).findAll();
+        verify(orderService).findPage(null, null);
     }
 
     @Test
@@ -189,6 +203,59 @@ class OrderControllerTest {
         verify(orderBusinessService, never()).createOrder(any(OrderRequest.class), any(Organization.class));
     }
 
+    @Test
+    void createOrders_WithJsonArray_ShouldReturnPerRecordResults() throws Exception {
+        // Given
+        UUID createdUuid = UUID.randomUUID();
+        when(organizationRepository.findAll()).thenReturn(List.of(testOrganization));
+        when(orderBusinessService.createOrders(anyList(), any(Organization.class)))
+                .thenReturn(OrderBatchResponse.of(List.of(
+                        OrderBatchResult.created(0, createdUuid),
+                        OrderBatchResult.rejected(1, "Customer not found with UUID: customer-uuid"))));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(testOrderRequest, testOrderRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].orderUuid").value(createdUuid.toString()))
+                .andExpect(jsonPath("$.results[1].error").value("Customer not found with UUID: customer-uuid"));
+
+        verify(orderBusinessService).createOrders(
+                eq(List.of(testOrderRequest, testOrderRequest)), eq(testOrganization));
+    }
+
+    @Test
+    void createOrders_WithNdjsonStream_ShouldParseEachLine() throws Exception {
+        // Given
+        when(organizationRepository.findAll()).thenReturn(List.of(testOrganization));
+        when(orderBusinessService.createOrders(anyList(), any(Organization.class)))
+                .thenReturn(OrderBatchResponse.of(List.of()));
+        String line = objectMapper.writeValueAsString(testOrderRequest);
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(line + "\n" + line + "\n"))
+                .andExpect(status().isOk());
+
+        verify(orderBusinessService).createOrders(
+                eq(List.of(testOrderRequest, testOrderRequest)), eq(testOrganization));
+    }
+
+    @Test
+    void createOrders_WithMalformedNdjson_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"customerUuid\": \n"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderBusinessService, never()).createOrders(anyList(), any(Organization.class));
+    }
+
     @Test
     void updateStatus_WithValidData_ShouldReturnUpdatedOrder() throws Exception {
         // Given
@@ -226,20 +293,79 @@ class OrderControllerTest {
         verify(orderBusinessService, never()).updateStatus(anyString(), any(OrderStatus.class));
     }
 
+    @Test
+    void updateStatus_WhenOrderMovedOn_ShouldReturnConflict() throws Exception {
+        // Given
+        when(orderBusinessService.updateStatus(validUuid, OrderStatus.PAID))
+                .thenThrow(new OrderStatusConflictException(
+                        UUID.fromString(validUuid), OrderStatus.CANCELLED, OrderStatus.PAID));
+
+        // When & Then
+        mockMvc.perform(put("/api/orders/{uuid}/status", validUuid)
+                        .param("status", "PAID"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    void updateStatuses_WithOrderList_ShouldReturnPerOrderResults() throws Exception {
+        // Given
+        UUID moved = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+        when(orderBusinessService.updateStatuses(List.of(moved, rejected), OrderStatus.CANCELLED))
+                .thenReturn(OrderStatusTransitionResponse.of(OrderStatus.CANCELLED, List.of(
+                        OrderStatusTransitionResult.transitioned(moved, OrderStatus.PAID),
+                        OrderStatusTransitionResult.rejected(
+                                rejected, OrderStatus.DELIVERED, "Cannot change status"))));
+
+        // When & Then
+        mockMvc.perform(put("/api/orders/status")
+                        .param("status", "CANCELLED")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(moved, rejected))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transitioned").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].previousStatus").value("PAID"))
+                .andExpect(jsonPath("$.results[1].error").value("Cannot change status"));
+
+        verify(orderBusinessService).updateStatuses(List.of(moved, rejected), OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void getDetails_WithValidUuid_ShouldReturnProjection() throws Exception {
+        // Given
+        OrderDetail detail = new OrderDetail(UUID.fromString(validUuid), OrderStatus.PENDING,
+                UUID.randomUUID(), "John Doe", "john.doe@example.com", UUID.randomUUID(),
+                "warehouse-123", "Test order", new java.math.BigDecimal("100.00"), Currency.USD,
+                LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now());
+        when(orderBusinessService.findDetails(validUuid)).thenReturn(detail);
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/{uuid}/details", validUuid))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.uuid").value(validUuid))
+                .andExpect(jsonPath("$.customerName").value("John Doe"))
+                .andExpect(jsonPath("$.items").isEmpty());
+
+        verify(orderBusinessService).findDetails(validUuid);
+    }
+
     @Test
     void findByCustomer_WithValidCustomerId_ShouldReturnOrders() throws Exception {
         // Given
         String customerId = UUID.randomUUID().toString();
-        List<Order> orders = List.of(testOrder);
-        when(orderBusinessService.findByCustomer(customerId)).thenReturn(orders);
+        List<OrderSummary> orders = List.of(testSummary);
+        when(orderBusinessService.findByCustomer(customerId, null, null))
+                .thenReturn(new CursorPage<>(orders, null, false));
 
         // When & Then
         mockMvc.perform(get("/api/orders/customer/{customerId}", customerId))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].uuid").value(validUuid));
+                .andExpect(jsonPath("$.items[0].uuid").value(validUuid));
 
-        verify(orderBusinessService).findByCustomer(customerId);
+        verify(orderBusinessService).findByCustomer(customerId, null, null);
     }
 
     @Test
@@ -248,23 +374,24 @@ class OrderControllerTest {
         mockMvc.perform(get("/api/orders/customer/{customerId}", "invalid-uuid"))
                 .andExpect(status().isBadRequest());
 
-        verify(orderBusinessService, never()).findByCustomer(anyString());
+        verify(orderBusinessService, never()).findByCustomer(anyString(), any(), any());
     }
 
     @Test
     void findByStatus_WithValidStatus_ShouldReturnOrders() throws Exception {
         // Given
-        List<Order> orders = List.of(testOrder);
-        when(orderBusinessService.findByStatus(OrderStatus.PENDING)).thenReturn(orders);
+        List<OrderSummary> orders = List.of(testSummary);
+        when(orderBusinessService.findByStatus(OrderStatus.PENDING, null, null))
+                .thenReturn(new CursorPage<>(orders, null, false));
 
         // When & Then
         mockMvc.perform(get("/api/orders/status/{status}", "PENDING"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].uuid").value(validUuid))
-                .andExpect(jsonPath("$[0].status").value("PENDING"));
+                .andExpect(jsonPath("$.items[0].uuid").value(validUuid))
+                .andExpect(jsonPath("$.items[0].status").value("PENDING"));
 
-        verify(orderBusinessService).findByStatus(OrderStatus.PENDING);
+        verify(orderBusinessService).findByStatus(OrderStatus.PENDING, null, null);
     }
 
     @Test
@@ -273,23 +400,24 @@ class OrderControllerTest {
         mockMvc.perform(get("/api/orders/status/{status}", "INVALID_STATUS"))
                 .andExpect(status().isBadRequest());
 
-        verify(orderBusinessService, never()).findByStatus(any(OrderStatus.class));
+        verify(orderBusinessService, never()).findByStatus(any(OrderStatus.class), any(), any());
     }
 
     @Test
     void findByOrganization_WithValidOrganizationId_ShouldReturnOrders() throws Exception {
         // Given
         String organizationId = UUID.randomUUID().toString();
-        List<Order> orders = List.of(testOrder);
-        when(orderBusinessService.findByOrganization(organizationId)).thenReturn(orders);
+        List<OrderSummary> orders = List.of(testSummary);
+        when(orderBusinessService.findByOrganization(organizationId, null, null))
+                .thenReturn(new CursorPage<>(orders, null, false));
 
         // When & Then
         mockMvc.perform(get("/api/orders/organization/{organizationId}", organizationId))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].uuid").value(validUuid));
+                .andExpect(jsonPath("$.items[0].uuid").value(validUuid));
 
-        verify(orderBusinessService).findByOrganization(organizationId);
+        verify(orderBusinessService).findByOrganization(organizationId, null, null);
     }
 
     @Test
@@ -298,7 +426,7 @@ class OrderControllerTest {
         mockMvc.perform(get("/api/orders/organization/{organizationId}", "invalid-uuid"))
                 .andExpect(status().isBadRequest());
 
-        verify(orderBusinessService, never()).findByOrganization(anyString());
+        verify(orderBusinessService, never()).findByOrganization(anyString(), any(), any());
     }
 
     @Test
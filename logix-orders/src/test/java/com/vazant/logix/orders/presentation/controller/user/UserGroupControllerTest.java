@@ -2,6 +2,7 @@ package com.vazant.logix.orders.presentation.controller.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vazant.logix.orders.application.service.common.CrudService;
+import com.vazant.logix.orders.application.service.common.CursorPage;
 import com.vazant.logix.orders.application.service.user.UserGroupService;
 import com.vazant.logix.orders.domain.user.UserGroup;
 import com.vazant.logix.orders.domain.user.UserGroupBuilder;
@@ -74,17 +75,17 @@ class UserGroupControllerTest {
     void getAll_ShouldReturnAllUserGroups() throws Exception {
         // Given
         List<UserGroup> userGroups = List.of(testUserGroup);
-        when(userGroupService.findAll()).thenReturn(userGroups);
+        when(userGroupService.findPage(null, null)).thenReturn(new CursorPage<>(userGroups, null, false));
 
         // When & Then
         mockMvc.perform(get("/api/groups"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].uuid").value(validUuid))
-                .andExpect(jsonPath("$[0].name").value("Administrators"))
-                .andExpect(jsonPath("$[0].description").value("System administrators group"));
+                .andExpect(jsonPath("$.items[0].uuid").value(validUuid))
+                .andExpect(jsonPath("$.items[0].name").value("Administrators"))
+                .andExpect(jsonPath("$.items[0].description").value("System administrators group"));
 
-        verify(userGroupService).findAll();
+        verify(userGroupService).findPage(null, null);
     }
 
     @Test